@@ -0,0 +1,114 @@
+package com.lets.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.mockito.Mockito;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.ReflectionUtils;
+
+import com.lets.domain.user.UserRepository;
+import com.lets.security.JwtAuthentication;
+import com.lets.security.JwtTokenProvider;
+import com.lets.security.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청 하나의 access token 인증 비용
+ * twoParses 는 이전 필터처럼 validateToken, getAuthenticationFromJWT 에서 서명을 두번 확인하고,
+ * oneParse 는 서명을 한번만 확인하고, cached 는 확인한 토큰 캐시에서 클레임을 꺼낸다.
+ * 애플리케이션을 띄우지 않고 JwtTokenProvider 만 만들어서 측정한다. (액세스 토큰 인증은 유저를 조회하지 않음)
+ * ./gradlew jmh -Pjmh.includes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+  private static final String JWT_SECRET = "bGV0cy1iZW5jaG1hcmstand0LXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25pbmc=";
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    jwtTokenProvider = new JwtTokenProvider(Mockito.mock(UserRepository.class), new SimpleMeterRegistry());
+    setField("jwtSecret", JWT_SECRET);
+    setField("accessTokenExpirationInMs", TimeUnit.HOURS.toMillis(1));
+    setField("refreshTokenExpirationInMs", TimeUnit.DAYS.toMillis(14));
+    setField("cacheMaximumSize", 10_000L);
+
+    //@PostConstruct 로 만드는 토큰 캐시
+    Method init = ReflectionUtils.findMethod(JwtTokenProvider.class, "init");
+    ReflectionUtils.makeAccessible(init);
+    ReflectionUtils.invokeMethod(init, jwtTokenProvider);
+
+    UserPrincipal principal = UserPrincipal.create(1L, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    token = jwtTokenProvider.generateAccessToken(new JwtAuthentication(principal));
+  }
+
+  @Benchmark
+  public Authentication twoParses() {
+    Jwts
+        .parser()
+        .setSigningKey(JWT_SECRET)
+        .parseClaimsJws(token);
+    return authentication(parse());
+  }
+
+  @Benchmark
+  public Authentication oneParse() {
+    return authentication(parse());
+  }
+
+  @Benchmark
+  public Authentication cached() {
+    return jwtTokenProvider.getAuthentication(jwtTokenProvider
+                                                  .parseToken(token)
+                                                  .orElseThrow());
+  }
+
+  private Claims parse() {
+    return Jwts
+        .parser()
+        .setSigningKey(JWT_SECRET)
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  private Authentication authentication(Claims claims) {
+    UserPrincipal principal = UserPrincipal.create(
+        Long.parseLong(claims.getSubject()),
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+    );
+    return new JwtAuthentication(principal);
+  }
+
+  private void setField(
+      String name,
+      Object value
+  ) {
+    Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, jwtTokenProvider, value);
+  }
+}
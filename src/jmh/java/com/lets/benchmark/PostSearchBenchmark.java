@@ -0,0 +1,148 @@
+package com.lets.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.lets.SpringprojApplication;
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.postTechStack.PostTechStack;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.tag.Tag;
+import com.lets.domain.tag.TagRepository;
+import com.lets.domain.user.User;
+import com.lets.domain.user.UserRepository;
+import com.lets.security.AuthProvider;
+import com.lets.service.post.PostSearchIndex;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+/**
+ * 글 검색 인덱스와 QueryDSL 검색 비교
+ * 두 방식 모두 글 id 페이지를 구한 뒤 글(작성자 포함)을 조회하는 데까지 측정한다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSearchBenchmark {
+  private static final String[] TAG_NAMES = {
+      "spring", "java", "python", "react", "vue", "node", "django", "kotlin", "swift", "go"
+  };
+
+  @Param({"1000", "10000"})
+  private int postCount;
+
+  @Param({"ANY", "ALL"})
+  private TagMatch match;
+
+  private ConfigurableApplicationContext context;
+  private PostRepository postRepository;
+  private PostTechStackRepository postTechStackRepository;
+  private PostSearchIndex postSearchIndex;
+
+  private PostSearchRequestDto search;
+  private Pageable pageable;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    context = new SpringApplicationBuilder(SpringprojApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.jpa.properties.hibernate.show_sql=false",
+            "logging.level.org.hibernate.SQL=warn",
+            "logging.level.org.hibernate.type=warn",
+            "spring.sql.init.mode=never",
+            "app.postIndex.enabled=true",
+            "app.postIndex.rebuildDelayInMs=3600000",
+            "app.feedCache.enabled=false"
+        )
+        .run();
+
+    postRepository = context.getBean(PostRepository.class);
+    postTechStackRepository = context.getBean(PostTechStackRepository.class);
+    postSearchIndex = context.getBean(PostSearchIndex.class);
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    TagRepository tagRepository = context.getBean(TagRepository.class);
+
+    List<Tag> tags = new ArrayList<>();
+    for (String name : TAG_NAMES) {
+      tags.add(tagRepository
+                   .findByName(name)
+                   .orElseGet(() -> tagRepository.save(Tag.createTag(name))));
+    }
+
+    Random random = new Random(42);
+    User user = userRepository.save(User.createUser("benchmark", "benchmark", AuthProvider.google, "default"));
+    List<Post> posts = new ArrayList<>();
+    List<PostTechStack> postTechStacks = new ArrayList<>();
+    for (int i = 0; i < postCount; i++) {
+      Post post = Post.createPost(user, "title" + i, "content" + i);
+      if (random.nextInt(4) == 0) {
+        post.changeStatus();
+      }
+      posts.add(post);
+      int tagCount = 1 + random.nextInt(3);
+      for (int j = 0; j < tagCount; j++) {
+        postTechStacks.add(PostTechStack.createPostTechStack(tags.get(random.nextInt(tags.size())), post));
+      }
+    }
+    postRepository.saveAll(posts);
+    postTechStackRepository.saveAll(postTechStacks);
+
+    postSearchIndex.rebuild();
+
+    search = new PostSearchRequestDto("RECRUITING", List.of("spring", "java"), match);
+    pageable = PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdDate"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Post> queryDsl() {
+    return postTechStackRepository.findPosts(search, pageable);
+  }
+
+  @Benchmark
+  public List<Post> index() {
+    List<Long> ids = postSearchIndex
+        .search(search, null, pageable)
+        .orElseThrow();
+    return postRepository.findAllWithUserByIdIn(ids);
+  }
+
+  @Benchmark
+  public List<Long> indexOnly() {
+    return postSearchIndex
+        .search(search, null, pageable)
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,118 @@
+package com.lets.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.lets.domain.post.PostStatus;
+import com.lets.service.post.PostTextIndex;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+/**
+ * 키워드 검색 인덱스 검색 시간
+ * DB 없이 임의로 만든 한글 글을 인덱스에 직접 넣고 글 id 페이지를 구하는 데까지 측정한다.
+ * ./gradlew jmh -Pjmh.includes=PostTextSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class PostTextSearchBenchmark {
+  private static final String[] WORDS = {
+      "스프링", "자바", "스터디", "프로젝트", "모집", "백엔드", "프론트엔드", "리액트", "알고리즘", "코딩테스트",
+      "온라인", "오프라인", "주말", "평일", "초보", "환영", "팀원", "구합니다", "포트폴리오", "사이드"
+  };
+  private static final String[] TAG_NAMES = {
+      "spring", "java", "python", "react", "vue", "node", "django", "kotlin", "swift", "go"
+  };
+
+  @Param({"100000", "1000000"})
+  private int postCount;
+
+  @Param({"스프링", "스프링 스터디 모집"})
+  private String keyword;
+
+  private PostTextIndex postTextIndex;
+
+  private PostSearchRequestDto noFilter;
+  private PostSearchRequestDto tagFilter;
+  private Pageable pageable;
+
+  @Setup(Level.Trial)
+  public void setup() throws ReflectiveOperationException {
+    postTextIndex = new PostTextIndex(null, null);
+    setField("enabled", true);
+    setField("ready", true);
+
+    Random random = new Random(42);
+    for (int i = 1; i <= postCount; i++) {
+      PostStatus status = random.nextInt(4) == 0 ? PostStatus.COMPLETE : PostStatus.RECRUITING;
+      postTextIndex.put(
+          i,
+          sentence(random, 3),
+          sentence(random, 30),
+          status,
+          List.of(TAG_NAMES[random.nextInt(TAG_NAMES.length)], TAG_NAMES[random.nextInt(TAG_NAMES.length)])
+      );
+    }
+
+    noFilter = new PostSearchRequestDto(null, null, null);
+    tagFilter = new PostSearchRequestDto("RECRUITING", List.of("spring", "java"), TagMatch.ANY);
+    pageable = PageRequest.of(0, 20);
+  }
+
+  @Benchmark
+  public List<Long> search() {
+    return postTextIndex
+        .search(keyword, noFilter, pageable)
+        .orElseThrow();
+  }
+
+  @Benchmark
+  public List<Long> searchWithFilter() {
+    return postTextIndex
+        .search(keyword, tagFilter, pageable)
+        .orElseThrow();
+  }
+
+  private String sentence(
+      Random random,
+      int wordCount
+  ) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < wordCount; i++) {
+      sentence
+          .append(WORDS[random.nextInt(WORDS.length)])
+          .append(' ');
+    }
+    return sentence.toString();
+  }
+
+  private void setField(
+      String name,
+      boolean value
+  ) throws ReflectiveOperationException {
+    Field field = PostTextIndex.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.setBoolean(postTextIndex, value);
+  }
+}
@@ -0,0 +1,65 @@
+package com.lets.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lets.service.suggestion.PrefixDictionary;
+
+/**
+ * 자동완성 사전 조회 시간
+ * SampleTime 모드로 p99 를 함께 확인한다. 접두어가 짧을수록 범위가 넓어진다.
+ * ./gradlew jmh -Pjmh.includes=SuggestionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SuggestionBenchmark {
+  private static final String[] WORDS = {
+      "스프링", "자바", "스터디", "프로젝트", "모집", "백엔드", "프론트엔드", "리액트", "알고리즘", "코딩테스트",
+      "spring", "java", "react", "study", "project"
+  };
+
+  @Param({"100000", "1000000"})
+  private int titleCount;
+
+  @Param({"스", "스프링 스", "spring study pro"})
+  private String prefix;
+
+  private PrefixDictionary dictionary;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    List<PrefixDictionary.Entry> entries = new ArrayList<>();
+    for (int i = 1; i <= titleCount; i++) {
+      String title = WORDS[random.nextInt(WORDS.length)] + " "
+          + WORDS[random.nextInt(WORDS.length)] + " "
+          + WORDS[random.nextInt(WORDS.length)] + " " + i;
+      entries.add(new PrefixDictionary.Entry(i, title, random.nextInt(10_000)));
+    }
+    dictionary = new PrefixDictionary(entries);
+  }
+
+  @Benchmark
+  public List<PrefixDictionary.Entry> top10() {
+    return dictionary.top(PrefixDictionary.normalize(prefix), 10, id -> false);
+  }
+}
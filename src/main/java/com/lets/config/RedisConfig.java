@@ -0,0 +1,25 @@
+package com.lets.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.lets.security.RefreshTokenNearCache;
+
+@Configuration
+public class RedisConfig {
+  //다른 서버에서 지우거나 교체한 refresh token 을 받아 캐시에 반영
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      RefreshTokenNearCache refreshTokenNearCache
+  ) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(refreshTokenNearCache, new ChannelTopic(RefreshTokenNearCache.REVOKED_CHANNEL));
+    container.addMessageListener(refreshTokenNearCache, new ChannelTopic(RefreshTokenNearCache.INVALIDATED_CHANNEL));
+    return container;
+  }
+}
@@ -12,10 +12,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lets.security.JwtAuthenticationFilter;
 import com.lets.security.JwtTokenProvider;
+import com.lets.security.RefreshTokenStore;
 import com.lets.security.RestAuthenticationEntryPoint;
-import com.lets.service.user.UserService;
 import com.lets.util.CookieUtil;
-import com.lets.util.RedisUtil;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,10 +25,9 @@ import lombok.RequiredArgsConstructor;
 @Configuration
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
   private final ObjectMapper objectMapper;
-  private final UserService userService;
   private final JwtTokenProvider jwtTokenProvider;
   private final CookieUtil cookieUtil;
-  private final RedisUtil redisUtil;
+  private final RefreshTokenStore refreshTokenStore;
 
   @Override
   protected void configure(HttpSecurity http) throws Exception {
@@ -81,10 +79,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     // Add our custom Token based authentication filter
     http.addFilterBefore(new JwtAuthenticationFilter(
         objectMapper,
-        userService,
         jwtTokenProvider,
         cookieUtil,
-        redisUtil
+        refreshTokenStore
     ), UsernamePasswordAuthenticationFilter.class);
 
   }
@@ -1,9 +1,12 @@
 package com.lets.domain.comment;
 
 import java.util.List;
+import java.util.Map;
 
 import com.lets.web.dto.comment.CommentSearchRequestDto;
 
 public interface CommentCustomRepository {
   List<Comment> findComments(CommentSearchRequestDto search);
+
+  Map<Long, Long> countByPostIds(List<Long> postIds);
 }
@@ -3,13 +3,18 @@ package com.lets.domain.comment;
 import static com.lets.domain.comment.QComment.*;
 import static com.lets.domain.user.QUser.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
 import com.lets.domain.post.Post;
 import com.lets.web.dto.comment.CommentSearchRequestDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +35,32 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
         .fetch();
   }
 
+  /**
+   * 여러 글의 댓글 수를 group by 쿼리 한번으로 조회한다.
+   * 댓글이 없는 글은 결과에 포함되지 않는다.
+   */
+  @Override
+  public Map<Long, Long> countByPostIds(List<Long> postIds) {
+    Map<Long, Long> counts = new HashMap<>();
+    if (postIds == null || postIds.isEmpty()) {
+      return counts;
+    }
+
+    NumberPath<Long> postId = comment.post.id;
+    NumberExpression<Long> count = comment.count();
+    List<Tuple> tuples = jpaQueryFactory
+        .select(postId, count)
+        .from(comment)
+        .where(postId.in(postIds))
+        .groupBy(postId)
+        .fetch();
+
+    for (Tuple tuple : tuples) {
+      counts.put(tuple.get(postId), tuple.get(count));
+    }
+    return counts;
+  }
+
   private BooleanExpression eqPost(Post post) {
     if (post == null) {
       return null;
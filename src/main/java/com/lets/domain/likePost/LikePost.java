@@ -10,6 +10,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import com.lets.domain.BaseTimeEntity;
 import com.lets.domain.post.Post;
@@ -22,6 +24,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(name = "like_post", uniqueConstraints = {
+    //유저, 글마다 좋아요 정보는 하나뿐이고 (유저, 글)로 조회할 때 인덱스로 사용
+    @UniqueConstraint(name = "uk_like_post_user_post", columnNames = {"user_id", "post_id"})
+})
 public class LikePost extends BaseTimeEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,28 +58,6 @@ public class LikePost extends BaseTimeEntity {
       User user,
       Post post
   ) {
-    LikePost likePost = new LikePost(user, post);
-    post.addView();
-    return likePost;
-  }
-
-  public void changeLikeStatus() {
-    if (this.getStatus() == LikePostStatus.ACTIVE) {
-      deactivateLike();
-    } else {
-      activateLike();
-    }
-  }
-
-  //==좋아요 메서드==//
-  private void activateLike() {
-    this.status = LikePostStatus.ACTIVE;
-    post.addLike();
-  }
-
-  //==좋아요 취소 메서드==//
-  private void deactivateLike() {
-    this.status = LikePostStatus.INACTIVE;
-    post.minusLike();
+    return new LikePost(user, post);
   }
 }
@@ -1,11 +1,15 @@
 package com.lets.domain.likePost;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,9 +28,52 @@ public interface LikePostRepository extends JpaRepository<LikePost, Long> {
   @Query("delete from LikePost l where l.post in (:posts)")
   void deleteAllByPost(@Param("posts") List<Post> posts);
 
-  @Query("select l from LikePost l join fetch l.post")
+  @Query("select l from LikePost l join fetch l.post where l.user.id = :userId and l.post.id = :postId")
   Optional<LikePost> findByUserIdAndPostId(
-      Long userId,
-      Long postId
+      @Param("userId") Long userId,
+      @Param("postId") Long postId
+  );
+
+  //잠금 읽기로 조회해서 조회하는 트랜잭션이 시작된 뒤에 다른 트랜잭션이 저장한 좋아요 정보도 읽음
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select l from LikePost l join fetch l.post where l.user.id = :userId and l.post.id = :postId")
+  Optional<LikePost> findForUpdateByUserIdAndPostId(
+      @Param("userId") Long userId,
+      @Param("postId") Long postId
+  );
+
+  @Query("select l.post.id from LikePost l where l.user.id = :userId and l.post.id in (:postIds) and l.status = :status")
+  List<Long> findPostIdsByUserIdAndStatus(
+      @Param("userId") Long userId,
+      @Param("postIds") Collection<Long> postIds,
+      @Param("status") LikePostStatus status
+  );
+
+  //현재 상태가 from 일 때만 to 로 바꿔서 동시에 같은 상태 변경이 두 번 반영되지 않도록 함
+  @Modifying
+  @Transactional
+  @Query("update LikePost l set l.status = :to, l.modifiedDate = CURRENT_TIMESTAMP where l.id = :id and l.status = :from")
+  int changeStatus(
+      @Param("id") Long id,
+      @Param("from") LikePostStatus from,
+      @Param("to") LikePostStatus to
+  );
+
+  @Query("select l.status from LikePost l where l.id = :id")
+  LikePostStatus findStatusById(@Param("id") Long id);
+
+  @Query("select l.id from LikePost l where l.status = :status and l.id > :lastId order by l.id")
+  List<Long> findIdsByStatus(
+      @Param("status") LikePostStatus status,
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Modifying
+  @Transactional
+  @Query("delete from LikePost l where l.id in (:ids) and l.status = :status")
+  int deleteAllByIdInAndStatus(
+      @Param("ids") List<Long> ids,
+      @Param("status") LikePostStatus status
   );
 }
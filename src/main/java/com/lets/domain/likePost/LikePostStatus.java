@@ -2,5 +2,14 @@ package com.lets.domain.likePost;
 
 public enum LikePostStatus {
   ACTIVE,
-  INACTIVE
+  INACTIVE;
+
+  public LikePostStatus toggle() {
+    return this == ACTIVE ? INACTIVE : ACTIVE;
+  }
+
+  //이 상태로 바뀔 때 글의 좋아요 수에 더할 값
+  public long likeCountDelta() {
+    return this == ACTIVE ? 1 : -1;
+  }
 }
@@ -11,12 +11,16 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.lets.domain.BaseTimeEntity;
 import com.lets.domain.comment.Comment;
 import com.lets.domain.user.User;
@@ -27,6 +31,11 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_post_status_created_date", columnList = "status, created_date, post_id"),
+    @Index(name = "idx_post_status_view_count", columnList = "status, view_count, post_id")
+})
+@DynamicUpdate
 @Entity
 public class Post extends BaseTimeEntity {
   @Id
@@ -38,6 +47,13 @@ public class Post extends BaseTimeEntity {
 
   private long viewCount;
 
+  /**
+   * 댓글 수
+   * 조회 시 매번 댓글을 세지 않도록 저장해두고 댓글 저장/삭제 시 PostRepository 의 update 쿼리로 증감한다.
+   * 엔티티를 통해 변경하지 않으므로 @DynamicUpdate 로 다른 필드 변경 시 덮어쓰지 않게 한다.
+   */
+  private long commentCount;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
@@ -65,6 +81,7 @@ public class Post extends BaseTimeEntity {
     this.content = content;
     this.likeCount = 0L;
     this.viewCount = 0L;
+    this.commentCount = 0L;
     status = PostStatus.RECRUITING;
   }
 
@@ -0,0 +1,10 @@
+package com.lets.domain.post;
+
+/**
+ * 댓글 수 보정에 사용하는 (글 id, 저장된 댓글 수) 프로젝션
+ */
+public interface PostCommentCount {
+  Long getId();
+
+  long getCommentCount();
+}
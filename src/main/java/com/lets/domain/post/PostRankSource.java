@@ -0,0 +1,20 @@
+package com.lets.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관심 태그 추천 글 인덱스에 사용하는 (글 id, 작성자 id, 모집 상태, 작성일, 조회수, 좋아요 수) 프로젝션
+ */
+public interface PostRankSource {
+  Long getId();
+
+  Long getUserId();
+
+  PostStatus getStatus();
+
+  LocalDateTime getCreatedDate();
+
+  long getViewCount();
+
+  long getLikeCount();
+}
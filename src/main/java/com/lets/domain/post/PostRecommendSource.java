@@ -0,0 +1,14 @@
+package com.lets.domain.post;
+
+/**
+ * 추천 글 인덱스에 사용하는 (글 id, 제목, 모집 상태, 작성자 id) 프로젝션
+ */
+public interface PostRecommendSource {
+  Long getId();
+
+  String getTitle();
+
+  PostStatus getStatus();
+
+  Long getUserId();
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -24,4 +25,88 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
   @Query("select p from Post p join fetch p.user where p.id = :postId")
   Optional<Post> findOneById(@Param("postId") Long postId);
+
+  @Query("select p from Post p join fetch p.user where p.id in (:ids)")
+  List<Post> findAllWithUserByIdIn(@Param("ids") List<Long> ids);
+
+  @Query("select p.id as id, p.title as title, p.viewCount as viewCount from Post p where p.id > :lastId order by p.id")
+  List<PostTitle> findTitles(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Query("select p.id as id, p.title as title, p.viewCount as viewCount from Post p where p.id = :postId")
+  Optional<PostTitle> findTitleById(@Param("postId") Long postId);
+
+  @Query("select p.id as id, p.title as title, p.status as status, p.user.id as userId from Post p where p.id > :lastId order by p.id")
+  List<PostRecommendSource> findRecommendSources(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Query("select p.id as id, p.title as title, p.status as status, p.user.id as userId from Post p where p.id = :postId")
+  Optional<PostRecommendSource> findRecommendSourceById(@Param("postId") Long postId);
+
+  @Query("select p.id as id, p.status as status, p.createdDate as createdDate, p.viewCount as viewCount from Post p "
+      + "where p.id > :lastId order by p.id")
+  List<PostSearchSource> findSearchSources(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Query("select p.id as id, p.status as status, p.createdDate as createdDate, p.viewCount as viewCount from Post p "
+      + "where p.id = :postId")
+  Optional<PostSearchSource> findSearchSourceById(@Param("postId") Long postId);
+
+  @Query("select p.id as id, p.user.id as userId, p.status as status, p.createdDate as createdDate, "
+      + "p.viewCount as viewCount, p.likeCount as likeCount from Post p where p.id > :lastId order by p.id")
+  List<PostRankSource> findRankSources(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Query("select p.id as id, p.user.id as userId, p.status as status, p.createdDate as createdDate, "
+      + "p.viewCount as viewCount, p.likeCount as likeCount from Post p where p.id = :postId")
+  Optional<PostRankSource> findRankSourceById(@Param("postId") Long postId);
+
+  @Query("select p from Post p where p.id > :lastId order by p.id")
+  List<Post> findAllByIdGreaterThan(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+
+  @Modifying
+  @Transactional
+  @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :postId")
+  int increaseCommentCount(@Param("postId") Long postId);
+
+  @Modifying
+  @Transactional
+  @Query("update Post p set p.commentCount = p.commentCount - 1 where p.id = :postId and p.commentCount > 0")
+  int decreaseCommentCount(@Param("postId") Long postId);
+
+  @Modifying
+  @Transactional
+  @Query("update Post p set p.likeCount = p.likeCount + :delta where p.id = :postId")
+  int updateLikeCount(
+      @Param("postId") Long postId,
+      @Param("delta") long delta
+  );
+
+  @Query("select p.likeCount from Post p where p.id = :postId")
+  long findLikeCountById(@Param("postId") Long postId);
+
+  //댓글 수를 세는 것과 수정하는 것을 한 문장으로 해서 그 사이의 증감을 덮어쓰지 않음
+  @Modifying
+  @Transactional
+  @Query(value = "update post set comment_count = (select count(*) from comment c where c.post_id = post.post_id) "
+      + "where post_id in (:ids) "
+      + "and comment_count <> (select count(*) from comment c where c.post_id = post.post_id)", nativeQuery = true)
+  int repairCommentCounts(@Param("ids") List<Long> ids);
+
+  @Query("select p.id as id, p.commentCount as commentCount from Post p where p.id > :lastId order by p.id")
+  List<PostCommentCount> findCommentCounts(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
 }
@@ -0,0 +1,16 @@
+package com.lets.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 검색 인덱스에 사용하는 (글 id, 모집 상태, 작성일, 조회수) 프로젝션
+ */
+public interface PostSearchSource {
+  Long getId();
+
+  PostStatus getStatus();
+
+  LocalDateTime getCreatedDate();
+
+  long getViewCount();
+}
@@ -0,0 +1,12 @@
+package com.lets.domain.post;
+
+/**
+ * 제목 자동완성에 사용하는 (글 id, 제목, 조회수) 프로젝션
+ */
+public interface PostTitle {
+  Long getId();
+
+  String getTitle();
+
+  long getViewCount();
+}
@@ -0,0 +1,18 @@
+package com.lets.domain.postCard;
+
+import com.lets.domain.likePost.LikePostStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관심글 목록 조회 결과
+ * 글 카드와 유저의 좋아요 상태를 함께 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikePostCard {
+  private final PostCard postCard;
+
+  private final LikePostStatus likePostStatus;
+}
@@ -0,0 +1,160 @@
+package com.lets.domain.postCard;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.user.User;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 글 목록 카드 읽기 모델
+ * 글 목록에 필요한 글, 작성자, 태그, 댓글 수를 한 행에 모아두고 목록 조회는 이 테이블만 읽는다. (태그 조건은 post_tech_stack 인덱스로 확인)
+ * 원본(Post, PostTechStack, User, Comment)이 바뀌는 트랜잭션 안에서 PostCardService 로 함께 수정한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_card", indexes = {
+    @Index(name = "idx_post_card_status_created_date", columnList = "status, created_date, post_id"),
+    @Index(name = "idx_post_card_status_view_count", columnList = "status, view_count, post_id"),
+    @Index(name = "idx_post_card_user", columnList = "user_id")
+})
+@DynamicUpdate
+@Entity
+public class PostCard implements Persistable<Long> {
+  public static final int EXCERPT_LENGTH = 300;
+
+  public static final String TAG_DELIMITER = ",";
+
+  @Id
+  @Column(name = "post_id")
+  private Long postId;
+
+  @Column(name = "user_id")
+  private Long userId;
+
+  private String title;
+
+  @Column(length = EXCERPT_LENGTH)
+  private String excerpt;
+
+  private long likeCount;
+
+  private long viewCount;
+
+  private long commentCount;
+
+  @Enumerated(EnumType.STRING)
+  private PostStatus status;
+
+  private String nickname;
+
+  private String publicId;
+
+  //태그 이름을 , 로 이어 붙인 값
+  @Column(length = 1000)
+  private String tags;
+
+  private LocalDateTime createdDate;
+
+  //id 를 직접 지정하기 때문에 save() 시 merge 를 위한 조회가 일어나지 않도록 새 카드인지 직접 표시
+  @Getter(AccessLevel.NONE)
+  @Transient
+  private boolean newCard = true;
+
+  private PostCard(
+      Post post,
+      List<String> tags
+  ) {
+    User user = post.getUser();
+    this.postId = post.getId();
+    this.userId = user.getId();
+    this.nickname = user.getNickname();
+    this.publicId = user.getPublicId();
+    this.commentCount = post.getCommentCount();
+    this.createdDate = post.getCreatedDate();
+    this.viewCount = post.getViewCount();
+    this.likeCount = post.getLikeCount();
+    change(post, tags);
+  }
+
+  //==생성 메서드==//
+  public static PostCard createPostCard(
+      Post post,
+      List<String> tags
+  ) {
+    return new PostCard(post, tags);
+  }
+
+  //==필드 변경==//
+  public void change(
+      Post post,
+      List<String> tags
+  ) {
+    this.title = post.getTitle();
+    this.excerpt = excerptOf(post.getContent());
+    this.tags = String.join(TAG_DELIMITER, tags);
+    changeStatus(post.getStatus());
+  }
+
+  public void changeStatus(PostStatus status) {
+    this.status = status;
+  }
+
+  @Override
+  public Long getId() {
+    return postId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newCard;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newCard = false;
+  }
+
+  public List<String> getTagNames() {
+    if (tags == null || tags.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(Arrays.asList(tags.split(TAG_DELIMITER)));
+  }
+
+  //목록에는 본문 앞부분만 보여줌
+  private static String excerptOf(String content) {
+    if (content == null || content.length() <= EXCERPT_LENGTH) {
+      return content;
+    }
+
+    int end = EXCERPT_LENGTH;
+    //서로게이트 쌍 중간에서 자르지 않도록 함
+    if (Character.isHighSurrogate(content.charAt(end - 1))) {
+      end--;
+    }
+    return content.substring(0, end);
+  }
+}
@@ -0,0 +1,16 @@
+package com.lets.domain.postCard;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+
+public interface PostCardCustomRepository {
+  List<PostCard> findPostCards(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  );
+}
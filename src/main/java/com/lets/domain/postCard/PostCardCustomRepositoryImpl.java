@@ -0,0 +1,135 @@
+package com.lets.domain.postCard;
+
+import static com.lets.domain.postCard.QPostCard.*;
+import static com.lets.domain.postTechStack.QPostTechStack.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.lets.domain.post.PostStatus;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class PostCardCustomRepositoryImpl implements PostCardCustomRepository {
+  private final JPAQueryFactory jpaQueryFactory;
+
+  /**
+   * 조건에 맞는 글 카드 페이지를 조회한다.
+   * 커서가 없다면 offset 으로, 커서가 있다면 (정렬 기준 값, 글 id) 보다 뒤에 있는 카드만 조회한다.
+   * 태그 조건은 카드마다 post_tech_stack (post_id, tag_id) 인덱스로 이름이 같은 태그가 달려 있는지 확인한다.
+   */
+  @Override
+  public List<PostCard> findPostCards(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  ) {
+    String sort = PostCursor.sortOf(pageable.getSort());
+    JPAQuery<PostCard> query = jpaQueryFactory
+        .selectFrom(postCard)
+        .where(
+            matchTags(search.getTags(), search.getMatch()),
+            eqStatus(search.getStatus()),
+            afterCursor(cursor)
+        )
+        .orderBy(getOrderSpecifier(sort), postCard.postId.desc())
+        .limit(pageable.getPageSize());
+
+    if (cursor == null) {
+      query.offset(pageable.getOffset());
+    }
+    return query.fetch();
+  }
+
+  private BooleanExpression matchTags(
+      List<String> tags,
+      TagMatch match
+  ) {
+    if (tags == null || tags.isEmpty()) {
+      return null;
+    }
+    if (match == TagMatch.ALL) {
+      return containsAllTags(tags);
+    }
+    return existsTag(tags);
+  }
+
+  //카드의 글에 태그 중 하나라도 달려 있는지 확인
+  private BooleanExpression existsTag(List<String> tags) {
+    return JPAExpressions
+        .selectOne()
+        .from(postTechStack)
+        .where(
+            postTechStack.post.id.eq(postCard.postId),
+            postTechStack.tag.name.in(tags)
+        )
+        .exists();
+  }
+
+  //검색한 태그가 모두 달린 카드만 조회
+  private BooleanExpression containsAllTags(List<String> tags) {
+    long tagCount = tags
+        .stream()
+        .distinct()
+        .count();
+    return JPAExpressions
+        .select(postTechStack.tag.id.countDistinct())
+        .from(postTechStack)
+        .where(
+            postTechStack.post.id.eq(postCard.postId),
+            postTechStack.tag.name.in(tags)
+        )
+        .eq(tagCount);
+  }
+
+  private BooleanExpression afterCursor(PostCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    if (cursor
+        .getSort()
+        .equals(PostCursor.VIEW_COUNT)) {
+      long viewCount = cursor.getViewCount();
+      return postCard.viewCount
+          .lt(viewCount)
+          .or(postCard.viewCount
+                  .eq(viewCount)
+                  .and(postCard.postId.lt(cursor.getId())));
+    }
+
+    LocalDateTime createdDate = cursor.getCreatedDate();
+    return postCard.createdDate
+        .lt(createdDate)
+        .or(postCard.createdDate
+                .eq(createdDate)
+                .and(postCard.postId.lt(cursor.getId())));
+  }
+
+  private BooleanExpression eqStatus(String status) {
+    if (status == null) {
+      return null;
+    }
+    return postCard.status.eq(PostStatus.valueOf(status));
+  }
+
+  private OrderSpecifier<?> getOrderSpecifier(String sort) {
+    if (sort.equals(PostCursor.VIEW_COUNT)) {
+      return postCard.viewCount.desc();
+    }
+    return postCard.createdDate.desc();
+  }
+}
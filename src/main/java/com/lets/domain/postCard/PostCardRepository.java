@@ -0,0 +1,61 @@
+package com.lets.domain.postCard;
+
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.lets.domain.post.Post;
+
+public interface PostCardRepository extends JpaRepository<PostCard, Long>, PostCardCustomRepository {
+  List<PostCard> findAllByPostIdIn(List<Long> postIds);
+
+  @Query("select c from PostCard c where c.userId = :userId order by c.postId")
+  List<PostCard> findAllByUserId(@Param("userId") Long userId);
+
+  @Query("select new com.lets.domain.postCard.LikePostCard(c, l.status) from LikePost l join PostCard c on c.postId = l.post.id where l.user.id = :userId order by l.id")
+  List<LikePostCard> findLikePostCards(@Param("userId") Long userId);
+
+  @Modifying
+  @Transactional
+  @Query("update PostCard c set c.commentCount = c.commentCount + 1 where c.postId = :postId")
+  int increaseCommentCount(@Param("postId") Long postId);
+
+  @Modifying
+  @Transactional
+  @Query("update PostCard c set c.commentCount = c.commentCount - 1 where c.postId = :postId and c.commentCount > 0")
+  int decreaseCommentCount(@Param("postId") Long postId);
+
+  @Modifying
+  @Transactional
+  @Query("update PostCard c set c.likeCount = c.likeCount + :delta where c.postId = :postId")
+  int updateLikeCount(
+      @Param("postId") Long postId,
+      @Param("delta") long delta
+  );
+
+  @Modifying
+  @Transactional
+  @Query("update PostCard c set c.nickname = :nickname, c.publicId = :publicId where c.userId = :userId")
+  int updateProfile(
+      @Param("userId") Long userId,
+      @Param("nickname") String nickname,
+      @Param("publicId") String publicId
+  );
+
+  @Modifying
+  @Transactional
+  @Query("delete from PostCard c where c.userId = :userId")
+  int deleteAllByUserId(@Param("userId") Long userId);
+
+  @Query("select p from Post p join fetch p.user where p.id > :lastId and not exists (select c from PostCard c where c.postId = p.id) order by p.id")
+  List<Post> findPostsWithoutCard(
+      @Param("lastId") long lastId,
+      Pageable pageable
+  );
+}
@@ -0,0 +1,10 @@
+package com.lets.domain.postTechStack;
+
+/**
+ * 글에 달린 태그의 (글 id, 태그 id) 프로젝션
+ */
+public interface PostTagId {
+  Long getPostId();
+
+  Long getTagId();
+}
@@ -6,8 +6,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.lets.domain.BaseTimeEntity;
 import com.lets.domain.post.Post;
@@ -19,6 +21,9 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_post_tech_stack_post_tag", columnList = "post_id, tag_id")
+})
 @Entity
 public class PostTechStack extends BaseTimeEntity {
   @Id
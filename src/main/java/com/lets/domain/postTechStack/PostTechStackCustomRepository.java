@@ -4,18 +4,34 @@ import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 
+import com.lets.domain.post.Post;
+import com.lets.web.dto.post.PostCursor;
 import com.lets.web.dto.post.PostRecommendRequestDto;
+import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostSearchRequestDto;
 
 public interface PostTechStackCustomRepository {
-  List<PostTechStack> findPostTechStacks(
+  List<Post> findPosts(
       PostSearchRequestDto search,
       Pageable pageable
   );
 
-  List<PostTechStack> findRecommendPosts(
+  List<Post> findPostsByCursor(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  );
+
+  List<Post> findPostsByKeyword(
+      String keyword,
+      PostSearchRequestDto search,
+      Pageable pageable
+  );
+
+  List<PostRecommendResponseDto> findRecommendPosts(
       PostRecommendRequestDto search,
       Long userId,
-      Long id
+      Long id,
+      int limit
   );
 }
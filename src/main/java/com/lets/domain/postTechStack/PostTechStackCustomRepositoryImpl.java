@@ -4,20 +4,31 @@ import static com.lets.domain.post.QPost.*;
 import static com.lets.domain.postTechStack.QPostTechStack.*;
 import static com.lets.domain.tag.QTag.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import com.lets.domain.post.Post;
 import com.lets.domain.post.PostStatus;
+import com.lets.web.dto.post.PostCursor;
 import com.lets.web.dto.post.PostRecommendRequestDto;
+import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -27,54 +38,204 @@ import lombok.RequiredArgsConstructor;
 public class PostTechStackCustomRepositoryImpl implements PostTechStackCustomRepository {
   private final JPAQueryFactory jpaQueryFactory;
 
+  /**
+   * 조건에 맞는 글 페이지를 조회한다.
+   * postTechStack 을 조인해서 자르면 태그 수에 따라 한 페이지의 글 수가 달라지고 글의 태그 목록도 잘리기 때문에
+   * 태그 조건은 EXISTS(ANY) 또는 태그 수(ALL)로 확인하고 post 단위로 페이지를 자른다.
+   * 글들의 태그 정보는 PostTechStackRepository.findAllByPosts()로 한번에 조회한다.
+   * 작성자 프로필을 함께 내려주기 때문에 post.user 를 fetch join 한다.
+   */
   @Override
-  public List<PostTechStack> findPostTechStacks(
+  public List<Post> findPosts(
       PostSearchRequestDto search,
       Pageable pageable
   ) {
     return jpaQueryFactory
-        .selectFrom(postTechStack)
+        .selectFrom(post)
+        .join(post.user)
+        .fetchJoin()
         .where(
-            eqName(search.getTags()),
+            matchTags(search.getTags(), search.getMatch()),
             eqStatus(search.getStatus())
         )
-        .join(postTechStack.post, post)
+        .orderBy(getOrderSpecifier(pageable.getSort()), post.id.desc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+  }
+
+  /**
+   * 커서 이후의 글을 조회한다.
+   * offset 없이 (정렬 기준 값, 글 id) 보다 뒤에 있는 글만 조회하기 때문에 페이지가 깊어져도 앞의 글을 읽고 버리지 않는다.
+   * postTechStack 이 아닌 post 단위로 자르기 때문에 한 페이지에 항상 서로 다른 글이 pageSize 만큼 담긴다.
+   * 작성자 프로필을 함께 내려주기 때문에 post.user 를 fetch join 한다.
+   */
+  @Override
+  public List<Post> findPostsByCursor(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  ) {
+    return jpaQueryFactory
+        .selectFrom(post)
+        .join(post.user)
         .fetchJoin()
-        .join(postTechStack.tag, tag)
+        .where(
+            matchTags(search.getTags(), search.getMatch()),
+            eqStatus(search.getStatus()),
+            afterCursor(cursor)
+        )
+        .orderBy(getOrderSpecifier(pageable.getSort()), post.id.desc())
+        .limit(pageable.getPageSize())
+        .fetch();
+  }
+
+  /**
+   * 제목 또는 본문에 키워드가 들어간 글을 최신순으로 조회한다.
+   * 본문 전체를 LIKE 로 확인하기 때문에 키워드 검색 인덱스(PostTextIndex)를 사용할 수 없을 때만 사용한다.
+   */
+  @Override
+  public List<Post> findPostsByKeyword(
+      String keyword,
+      PostSearchRequestDto search,
+      Pageable pageable
+  ) {
+    return jpaQueryFactory
+        .selectFrom(post)
+        .join(post.user)
         .fetchJoin()
-        .orderBy(getOrderSpecifier(pageable.getSort()))
+        .where(
+            post.title
+                .containsIgnoreCase(keyword)
+                .or(post.content.containsIgnoreCase(keyword)),
+            matchTags(search.getTags(), search.getMatch()),
+            eqStatus(search.getStatus())
+        )
+        .orderBy(post.createdDate.desc(), post.id.desc())
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize())
         .fetch();
-
   }
 
+  /**
+   * 모집 중인 글을 (겹치는 태그 수, 조회수, 글 id) 내림차순으로 limit 개까지 (id, 제목)만 조회한다.
+   * 태그가 겹치는 글이 limit 개보다 적으면 조회수가 많은 글로 채워지며, 유저 본인의 글은 제외한다.
+   */
   @Override
-  public List<PostTechStack> findRecommendPosts(
+  public List<PostRecommendResponseDto> findRecommendPosts(
       PostRecommendRequestDto search,
       Long userId,
-      Long postId
+      Long postId,
+      int limit
   ) {
-    return jpaQueryFactory
-        .selectFrom(postTechStack)
+    JPAQuery<Tuple> query = jpaQueryFactory
+        .select(post.id, post.title, post.user.id)
+        .from(post)
         .where(
-            eqName(search.getTags()),
             eqStatus("RECRUITING"),
-            postNotEq(postId)
-        )
-        .join(postTechStack.post, post)
-        .fetchJoin()
-        .join(postTechStack.tag, tag)
-        .fetchJoin()
-        .orderBy(post.viewCount.desc())
-        .fetch();
+            postNotEq(postId),
+            userNotEq(userId)
+        );
+
+    List<String> tags = search.getTags();
+    if (tags == null || tags.isEmpty()) {
+      query.orderBy(post.viewCount.desc(), post.id.desc());
+    } else {
+      //글마다 요청한 태그와 겹치는 태그 수를 세서 정렬
+      NumberExpression<Integer> sharedTagCount = new CaseBuilder()
+          .when(tag.name.in(tags))
+          .then(Expressions.ONE)
+          .otherwise(Expressions.ZERO)
+          .sum();
+      query
+          .leftJoin(postTechStack)
+          .on(postTechStack.post.eq(post))
+          .leftJoin(postTechStack.tag, tag)
+          .groupBy(post.id, post.title, post.user.id, post.viewCount)
+          .orderBy(sharedTagCount.desc(), post.viewCount.desc(), post.id.desc());
+    }
+
+    return query
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(tuple -> PostRecommendResponseDto.PostRecommendToDto(
+            tuple.get(post.id),
+            tuple.get(post.title),
+            tuple.get(post.user.id)
+        ))
+        .collect(Collectors.toList());
   }
 
-  private BooleanExpression eqName(List<String> tags) {
+  private BooleanExpression userNotEq(Long userId) {
+    if (userId == null) {
+      return null;
+    }
+    return post.user.id.ne(userId);
+  }
+
+  private BooleanExpression matchTags(
+      List<String> tags,
+      TagMatch match
+  ) {
     if (tags == null || tags.isEmpty()) {
       return null;
     }
-    return postTechStack.tag.name.in(tags);
+    if (match == TagMatch.ALL) {
+      return containsAllTags(tags);
+    }
+    return existsTag(tags);
+  }
+
+  private BooleanExpression existsTag(List<String> tags) {
+    return JPAExpressions
+        .selectOne()
+        .from(postTechStack)
+        .where(
+            postTechStack.post.eq(post),
+            postTechStack.tag.name.in(tags)
+        )
+        .exists();
+  }
+
+  //검색한 태그가 모두 달린 글만 조회
+  private BooleanExpression containsAllTags(List<String> tags) {
+    long tagCount = tags
+        .stream()
+        .distinct()
+        .count();
+    return JPAExpressions
+        .select(postTechStack.tag.id.countDistinct())
+        .from(postTechStack)
+        .where(
+            postTechStack.post.eq(post),
+            postTechStack.tag.name.in(tags)
+        )
+        .eq(tagCount);
+  }
+
+  private BooleanExpression afterCursor(PostCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    if (cursor
+        .getSort()
+        .equals(PostCursor.VIEW_COUNT)) {
+      long viewCount = cursor.getViewCount();
+      return post.viewCount
+          .lt(viewCount)
+          .or(post.viewCount
+                  .eq(viewCount)
+                  .and(post.id.lt(cursor.getId())));
+    }
+
+    LocalDateTime createdDate = cursor.getCreatedDate();
+    return post.createdDate
+        .lt(createdDate)
+        .or(post.createdDate
+                .eq(createdDate)
+                .and(post.id.lt(cursor.getId())));
   }
 
   private BooleanExpression eqStatus(String status) {
@@ -98,6 +259,9 @@ public class PostTechStackCustomRepositoryImpl implements PostTechStackCustomRep
   }
 
   private BooleanExpression postNotEq(Long id) {
+    if (id == null) {
+      return null;
+    }
     return post.id.ne(id);
   }
 }
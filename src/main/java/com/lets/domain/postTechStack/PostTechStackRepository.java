@@ -1,5 +1,6 @@
 package com.lets.domain.postTechStack;
 
+import java.util.Collection;
 import java.util.List;
 
 import javax.transaction.Transactional;
@@ -20,9 +21,15 @@ public interface PostTechStackRepository
   @Query("delete from PostTechStack p where p.post in (:posts)")
   int deleteAllByPost(@Param("posts") List<Post> posts);
 
-  @Query("select p from PostTechStack p join fetch p.tag join fetch p.post where p.post in (:posts)")
+  @Query("select p from PostTechStack p join fetch p.tag join fetch p.post where p.post in (:posts) order by p.id")
   List<PostTechStack> findAllByPosts(@Param("posts") List<Post> posts);
 
-  @Query("select p from PostTechStack p join fetch p.tag join fetch p.post where p.post.user = :user")
+  @Query("select p.post.id as postId, p.tag.id as tagId from PostTechStack p where p.post.id in (:postIds)")
+  List<PostTagId> findTagIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+  @Query("select p.post.id as postId, p.tag.name as tagName from PostTechStack p where p.post.id in (:postIds)")
+  List<PostTagName> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+  @Query("select p from PostTechStack p join fetch p.tag join fetch p.post po join fetch po.user where po.user = :user")
   List<PostTechStack> findAllByUser(@Param("user") User user);
 }
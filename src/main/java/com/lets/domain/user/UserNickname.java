@@ -0,0 +1,12 @@
+package com.lets.domain.user;
+
+/**
+ * 닉네임 자동완성에 사용하는 (유저 id, 닉네임, 작성한 글의 조회수 합) 프로젝션
+ */
+public interface UserNickname {
+  Long getId();
+
+  String getNickname();
+
+  long getViewCount();
+}
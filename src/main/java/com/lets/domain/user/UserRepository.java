@@ -1,5 +1,6 @@
 package com.lets.domain.user;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,6 +20,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
       @Param("authProvider") AuthProvider authProvider
   );
 
+  @Query("select u.id as id, u.nickname as nickname, coalesce(sum(p.viewCount), 0) as viewCount from User u left join Post p on p.user = u group by u.id, u.nickname")
+  List<UserNickname> findNicknames();
+
+  @Query("select u.id as id, u.nickname as nickname, coalesce(sum(p.viewCount), 0) as viewCount from User u left join Post p on p.user = u where u.id = :id group by u.id, u.nickname")
+  Optional<UserNickname> findNicknameById(@Param("id") Long id);
+
   Boolean existsByNickname(String nickname);
 
   Boolean existsBySocialLoginIdAndAuthProvider(
@@ -23,6 +23,7 @@ public enum ErrorCode {
   TAG_NOT_FOUND(BAD_REQUEST, "존재하지 않는 태그입니다."),
   INVALID_INPUT_VALUE(BAD_REQUEST, "요청 DTO 바인딩 예외입니다."),
   METHOD_NOT_ALLOWED(BAD_REQUEST, "잘못된 HTTP METHOD 요청입니다."),
+  INVALID_CURSOR(BAD_REQUEST, "CURSOR가 올바르지 않습니다."),
 
   /* 401 UNAUTHORIZED  : 인증되지 않은 사용자 */
   ACCESS_TOKEN_NOT_FOUND(UNAUTHORIZED, "요청 헤더에 ACCESS_TOKEN이 존재하지 않습니다."),
@@ -37,6 +38,7 @@ public enum ErrorCode {
   /* 409 CONFLICT : Resource 의 현재 상태와 충돌. 보통 중복된 데이터 존재 */
   DUPLICATE_NAME(CONFLICT, "중복된 닉네임입니다."),
   DUPLICATE_ACCOUNT(CONFLICT, "이미 가입된 계정이 있습니다."),
+  DUPLICATE_LIKE_POST(CONFLICT, "좋아요 요청이 동시에 처리되었습니다. 다시 시도해주세요."),
 
   /* 500 INTERVAL_SERVER_ERROR : 내부 서버 오류 */
   CLOUDINARY_ERROR(INTERNAL_SERVER_ERROR, "CLOUDNINARY에서 예외가 발생했습니다."),
@@ -3,6 +3,7 @@ package com.lets.security;
 import static com.lets.exception.ErrorCode.*;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -17,11 +18,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.lets.domain.user.User;
 import com.lets.exception.ErrorCode;
-import com.lets.service.user.UserService;
 import com.lets.util.CookieUtil;
-import com.lets.util.RedisUtil;
 import com.lets.web.dto.auth.AuthResponseDto;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,23 +28,20 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final ObjectMapper objectMapper;
-  private final UserService userService;
   private final JwtTokenProvider jwtTokenProvider;
   private final CookieUtil cookieUtil;
-  private final RedisUtil redisUtil;
+  private final RefreshTokenStore refreshTokenStore;
 
   public JwtAuthenticationFilter(
       ObjectMapper objectMapper,
-      UserService userService,
       JwtTokenProvider jwtTokenProvider,
       CookieUtil cookieUtil,
-      RedisUtil redisUtil
+      RefreshTokenStore refreshTokenStore
   ) {
     this.objectMapper = objectMapper;
-    this.userService = userService;
     this.jwtTokenProvider = jwtTokenProvider;
     this.cookieUtil = cookieUtil;
-    this.redisUtil = redisUtil;
+    this.refreshTokenStore = refreshTokenStore;
   }
 
   /*
@@ -66,8 +61,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String accessToken = getAccessTokenFromRequest(request);
 
     if (StringUtils.hasText(accessToken)) {
-      if (jwtTokenProvider.validateToken(accessToken)) {
-        Authentication jwtAuthentication = jwtTokenProvider.getAuthenticationFromJWT(accessToken);
+      //토큰은 한번만 확인하고 확인한 클레임으로 인증 정보를 만듦
+      Optional<JwtClaims> accessTokenClaims = jwtTokenProvider.parseToken(accessToken);
+      if (accessTokenClaims.isPresent()) {
+        Authentication jwtAuthentication = jwtTokenProvider.getAuthentication(accessTokenClaims.get());
 
         jwtAuthentication.setAuthenticated(true);
         SecurityContextHolder
@@ -83,22 +80,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
           //refresh token 유효한지 확인
           errorCode = INVALID_REFRESH_TOKEN;
-          if (jwtTokenProvider.validateToken(refreshToken)) {
-            //refresh token 동일한지 확인
-
-            //                        errorCode = INVALID_REFRESH_TOKEN;
-            if (redisUtil.getData(refreshToken) != null) {
-              Authentication jwtAuthentication = jwtTokenProvider.getAuthenticationFromJWT(
-                  refreshToken);
-
-              //새로운 access token 발행
+          Optional<JwtClaims> refreshTokenClaims = jwtTokenProvider.parseToken(refreshToken);
+          if (refreshTokenClaims.isPresent()) {
+            Authentication jwtAuthentication = jwtTokenProvider.getRefreshAuthentication(refreshTokenClaims.get());
+
+            //새로운 refresh token 발행
+            String newRefreshToken = jwtTokenProvider.generateRefreshToken(jwtAuthentication);
+
+            //레디스에서 refresh token 교체 (로그아웃했거나 이미 교체된 토큰이라면 실패)
+            Optional<RotatedRefreshToken> rotatedRefreshToken = refreshTokenStore.rotate(
+                refreshToken,
+                newRefreshToken,
+                refreshTokenClaims
+                    .get()
+                    .getUserId()
+            );
+            if (rotatedRefreshToken.isPresent()) {
+              response.setHeader("Set-Cookie", cookieUtil.createRefreshTokenHeader(rotatedRefreshToken
+                                                                                       .get()
+                                                                                       .getRefreshToken()));
+
+              //새로운 access token 발행 (닉네임은 레디스에 저장한 닉네임, 없다면 refresh token 클레임을 사용)
+              String nickname = rotatedRefreshToken
+                  .get()
+                  .getNickname();
+              if (nickname != null) {
+                jwtAuthentication = jwtTokenProvider.getAuthentication(refreshTokenClaims.get(), nickname);
+              }
               String newAccessToken = jwtTokenProvider.generateAccessToken(jwtAuthentication);
 
-              //유저 정보 조회
-              User user = userService.findById(jwtTokenProvider.getUserIdFromJWT(refreshToken));
-
               //요청 처리하지 않고 바로 응답 보내도록 해야함
-              String res = objectMapper.writeValueAsString(AuthResponseDto.from(user.getNickname(), newAccessToken, "ACCESS_TOKEN이 재발행되었습니다. 다시 요청해 주세요."));
+              UserPrincipal userPrincipal = (UserPrincipal)jwtAuthentication.getPrincipal();
+              String res = objectMapper.writeValueAsString(AuthResponseDto.from(userPrincipal.getUsername(), newAccessToken, "ACCESS_TOKEN이 재발행되었습니다. 다시 요청해 주세요."));
               response.setStatus(HttpStatus.UNAUTHORIZED.value());
               response.setContentType("Application/json;charset=UTF-8");
 
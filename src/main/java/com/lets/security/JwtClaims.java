@@ -0,0 +1,24 @@
+package com.lets.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명과 만료 시간을 확인한 토큰의 클레임
+ * 닉네임은 닉네임 클레임이 생기기 전에 발급한 토큰이라면 null 이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtClaims {
+  private final Long userId;
+
+  private final String nickname;
+
+  private final String role;
+
+  private final long expirationInMs;
+
+  public boolean isExpired(long nowInMs) {
+    return expirationInMs <= nowInMs;
+  }
+}
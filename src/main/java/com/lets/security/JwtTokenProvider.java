@@ -1,16 +1,25 @@
 package com.lets.security;
 
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lets.domain.user.Role;
+import com.lets.domain.user.User;
 import com.lets.domain.user.UserRepository;
+import com.lets.exception.CustomException;
+import com.lets.exception.ErrorCode;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -19,6 +28,8 @@ import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,7 +37,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
+  private static final String NICKNAME = "nickname";
+  private static final String ROLE = "role";
+
   private final UserRepository userRepository;
+  private final MeterRegistry meterRegistry;
 
   @Value("${app.jwtSecret}")
   private String jwtSecret;
@@ -37,6 +52,52 @@ public class JwtTokenProvider {
   @Value("${app.refreshTokenExpirationInMs}")
   private Long refreshTokenExpirationInMs;
 
+  @Value("${app.jwtCache.maximumSize:10000}")
+  private long cacheMaximumSize;
+
+  //서명을 확인한 토큰의 해시 -> 클레임, 토큰의 만료 시간이 지나면 캐시에서도 빠짐
+  private Cache<String, JwtClaims> verifiedTokens;
+
+  @PostConstruct
+  private void init() {
+    verifiedTokens = Caffeine
+        .newBuilder()
+        .maximumSize(cacheMaximumSize)
+        .expireAfter(new Expiry<String, JwtClaims>() {
+          @Override
+          public long expireAfterCreate(
+              String key,
+              JwtClaims claims,
+              long currentTime
+          ) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpirationInMs() - System.currentTimeMillis()));
+          }
+
+          @Override
+          public long expireAfterUpdate(
+              String key,
+              JwtClaims claims,
+              long currentTime,
+              long currentDuration
+          ) {
+            return currentDuration;
+          }
+
+          @Override
+          public long expireAfterRead(
+              String key,
+              JwtClaims claims,
+              long currentTime,
+              long currentDuration
+          ) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtClaims");
+  }
+
   public String generateAccessToken(Authentication authentication) {
     UserPrincipal userPrincipal = (UserPrincipal)authentication.getPrincipal();
     Date now = new Date();
@@ -45,7 +106,8 @@ public class JwtTokenProvider {
     return Jwts
         .builder()
         .setSubject(Long.toString(userPrincipal.getId()))
-        .setHeaderParam("role", "ROLE_USER")
+        .claim(NICKNAME, userPrincipal.getUsername())
+        .claim(ROLE, roleOf(userPrincipal))
         .setIssuedAt(new Date())
         .setExpiration(expiryDate)
         .signWith(SignatureAlgorithm.HS512, jwtSecret)
@@ -60,38 +122,57 @@ public class JwtTokenProvider {
     return Jwts
         .builder()
         .setSubject(Long.toString(userPrincipal.getId()))
+        .claim(NICKNAME, userPrincipal.getUsername())
+        .claim(ROLE, roleOf(userPrincipal))
+        //같은 초에 발급해도 교체할 때 이전 토큰과 구분되도록 id 를 넣음
+        .setId(UUID
+                   .randomUUID()
+                   .toString())
         .setIssuedAt(new Date())
         .setExpiration(expiryDate)
         .signWith(SignatureAlgorithm.HS512, jwtSecret)
         .compact();
   }
 
-  public Authentication getAuthenticationFromJWT(String token) {
-    Long userId = getUserIdFromJWT(token);
-    Set<GrantedAuthority> roles = new HashSet<>();
-    roles.add(new SimpleGrantedAuthority("ROLE_USER"));
-
-    UserPrincipal userPrincipal = UserPrincipal.create(userId, roles);
-
-    return new JwtAuthentication(userPrincipal);
-  }
+  /**
+   * 토큰의 서명과 만료 시간을 한번만 확인하고 클레임을 반환한다.
+   * 확인한 토큰은 해시를 키로 만료 시간까지 캐시에 두고 다시 확인하지 않는다.
+   * 유효하지 않은 토큰이라면 Optional.empty() 를 반환한다.
+   */
+  public Optional<JwtClaims> parseToken(String token) {
+    if (token == null || token.isEmpty()) {
+      log.error("JWT claims string is empty.");
+      return Optional.empty();
+    }
 
-  public Long getUserIdFromJWT(String token) {
-    Claims claims = Jwts
-        .parser()
-        .setSigningKey(jwtSecret)
-        .parseClaimsJws(token)
-        .getBody();
-    return Long.parseLong(claims.getSubject());
-  }
+    String key = TokenHashes.sha256(token);
+    JwtClaims cached = verifiedTokens.getIfPresent(key);
+    if (cached != null) {
+      if (!cached.isExpired(System.currentTimeMillis())) {
+        return Optional.of(cached);
+      }
+      verifiedTokens.invalidate(key);
+      log.error("Expired JWT token");
+      return Optional.empty();
+    }
 
-  public boolean validateToken(String authToken) {
     try {
-      Jwts
+      Claims claims = Jwts
           .parser()
           .setSigningKey(jwtSecret)
-          .parseClaimsJws(authToken);
-      return true;
+          .parseClaimsJws(token)
+          .getBody();
+      String role = claims.get(ROLE, String.class);
+      JwtClaims jwtClaims = new JwtClaims(
+          Long.parseLong(claims.getSubject()),
+          claims.get(NICKNAME, String.class),
+          role == null ? Role.USER.getKey() : role,
+          claims
+              .getExpiration()
+              .getTime()
+      );
+      verifiedTokens.put(key, jwtClaims);
+      return Optional.of(jwtClaims);
     } catch (SignatureException ex) {
       log.error("Invalid JWT signature");
     } catch (MalformedJwtException ex) {
@@ -102,8 +183,46 @@ public class JwtTokenProvider {
       log.error("Unsupported JWT token");
     } catch (IllegalArgumentException ex) {
       log.error("JWT claims string is empty.");
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 클레임으로 인증 정보를 만든다. DB 를 조회하지 않는다.
+   */
+  public Authentication getAuthentication(JwtClaims claims) {
+    return new JwtAuthentication(UserPrincipal.create(claims));
+  }
+
+  /**
+   * 클레임과 레디스에 refresh token 과 함께 저장한 닉네임으로 인증 정보를 만든다. DB 를 조회하지 않는다.
+   */
+  public Authentication getAuthentication(
+      JwtClaims claims,
+      String nickname
+  ) {
+    return new JwtAuthentication(UserPrincipal.create(claims, nickname));
+  }
+
+  /**
+   * refresh token 의 클레임으로 새로 발급할 refresh token 의 인증 정보를 만든다.
+   * 닉네임 클레임은 레디스에 저장한 닉네임이 없을 때만 사용하고, 클레임도 없는 이전 토큰이라면 유저를 조회해서 새 토큰부터 닉네임이 담기도록 한다.
+   */
+  public Authentication getRefreshAuthentication(JwtClaims claims) {
+    if (claims.getNickname() != null) {
+      return getAuthentication(claims);
+    }
+
+    User user = userRepository
+        .findById(claims.getUserId())
+        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    return new JwtAuthentication(UserPrincipal.create(user));
+  }
 
+  private String roleOf(UserPrincipal userPrincipal) {
+    for (GrantedAuthority authority : userPrincipal.getAuthorities()) {
+      return authority.getAuthority();
     }
-    return false;
+    return Role.USER.getKey();
   }
 }
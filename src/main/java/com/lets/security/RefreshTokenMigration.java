@@ -0,0 +1,125 @@
+package com.lets.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 시간 없이 토큰 원문을 키로 저장했던 이전 refresh token 을 한번만 옮긴다.
+ * 이전 키는 RedisTemplate 기본 직렬화(JDK)로 저장되어 있으므로 SCAN 으로 찾아 역직렬화하고,
+ * 아직 유효한 토큰은 남은 만료 시간만큼 RefreshTokenStore 에 다시 저장하고 이전 키는 모두 지운다.
+ * 끝나면 완료 표시를 남겨서 다음 실행부터는 SCAN 하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenMigration {
+  private static final String DONE_KEY = "rt:migration:legacy";
+  //JWT 는 항상 {"alg" 를 base64 로 인코딩한 eyJ 로 시작
+  private static final String LEGACY_PATTERN = "*eyJ*";
+  private static final long SCAN_COUNT = 1000;
+
+  private final RedisTemplate<Object, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RefreshTokenStore refreshTokenStore;
+  private final JwtTokenProvider jwtTokenProvider;
+
+  private final JdkSerializationRedisSerializer serializer = new JdkSerializationRedisSerializer();
+
+  @Value("${app.refreshTokenMigration.enabled:true}")
+  private boolean enabled;
+
+  //옮기기를 마쳤거나 완료 표시를 확인했다면 더 실행하지 않음
+  private volatile boolean done;
+
+  /**
+   * SCAN 이 오래 걸리거나 레디스를 사용할 수 없어도 시작을 막지 않도록 시작 직후 스케줄러에서 실행한다.
+   * 실패하면 예외를 던지지 않고 retryDelayInMs 뒤에 다시 실행한다. (이미 옮긴 키는 지웠으므로 남은 키만 옮김)
+   */
+  @Scheduled(
+      initialDelayString = "${app.refreshTokenMigration.initialDelayInMs:0}",
+      fixedDelayString = "${app.refreshTokenMigration.retryDelayInMs:600000}"
+  )
+  public void migrate() {
+    if (!enabled || done) {
+      return;
+    }
+
+    try {
+      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))) {
+        int[] counts = redisTemplate.execute((RedisCallback<int[]>)this::migrate);
+        stringRedisTemplate
+            .opsForValue()
+            .set(DONE_KEY, "done");
+        log.info("legacy refresh tokens migrated: {}, expired: {}", counts[0], counts[1]);
+      }
+      done = true;
+    } catch (DataAccessException e) {
+      log.warn("legacy refresh token migration failed, retrying later", e);
+    }
+  }
+
+  private int[] migrate(RedisConnection connection) {
+    int migrated = 0;
+    int expired = 0;
+    ScanOptions options = ScanOptions
+        .scanOptions()
+        .match(LEGACY_PATTERN)
+        .count(SCAN_COUNT)
+        .build();
+
+    try (Cursor<byte[]> cursor = connection.scan(options)) {
+      while (cursor.hasNext()) {
+        byte[] key = cursor.next();
+        String refreshToken = deserialize(key);
+        if (refreshToken == null || !refreshToken.startsWith("eyJ")) {
+          continue;
+        }
+
+        String userId = deserialize(connection.get(key));
+        Optional<JwtClaims> claims = jwtTokenProvider.parseToken(refreshToken);
+        long ttlInMs = claims
+            .map(c -> c.getExpirationInMs() - System.currentTimeMillis())
+            .orElse(0L);
+        if (userId != null && ttlInMs > 0) {
+          refreshTokenStore.save(refreshToken, Long.parseLong(userId), null, ttlInMs);
+          migrated++;
+        } else {
+          expired++;
+        }
+        connection.del(key);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return new int[] {migrated, expired};
+  }
+
+  //이전 방식으로 저장한 문자열이 아니라면 null
+  private String deserialize(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      Object value = serializer.deserialize(bytes);
+      return value instanceof String ? (String)value : null;
+    } catch (SerializationException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.lets.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 메모리에 두는 refresh token 캐시
+ * 유효한 토큰 해시 -> 유저 id 는 짧은 ttl 동안만 두고, 로그아웃, 탈퇴로 지운 토큰 해시는 refresh token 만료 시간까지 둔다.
+ * 토큰을 지우면 레디스 채널(rt:revoked)로 해시를 알려서 다른 서버의 캐시도 함께 지운다.
+ * 교체한 토큰은 재사용을 확인해야 하므로 지운 토큰으로 두지 않고, 레디스 채널(rt:invalidated)로 모든 서버의 캐시에서만 뺀다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenNearCache implements MessageListener {
+  public static final String REVOKED_CHANNEL = "rt:revoked";
+  public static final String INVALIDATED_CHANNEL = "rt:invalidated";
+  private static final String SEPARATOR = ",";
+
+  private final StringRedisTemplate redisTemplate;
+
+  //토큰 해시 -> 유저 id
+  private final Cache<String, Long> validTokens;
+
+  //지운 토큰 해시
+  private final Cache<String, Boolean> revokedTokens;
+
+  public RefreshTokenNearCache(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${app.refreshTokenNearCache.ttlInMs:30000}") long ttlInMs,
+      @Value("${app.refreshTokenNearCache.maximumSize:100000}") long maximumSize,
+      @Value("${app.refreshTokenExpirationInMs}") long refreshTokenExpirationInMs
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.validTokens = Caffeine
+        .newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(ttlInMs))
+        .recordStats()
+        .build();
+    this.revokedTokens = Caffeine
+        .newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(refreshTokenExpirationInMs))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, validTokens, "refreshTokens");
+    CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, "revokedRefreshTokens");
+  }
+
+  public Long getUserId(String hash) {
+    return validTokens.getIfPresent(hash);
+  }
+
+  public boolean isRevoked(String hash) {
+    return revokedTokens.getIfPresent(hash) != null;
+  }
+
+  public void put(
+      String hash,
+      long userId
+  ) {
+    revokedTokens.invalidate(hash);
+    validTokens.put(hash, userId);
+  }
+
+  /**
+   * 교체한 토큰을 이 서버의 캐시에서 뺀다.
+   * 다른 서버에는 교체 스크립트가 INVALIDATED_CHANNEL 로 알린다.
+   */
+  public void invalidate(String hash) {
+    validTokens.invalidate(hash);
+  }
+
+  /**
+   * 지운 토큰을 이 서버에 기록하고 다른 서버에도 알린다.
+   * 레디스를 사용할 수 없다면 이 서버에만 기록한다.
+   */
+  public void revoke(Collection<String> hashes) {
+    if (hashes.isEmpty()) {
+      return;
+    }
+
+    revokeLocally(hashes);
+    try {
+      redisTemplate.convertAndSend(REVOKED_CHANNEL, String.join(SEPARATOR, hashes));
+    } catch (DataAccessException e) {
+      log.warn("refresh token revocation publish failed. count={}", hashes.size(), e);
+    }
+  }
+
+  @Override
+  public void onMessage(
+      Message message,
+      byte[] pattern
+  ) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (body.isEmpty()) {
+      return;
+    }
+
+    List<String> hashes = Arrays.asList(body.split(SEPARATOR));
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    if (INVALIDATED_CHANNEL.equals(channel)) {
+      validTokens.invalidateAll(hashes);
+    } else {
+      revokeLocally(hashes);
+    }
+  }
+
+  private void revokeLocally(Collection<String> hashes) {
+    validTokens.invalidateAll(hashes);
+    for (String hash : hashes) {
+      revokedTokens.put(hash, Boolean.TRUE);
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.lets.security;
+
+import static com.lets.util.RedisNamespace.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레디스에 저장하는 refresh token
+ * 토큰 원문 대신 SHA-256 해시를 키(rt:{해시})로 유저 id 와 닉네임(유저 id:닉네임)을 저장하고, refresh token 만료 시간이 지나면 레디스가 지운다.
+ * access token 은 저장한 닉네임으로 만들어서 재발급할 때 DB 를 조회하지 않고, 닉네임을 바꾸면 유저의 모든 토큰에 저장한 닉네임을 바꾼다.
+ * 유저마다 로그인 중인 토큰 해시를 집합(rt:user:{유저 id})으로 모아두어 탈퇴할 때 모든 기기를 한번에 로그아웃한다.
+ * 만료되어 레디스가 지운 토큰 해시는 저장, 교체, 닉네임 변경 때 집합에서 빼서 집합이 로그인 중인 토큰 수만큼만 남도록 한다.
+ * 재발급할 때는 레디스 스크립트 하나로 이전 토큰을 새 토큰으로 교체하고, 교체된 토큰을 다시 사용하면 유저의 모든 토큰을 지운다.
+ * 지운 토큰은 RefreshTokenNearCache 에 기록해서 레디스에 묻지 않고 거절하고, 교체한 토큰은 모든 서버의 RefreshTokenNearCache 에서 뺀다.
+ * 레디스를 사용할 수 없을 때는 degradedMode 에 따라 교체하지 않고 이전 토큰으로 재발급한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenStore {
+  private static final long ROTATED = 1;
+  private static final long CONCURRENT = 2;
+  private static final long REUSED = 3;
+
+  private static final String SEPARATOR = ":";
+
+  private static final RedisScript<Long> SAVE_SCRIPT = createScript("scripts/save-refresh-token.lua", Long.class);
+  private static final RedisScript<List> ROTATE_SCRIPT = createScript("scripts/rotate-refresh-token.lua", List.class);
+  private static final RedisScript<Long> UPDATE_NICKNAME_SCRIPT = createScript("scripts/update-refresh-token-nickname.lua", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final RefreshTokenNearCache nearCache;
+
+  @Value("${app.refreshTokenExpirationInMs}")
+  private Long refreshTokenExpirationInMs;
+
+  @Value("${app.refreshTokenStore.concurrentWindowInMs:10000}")
+  private long concurrentWindowInMs;
+
+  @Value("${app.refreshTokenStore.degradedMode:SIGNATURE}")
+  private DegradedMode degradedMode;
+
+  /**
+   * refresh token 을 만료 시간까지 닉네임과 함께 저장하고 유저의 토큰 목록에 추가한다.
+   */
+  public void save(
+      String refreshToken,
+      long userId,
+      String nickname
+  ) {
+    save(refreshToken, userId, nickname, refreshTokenExpirationInMs);
+  }
+
+  /**
+   * @param nickname 닉네임을 모르는 이전 방식의 토큰이라면 null
+   */
+  void save(
+      String refreshToken,
+      long userId,
+      String nickname,
+      long ttlInMs
+  ) {
+    String hash = TokenHashes.sha256(refreshToken);
+    String userKey = REFRESH_TOKEN_USER.key(userId);
+
+    //레디스 스크립트 하나로 저장하면서 만료된 토큰은 유저의 토큰 목록에서 뺌
+    redisTemplate.execute(
+        SAVE_SCRIPT,
+        Arrays.asList(REFRESH_TOKEN.key(hash), userKey),
+        hash,
+        valueOf(userId, nickname),
+        Long.toString(ttlInMs),
+        Long.toString(refreshTokenExpirationInMs),
+        REFRESH_TOKEN.getPrefix()
+    );
+    nearCache.put(hash, userId);
+  }
+
+  /**
+   * 유효한 refresh token 을 지우고 새 refresh token 을 저장한 다음 앞으로 사용할 refresh token 과 저장한 닉네임을 반환한다. (레디스 호출 한번)
+   * 없는 토큰이거나 이미 교체된 토큰이라면 Optional.empty() 를 반환하고,
+   * 교체된 지 concurrentWindowInMs 가 지난 토큰을 다시 사용했다면 유저의 모든 토큰을 지운다.
+   * 레디스를 사용할 수 없다면 degradedMode 에 따라 이전 refresh token 을 그대로 반환한다.
+   *
+   * @param userId 서명을 확인한 refresh token 의 유저 id
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<RotatedRefreshToken> rotate(
+      String refreshToken,
+      String newRefreshToken,
+      long userId
+  ) {
+    String hash = TokenHashes.sha256(refreshToken);
+    if (nearCache.isRevoked(hash)) {
+      return Optional.empty();
+    }
+
+    String newHash = TokenHashes.sha256(newRefreshToken);
+    List<Object> result;
+    try {
+      result = redisTemplate.execute(
+          ROTATE_SCRIPT,
+          Arrays.asList(REFRESH_TOKEN.key(hash), REFRESH_TOKEN.key(newHash), REFRESH_TOKEN_ROTATED.key(hash)),
+          hash,
+          newHash,
+          Long.toString(refreshTokenExpirationInMs),
+          Long.toString(concurrentWindowInMs),
+          RefreshTokenNearCache.REVOKED_CHANNEL,
+          REFRESH_TOKEN.getPrefix(),
+          REFRESH_TOKEN_USER.getPrefix(),
+          RefreshTokenNearCache.INVALIDATED_CHANNEL
+      );
+    } catch (DataAccessException e) {
+      return rotateDegraded(refreshToken, hash, userId, e);
+    }
+
+    long status = (Long)result.get(0);
+    long storedUserId = (Long)result.get(1);
+    if (status == ROTATED && storedUserId == userId) {
+      nearCache.invalidate(hash);
+      nearCache.put(newHash, userId);
+      String nickname = (String)result.get(2);
+      return Optional.of(new RotatedRefreshToken(newRefreshToken, nickname.isEmpty() ? null : nickname));
+    }
+    if (status == CONCURRENT) {
+      log.info("refresh token already rotated by a concurrent request. userId: {}", storedUserId);
+    } else if (status == REUSED) {
+      log.warn("rotated refresh token reused, all refresh tokens revoked. userId: {}", storedUserId);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * refresh token 하나를 지운다. (로그아웃)
+   */
+  public void delete(String refreshToken) {
+    String hash = TokenHashes.sha256(refreshToken);
+    String key = REFRESH_TOKEN.key(hash);
+    String value = redisTemplate
+        .opsForValue()
+        .get(key);
+    if (value != null) {
+      redisTemplate
+          .opsForSet()
+          .remove(REFRESH_TOKEN_USER.key(userIdOf(value)), hash);
+    }
+    redisTemplate.delete(key);
+    nearCache.revoke(List.of(hash));
+  }
+
+  /**
+   * 유저의 모든 refresh token 을 지운다. (모든 기기에서 로그아웃)
+   */
+  public void deleteAll(long userId) {
+    String userKey = REFRESH_TOKEN_USER.key(userId);
+    Set<String> hashes = redisTemplate
+        .opsForSet()
+        .members(userKey);
+
+    List<String> keys = new ArrayList<>();
+    keys.add(userKey);
+    if (hashes != null) {
+      for (String hash : hashes) {
+        keys.add(REFRESH_TOKEN.key(hash));
+      }
+    }
+    redisTemplate.delete(keys);
+    if (hashes != null) {
+      nearCache.revoke(hashes);
+    }
+  }
+
+  /**
+   * 유저의 모든 refresh token 에 저장한 닉네임을 바꾼다. (레디스 호출 한번)
+   * 다른 기기에서도 다음 재발급부터 새 닉네임으로 access token 을 받는다.
+   * DB 에 닉네임을 저장한 뒤에 호출하므로 레디스를 사용할 수 없다면 예외를 던지지 않고, 다른 기기는 다시 로그인할 때까지 이전 닉네임을 사용한다.
+   */
+  public void updateNickname(
+      long userId,
+      String nickname
+  ) {
+    try {
+      redisTemplate.execute(
+          UPDATE_NICKNAME_SCRIPT,
+          Collections.singletonList(REFRESH_TOKEN_USER.key(userId)),
+          valueOf(userId, nickname),
+          REFRESH_TOKEN.getPrefix()
+      );
+    } catch (DataAccessException e) {
+      log.warn("refresh token nickname update failed. userId: {}", userId, e);
+    }
+  }
+
+  //레디스를 사용할 수 없을 때 교체하지 않고 이전 토큰을 계속 사용
+  private Optional<RotatedRefreshToken> rotateDegraded(
+      String refreshToken,
+      String hash,
+      long userId,
+      DataAccessException e
+  ) {
+    if (degradedMode == DegradedMode.OFF) {
+      throw e;
+    }
+    if (degradedMode == DegradedMode.CACHED && !Long.valueOf(userId).equals(nearCache.getUserId(hash))) {
+      log.warn("refresh token rotation failed and token is not cached. userId: {}", userId, e);
+      return Optional.empty();
+    }
+    log.warn("refresh token rotation failed, reusing current refresh token. mode: {}, userId: {}", degradedMode, userId, e);
+    return Optional.of(new RotatedRefreshToken(refreshToken, null));
+  }
+
+  //이전 방식으로 저장한 토큰은 유저 id 만 저장되어 있음
+  private static String valueOf(
+      long userId,
+      String nickname
+  ) {
+    if (nickname == null) {
+      return Long.toString(userId);
+    }
+    return userId + SEPARATOR + nickname;
+  }
+
+  private static String userIdOf(String value) {
+    int separator = value.indexOf(SEPARATOR);
+    return separator < 0 ? value : value.substring(0, separator);
+  }
+
+  private static <T> RedisScript<T> createScript(
+      String location,
+      Class<T> resultType
+  ) {
+    DefaultRedisScript<T> script = new DefaultRedisScript<>();
+    script.setLocation(new ClassPathResource(location));
+    script.setResultType(resultType);
+    return script;
+  }
+
+  /**
+   * 레디스를 사용할 수 없을 때 재발급 방식
+   * OFF: 재발급하지 않음, CACHED: 최근에 확인한 토큰만 재발급, SIGNATURE: 서명이 유효하고 지우지 않은 토큰이라면 재발급
+   * refresh token 은 access token 이 만료된 뒤에야 다시 사용하므로 CACHED 는 캐시 ttl 안에 다시 사용한 토큰만 재발급해서 대부분 로그아웃된다.
+   * 그래서 레디스 장애 중에도 로그인을 유지하는 SIGNATURE 를 기본으로 사용한다.
+   */
+  public enum DegradedMode {
+    OFF,
+    CACHED,
+    SIGNATURE
+  }
+}
@@ -0,0 +1,16 @@
+package com.lets.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 교체한 refresh token 과 레디스에 함께 저장한 닉네임
+ * 닉네임은 닉네임 없이 저장한 이전 토큰이거나 레디스를 사용할 수 없어 교체하지 않았다면 null 이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RotatedRefreshToken {
+  private final String refreshToken;
+
+  private final String nickname;
+}
@@ -0,0 +1,28 @@
+package com.lets.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 저장하는 SHA-256 해시
+ */
+final class TokenHashes {
+  private TokenHashes() {
+  }
+
+  static String sha256(String token) {
+    try {
+      byte[] digest = MessageDigest
+          .getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64
+          .getEncoder()
+          .withoutPadding()
+          .encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -35,9 +35,6 @@ public class UserPrincipal implements OAuth2User, UserDetails, Principal {
     this.authorities = authorities;
   }
 
-  /*
-  getAuthenticationFromJWT 사용
-   */
   public static UserPrincipal create(
       Long id,
       Collection<? extends GrantedAuthority> authorities
@@ -45,6 +42,36 @@ public class UserPrincipal implements OAuth2User, UserDetails, Principal {
     return new UserPrincipal(id, null, null, null, authorities);
   }
 
+  public static UserPrincipal create(
+      Long id,
+      String nickname,
+      Collection<? extends GrantedAuthority> authorities
+  ) {
+    return new UserPrincipal(id, nickname, null, null, authorities);
+  }
+
+  /*
+  JwtTokenProvider.getAuthentication 사용
+  토큰의 닉네임, 권한 클레임으로 만든다.
+   */
+  public static UserPrincipal create(JwtClaims claims) {
+    return create(claims, claims.getNickname());
+  }
+
+  /*
+  JwtTokenProvider.getAuthentication 사용
+  토큰의 권한 클레임과 레디스에 저장한 닉네임으로 만든다.
+   */
+  public static UserPrincipal create(
+      JwtClaims claims,
+      String nickname
+  ) {
+    List<GrantedAuthority> authorities = Collections.
+        singletonList(new SimpleGrantedAuthority(claims.getRole()));
+
+    return create(claims.getUserId(), nickname, authorities);
+  }
+
   /*
   테스트 사용
    */
@@ -2,14 +2,18 @@ package com.lets.service.comment;
 
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.lets.domain.comment.Comment;
 import com.lets.domain.comment.CommentRepository;
 import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.postCard.PostCardRepository;
 import com.lets.domain.user.User;
 import com.lets.exception.CustomException;
 import com.lets.exception.ErrorCode;
+import com.lets.service.post.PostChangedEvent;
 import com.lets.service.post.PostService;
 import com.lets.service.user.UserService;
 import com.lets.web.dto.comment.CommentResponseDto;
@@ -22,8 +26,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentService {
   private final CommentRepository commentRepository;
+  private final PostRepository postRepository;
+  private final PostCardRepository postCardRepository;
   private final UserService userService;
   private final PostService postService;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   //댓글 저장
   @Transactional
@@ -36,6 +43,9 @@ public class CommentService {
     Post post = postService.findOneById(postId);
     Comment comment = Comment.createComment(user, post, commentSaveRequestDto.getContent());
     Comment savedComment = commentRepository.save(comment);
+    postRepository.increaseCommentCount(post.getId());
+    postCardRepository.increaseCommentCount(post.getId());
+    applicationEventPublisher.publishEvent(PostChangedEvent.ofCounts(post, postService.findTagNames(post)));
 
     return CommentResponseDto.from(null, savedComment.getId(), user.getNickname(),
                                    savedComment.getContent(), savedComment.getCreatedDate()
@@ -64,7 +74,11 @@ public class CommentService {
   @Transactional
   public void delete(long commentId) {
     Comment comment = findById(commentId);
+    Post post = comment.getPost();
     commentRepository.delete(comment);
+    postRepository.decreaseCommentCount(post.getId());
+    postCardRepository.decreaseCommentCount(post.getId());
+    applicationEventPublisher.publishEvent(PostChangedEvent.ofCounts(post, postService.findTagNames(post)));
   }
 
   private Comment findById(long id) {
@@ -0,0 +1,96 @@
+package com.lets.service.likePost;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * INACTIVE 좋아요 정보 정리 작업
+ * 예전에는 글을 조회할 때마다 INACTIVE 좋아요 정보를 만들었지만 지금은 좋아요를 누를 때만 만든다.
+ * 좋아요 정보가 없으면 INACTIVE 로 보기 때문에 남아있는 INACTIVE 좋아요 정보는 id 순서로 chunkSize 만큼씩 지운다.
+ * 좋아요를 취소한 INACTIVE 좋아요 정보는 계속 생기므로 예전 정보를 정리하는 한번만 실행하고 레디스에 완료 표시를 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LikePostCleanupService {
+  private static final String DONE_KEY = "migration:likePost:inactive";
+
+  private final LikePostRepository likePostRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${app.likePostCleanup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.likePostCleanup.chunkSize:1000}")
+  private int chunkSize;
+
+  //정리를 마쳤거나 완료 표시를 확인했다면 더 실행하지 않음
+  private volatile boolean done;
+
+  /**
+   * 시작을 막지 않도록 시작 직후 스케줄러에서 한번 실행한다.
+   * 레디스나 DB 를 사용할 수 없어 실패하면 예외를 던지지 않고 retryDelayInMs 뒤에 다시 실행한다.
+   */
+  @Scheduled(
+      initialDelayString = "${app.likePostCleanup.initialDelayInMs:0}",
+      fixedDelayString = "${app.likePostCleanup.retryDelayInMs:600000}"
+  )
+  public void cleanup() {
+    if (!enabled || done) {
+      return;
+    }
+
+    try {
+      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))) {
+        deleteInactiveLikePosts();
+        stringRedisTemplate
+            .opsForValue()
+            .set(DONE_KEY, "done");
+      }
+      done = true;
+    } catch (DataAccessException e) {
+      log.warn("inactive like post cleanup failed, retrying later", e);
+    }
+  }
+
+  public void deleteInactiveLikePosts() {
+    long lastId = 0;
+    long deleted = 0;
+
+    while (true) {
+      List<Long> ids = likePostRepository.findIdsByStatus(
+          LikePostStatus.INACTIVE,
+          lastId,
+          PageRequest.of(0, chunkSize)
+      );
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      //chunk 마다 별도 트랜잭션으로 지워서 락을 오래 잡지 않도록 함
+      //조회 후 다시 좋아요를 누른 정보는 지우지 않도록 상태를 한번 더 확인
+      Integer count = transactionTemplate.execute(
+          status -> likePostRepository.deleteAllByIdInAndStatus(ids, LikePostStatus.INACTIVE));
+      if (count != null) {
+        deleted += count;
+      }
+      lastId = ids.get(ids.size() - 1);
+    }
+
+    log.info("deleteInactiveLikePosts deleted {} like posts", deleted);
+  }
+}
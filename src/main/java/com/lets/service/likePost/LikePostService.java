@@ -1,20 +1,30 @@
 package com.lets.service.likePost;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.lets.domain.likePost.LikePost;
 import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.Post;
+import com.lets.domain.postCard.PostCard;
 import com.lets.domain.postTechStack.PostTechStack;
 import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.user.User;
+import com.lets.exception.CustomException;
+import com.lets.exception.ErrorCode;
+import com.lets.service.postCard.PostCardService;
 import com.lets.service.user.UserService;
 import com.lets.web.dto.likepost.LikePostResponseDto;
+import com.lets.web.dto.likepost.LikePostStatusResponseDto;
+import com.lets.web.dto.post.PostResponseDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,19 +32,39 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Service
 public class LikePostService {
+  private static final int MAX_STATUS_SIZE = 100;
+
   private final UserService userService;
   private final PostTechStackRepository postTechStackRepository;
   private final LikePostRepository likePostRepository;
+  private final PostCardService postCardService;
 
   public List<LikePost> findAllByUser(User user) {
     return likePostRepository.findAllByUser(user);
   }
 
+  /**
+   * 좋아요 정보 저장
+   * 새 트랜잭션에서 저장하기 때문에 (유저, 글) unique 제약조건에 걸려도 호출한 트랜잭션은 롤백되지 않는다.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void createLikePost(
+      User user,
+      Post post
+  ) {
+    likePostRepository.saveAndFlush(LikePost.createLikePost(user, post));
+  }
+
 
   public List<LikePostResponseDto> findLikePosts(long userId) {
 
     User user = userService.findById(userId);
 
+    //목록 카드를 사용할 수 있다면 관심글과 카드를 한번에 조회
+    if (postCardService.isEnabled()) {
+      return findLikePostCards(user.getId());
+    }
+
     //likePost 조회
     List<LikePost> likePosts = likePostRepository.findAllByUser(user);
 
@@ -42,6 +72,89 @@ public class LikePostService {
     return findLikePostsTags(likePosts);
   }
 
+  /**
+   * 글 목록에 유저의 좋아요 상태를 표시한다.
+   * 목록의 글 id 로 좋아요한 글을 한번에 조회하고, 로그인하지 않았다면 그대로 반환한다.
+   */
+  @Transactional(readOnly = true)
+  public List<PostResponseDto> addLikePostStatuses(
+      Long userId,
+      List<PostResponseDto> posts
+  ) {
+    if (userId == null || posts == null || posts.isEmpty()) {
+      return posts;
+    }
+
+    Set<Long> likedPostIds = findLikedPostIds(userId, posts
+        .stream()
+        .map(PostResponseDto::getId)
+        .collect(Collectors.toList()));
+    if (likedPostIds.isEmpty()) {
+      return posts;
+    }
+
+    return posts
+        .stream()
+        .map(post -> likedPostIds.contains(post.getId()) ? post.withLikePostStatus(LikePostStatus.ACTIVE) : post)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 글 id 목록의 좋아요 상태를 요청 순서대로 조회한다.
+   */
+  @Transactional(readOnly = true)
+  public List<LikePostStatusResponseDto> findLikePostStatuses(
+      long userId,
+      List<Long> postIds
+  ) {
+    if (postIds == null || postIds.size() > MAX_STATUS_SIZE) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    if (postIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<Long> likedPostIds = findLikedPostIds(userId, postIds);
+    return postIds
+        .stream()
+        .map(postId -> LikePostStatusResponseDto.from(
+            postId,
+            likedPostIds.contains(postId) ? LikePostStatus.ACTIVE : LikePostStatus.INACTIVE
+        ))
+        .collect(Collectors.toList());
+  }
+
+  private Set<Long> findLikedPostIds(
+      long userId,
+      List<Long> postIds
+  ) {
+    return new HashSet<>(likePostRepository.findPostIdsByUserIdAndStatus(
+        userId,
+        new HashSet<>(postIds),
+        LikePostStatus.ACTIVE
+    ));
+  }
+
+  private List<LikePostResponseDto> findLikePostCards(long userId) {
+    return postCardService
+        .findLikePostCards(userId)
+        .stream()
+        .map(likePostCard -> {
+          PostCard postCard = likePostCard.getPostCard();
+          return LikePostResponseDto.from(
+              postCard.getPostId(),
+              postCard.getTitle(),
+              postCard.getExcerpt(),
+              postCard.getLikeCount(),
+              postCard.getViewCount(),
+              postCard.getStatus(),
+              likePostCard.getLikePostStatus(),
+              postCard.getTagNames()
+          );
+        })
+        .collect(Collectors.toList());
+  }
+
   private List<LikePostResponseDto> findLikePostsTags(List<LikePost> likePosts) {
 
     //Post 리스트 생성
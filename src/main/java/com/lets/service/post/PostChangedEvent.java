@@ -0,0 +1,66 @@
+package com.lets.service.post;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostStatus;
+
+import lombok.Getter;
+
+/**
+ * 글 목록에 보이는 정보(글, 태그, 모집 상태, 댓글 수, 좋아요 수)가 바뀌었을 때 발행하는 이벤트
+ * statuses, tags 에는 변경 전후의 값을 모두 담는다.
+ * countsOnly 는 좋아요 수, 댓글 수만 바뀐 이벤트로 글 내용, 태그, 모집 상태를 보는 곳에서는 무시할 수 있다.
+ */
+@Getter
+public class PostChangedEvent {
+  private final Long postId;
+
+  private final Set<PostStatus> statuses;
+
+  private final Set<String> tags;
+
+  private final boolean countsOnly;
+
+  private PostChangedEvent(
+      Long postId,
+      Set<PostStatus> statuses,
+      Set<String> tags,
+      boolean countsOnly
+  ) {
+    this.postId = postId;
+    this.statuses = statuses;
+    this.tags = tags;
+    this.countsOnly = countsOnly;
+  }
+
+  public static PostChangedEvent of(
+      Post post,
+      Collection<String> tags
+  ) {
+    return new PostChangedEvent(post.getId(), EnumSet.of(post.getStatus()), new HashSet<>(tags), false);
+  }
+
+  public static PostChangedEvent ofCounts(
+      Post post,
+      Collection<String> tags
+  ) {
+    return new PostChangedEvent(post.getId(), EnumSet.of(post.getStatus()), new HashSet<>(tags), true);
+  }
+
+  public static PostChangedEvent of(
+      Post post,
+      Collection<String> tags,
+      PostStatus previousStatus
+  ) {
+    return new PostChangedEvent(
+        post.getId(),
+        EnumSet.of(post.getStatus(), previousStatus),
+        new HashSet<>(tags),
+        false
+    );
+  }
+}
@@ -0,0 +1,67 @@
+package com.lets.service.post;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lets.domain.post.PostCommentCount;
+import com.lets.domain.post.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Post.commentCount 보정 작업
+ * 댓글 수는 댓글 저장/삭제 시 증감만 하기 때문에 직접 DB를 수정하는 등의 이유로 실제 댓글 수와 달라질 수 있다.
+ * 글 id 순서로 chunkSize 만큼씩 실제 댓글 수와 다른 글만 update 한 문장으로 수정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostCommentCountRepairService {
+  private final PostRepository postRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.commentCountRepair.chunkSize:1000}")
+  private int chunkSize;
+
+  @Scheduled(cron = "${app.commentCountRepair.cron:0 0 4 * * *}")
+  public void repairCommentCounts() {
+    long lastId = 0;
+    long repaired = 0;
+
+    while (true) {
+      List<PostCommentCount> chunk = postRepository.findCommentCounts(
+          lastId,
+          PageRequest.of(0, chunkSize)
+      );
+      if (chunk.isEmpty()) {
+        break;
+      }
+
+      //chunk 마다 별도 트랜잭션으로 처리해서 락을 오래 잡지 않도록 함
+      Integer count = transactionTemplate.execute(status -> repairChunk(chunk));
+      if (count != null) {
+        repaired += count;
+      }
+      lastId = chunk
+          .get(chunk.size() - 1)
+          .getId();
+    }
+
+    log.info("repairCommentCounts repaired {} posts", repaired);
+  }
+
+  private int repairChunk(List<PostCommentCount> chunk) {
+    List<Long> postIds = chunk
+        .stream()
+        .map(PostCommentCount::getId)
+        .collect(Collectors.toList());
+    return postRepository.repairCommentCounts(postIds);
+  }
+}
@@ -0,0 +1,246 @@
+package com.lets.service.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lets.domain.post.PostStatus;
+import com.lets.util.RedisNamespace;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostCursorResponseDto;
+import com.lets.web.dto.post.PostResponseDto;
+import com.lets.web.dto.post.PostSearchRequestDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 검색 결과 캐시
+ * (모집 상태, 정렬된 태그 목록, 태그 조건, 정렬 기준, 페이지 또는 커서, 페이지 크기)를 키로 검색 결과를 JSON 으로 저장한다.
+ * 검색 조건의 (모집 상태, 태그) 마다 인덱스 Set 에 캐시 키를 모아두고 글이 바뀌면 해당 글의 모집 상태, 태그에 걸리는 키만 지운다.
+ * Redis 를 사용할 수 없을 때는 DB 에서 바로 조회한다.
+ */
+@Slf4j
+@Service
+public class PostFeedCacheService {
+  private static final String KEY_PREFIX = RedisNamespace.FEED.getPrefix();
+  private static final String INDEX_PREFIX = RedisNamespace.FEED_INDEX.getPrefix();
+  private static final String ALL = "*";
+
+  private final PostService postService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter evictionCounter;
+
+  @Value("${app.feedCache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.feedCache.ttlInSeconds:60}")
+  private long ttlInSeconds;
+
+  public PostFeedCacheService(
+      PostService postService,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry
+  ) {
+    this.postService = postService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.hitCounter = Counter
+        .builder("cache.gets")
+        .tag("cache", "postFeed")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter
+        .builder("cache.gets")
+        .tag("cache", "postFeed")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    this.evictionCounter = Counter
+        .builder("cache.evictions")
+        .tag("cache", "postFeed")
+        .register(meterRegistry);
+  }
+
+  public List<PostResponseDto> searchPosts(
+      PostSearchRequestDto search,
+      Pageable pageable
+  ) {
+    if (!enabled) {
+      return postService.searchPosts(search, pageable);
+    }
+
+    String key = createKey(search, pageable, "page=" + pageable.getPageNumber());
+    return find(key, search, new TypeReference<List<PostResponseDto>>() {
+    }, () -> postService.searchPosts(search, pageable));
+  }
+
+  public PostCursorResponseDto searchPostsByCursor(
+      PostSearchRequestDto search,
+      String cursor,
+      Pageable pageable
+  ) {
+    if (!enabled) {
+      return postService.searchPostsByCursor(search, cursor, pageable);
+    }
+
+    String key = createKey(search, pageable, "cursor=" + cursor);
+    return find(key, search, new TypeReference<PostCursorResponseDto>() {
+    }, () -> postService.searchPostsByCursor(search, cursor, pageable));
+  }
+
+  /**
+   * 바뀐 글의 모집 상태, 태그에 걸리는 검색 결과를 지운다.
+   * 커밋 전에 지우면 다른 요청이 이전 데이터로 다시 캐시를 채울 수 있기 때문에 커밋 후에 지운다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void evict(PostChangedEvent event) {
+    if (!enabled) {
+      return;
+    }
+
+    List<String> indexKeys = new ArrayList<>();
+    for (String status : statusesOf(event.getStatuses())) {
+      indexKeys.add(INDEX_PREFIX + status + ":" + ALL);
+      for (String tag : event.getTags()) {
+        indexKeys.add(INDEX_PREFIX + status + ":" + tag);
+      }
+    }
+
+    try {
+      Set<String> keys = stringRedisTemplate
+          .opsForSet()
+          .union(indexKeys);
+      List<String> deleteKeys = new ArrayList<>(indexKeys);
+      if (keys != null) {
+        deleteKeys.addAll(keys);
+        evictionCounter.increment(keys.size());
+      }
+      stringRedisTemplate.delete(deleteKeys);
+    } catch (DataAccessException e) {
+      log.warn("post feed cache evict failed. postId={}", event.getPostId(), e);
+    }
+  }
+
+  private <T> T find(
+      String key,
+      PostSearchRequestDto search,
+      TypeReference<T> type,
+      Supplier<T> loader
+  ) {
+    try {
+      String cached = stringRedisTemplate
+          .opsForValue()
+          .get(key);
+      if (cached != null) {
+        hitCounter.increment();
+        return objectMapper.readValue(cached, type);
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("post feed cache get failed. key={}", key, e);
+      return loader.get();
+    }
+
+    missCounter.increment();
+    T result = loader.get();
+
+    try {
+      Duration ttl = Duration.ofSeconds(ttlInSeconds);
+      stringRedisTemplate
+          .opsForValue()
+          .set(key, objectMapper.writeValueAsString(result), ttl);
+
+      //검색 조건의 (모집 상태, 태그) 마다 키를 모아 둠
+      for (String indexKey : createIndexKeys(search)) {
+        stringRedisTemplate
+            .opsForSet()
+            .add(indexKey, key);
+        stringRedisTemplate.expire(indexKey, ttl);
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("post feed cache put failed. key={}", key, e);
+    }
+    return result;
+  }
+
+  private String createKey(
+      PostSearchRequestDto search,
+      Pageable pageable,
+      String position
+  ) {
+    return KEY_PREFIX
+        + statusOf(search) + ":"
+        + tagsOf(search) + ":"
+        + search.getMatch() + ":"
+        + PostCursor.sortOf(pageable.getSort()) + ":"
+        + position + ":"
+        + "size=" + pageable.getPageSize();
+  }
+
+  private List<String> createIndexKeys(PostSearchRequestDto search) {
+    String status = statusOf(search);
+    Set<String> tags = normalizeTags(search.getTags());
+    if (tags.isEmpty()) {
+      return List.of(INDEX_PREFIX + status + ":" + ALL);
+    }
+
+    List<String> indexKeys = new ArrayList<>();
+    for (String tag : tags) {
+      indexKeys.add(INDEX_PREFIX + status + ":" + tag);
+    }
+    return indexKeys;
+  }
+
+  private String tagsOf(PostSearchRequestDto search) {
+    Set<String> tags = normalizeTags(search.getTags());
+    if (tags.isEmpty()) {
+      return ALL;
+    }
+    return String.join(",", tags);
+  }
+
+  private String statusOf(PostSearchRequestDto search) {
+    if (search.getStatus() == null) {
+      return ALL;
+    }
+    return PostStatus
+        .valueOf(search.getStatus())
+        .name();
+  }
+
+  //모집 상태 조건이 없는 검색 결과에도 걸리기 때문에 ALL 을 함께 지움
+  private List<String> statusesOf(Set<PostStatus> statuses) {
+    List<String> result = new ArrayList<>();
+    result.add(ALL);
+    for (PostStatus status : statuses) {
+      result.add(status.name());
+    }
+    return result;
+  }
+
+  //태그 순서와 중복에 관계없이 같은 키를 사용하도록 정렬
+  private Set<String> normalizeTags(List<String> tags) {
+    if (tags == null) {
+      return new TreeSet<>();
+    }
+    return new TreeSet<>(tags);
+  }
+}
@@ -0,0 +1,235 @@
+package com.lets.service.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.lets.web.dto.post.PostRecommendRequestDto;
+import com.lets.web.dto.post.PostRecommendResponseDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추천 글 캐시
+ * 추천 결과를 메모리에 저장하고, 크기와 ttl 을 넘으면 Caffeine(W-TinyLFU)이 내보낸다.
+ * 추천 글 인덱스로 구한 결과는 요청 태그와 관계없으므로 글 id 만, DB 에서 구한 결과는 (글 id, 정렬된 요청 태그 목록)을 키로 사용한다.
+ * 조회한 유저와 관계없이 본인 글을 포함해 몇 개 더 구해두고, 꺼낸 뒤에 조회한 유저의 글을 거른다.
+ * 캐시 항목마다 추천 기준 태그(인덱스라면 글에 저장된 태그, DB 라면 요청 태그, 태그가 없다면 전체)와 추천 기준 글, 추천된 글을 의존 키로 모아두고,
+ * 글이 작성, 수정, 모집 상태 변경, 삭제되면 그 글의 태그와 글 id 에 걸리는 항목만 지운다.
+ * 좋아요 수, 댓글 수, 조회수는 추천 결과에 영향이 없거나 작아서 ttl 이 지나면 반영된다.
+ */
+@Service
+public class PostRecommendCacheService {
+  private static final String TAG_PREFIX = "tag:";
+  private static final String POST_PREFIX = "post:";
+  private static final String ALL_TAGS = TAG_PREFIX + "*";
+
+  //조회한 유저의 글을 걸러도 추천 글 수를 채울 수 있도록 더 구해두는 수
+  private static final int CANDIDATE_SIZE = PostService.RECOMMEND_SIZE * 2;
+
+  private final PostService postService;
+  private final boolean enabled;
+  private final Cache<Key, PostRecommendation> cache;
+
+  //의존 키 -> 캐시 키
+  private final ConcurrentHashMap<String, Set<Key>> dependents = new ConcurrentHashMap<>();
+
+  //추천 결과를 구하는 동안 지워진 항목이 있다면 이전 데이터로 구한 결과일 수 있으므로 저장하지 않음
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Counter invalidationCounter;
+
+  public PostRecommendCacheService(
+      PostService postService,
+      MeterRegistry meterRegistry,
+      @Value("${app.postRecommendCache.enabled:true}") boolean enabled,
+      @Value("${app.postRecommendCache.maximumSize:10000}") long maximumSize,
+      @Value("${app.postRecommendCache.ttlInSeconds:600}") long ttlInSeconds
+  ) {
+    this.postService = postService;
+    this.enabled = enabled;
+    this.cache = Caffeine
+        .newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+        .recordStats()
+        .executor(Runnable::run)
+        .<Key, PostRecommendation>removalListener(this::unregister)
+        .build();
+    this.invalidationCounter = Counter
+        .builder("cache.invalidations")
+        .tag("cache", "postRecommend")
+        .register(meterRegistry);
+
+    //cache.gets(hit, miss), cache.evictions, cache.size 등을 내보냄
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "postRecommend");
+  }
+
+  public List<PostRecommendResponseDto> recommendPosts(
+      Long userId,
+      long postId,
+      PostRecommendRequestDto postRecommendRequestDto
+  ) {
+    if (!enabled) {
+      return postService.recommendPosts(userId, postId, postRecommendRequestDto);
+    }
+
+    Key tagKey = new Key(postId, normalizeTags(postRecommendRequestDto.getTags()));
+    PostRecommendation recommendation = cache.getIfPresent(new Key(postId, null));
+    if (recommendation == null) {
+      recommendation = cache.getIfPresent(tagKey);
+    }
+    if (recommendation == null) {
+      recommendation = load(postId, postRecommendRequestDto, tagKey);
+    }
+
+    List<PostRecommendResponseDto> result = excludeUserPosts(recommendation.getPosts(), userId);
+    if (result.size() < PostService.RECOMMEND_SIZE && result.size() < recommendation
+        .getPosts()
+        .size()) {
+      //조회한 유저의 글을 거르고 나니 모자라다면 캐시를 쓰지 않고 다시 구함
+      return postService.recommendPosts(userId, postId, postRecommendRequestDto);
+    }
+    return result;
+  }
+
+  private PostRecommendation load(
+      long postId,
+      PostRecommendRequestDto postRecommendRequestDto,
+      Key tagKey
+  ) {
+    long currentGeneration = generation.get();
+    PostRecommendation recommendation = postService.recommendPostCandidates(
+        postId,
+        postRecommendRequestDto,
+        PostService.RECOMMEND_SIZE,
+        CANDIDATE_SIZE
+    );
+    Key key = recommendation.isFromIndex() ? new Key(postId, null) : tagKey;
+
+    //의존 키를 먼저 등록해야 저장 직후의 변경도 놓치지 않음
+    for (String dependency : dependenciesOf(key, recommendation)) {
+      dependents
+          .computeIfAbsent(dependency, k -> ConcurrentHashMap.newKeySet())
+          .add(key);
+    }
+    cache.put(key, recommendation);
+    if (generation.get() != currentGeneration) {
+      cache.invalidate(key);
+    }
+    return recommendation;
+  }
+
+  private List<PostRecommendResponseDto> excludeUserPosts(
+      List<PostRecommendResponseDto> posts,
+      Long userId
+  ) {
+    return posts
+        .stream()
+        .filter(post -> userId == null || !userId.equals(post.getUserId()))
+        .limit(PostService.RECOMMEND_SIZE)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 바뀐 글의 태그(변경 전후)와 글 id 에 걸리는 추천 결과를 지운다.
+   * 좋아요 수, 댓글 수만 바뀐 이벤트는 무시한다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void evict(PostChangedEvent event) {
+    if (!enabled || event.isCountsOnly()) {
+      return;
+    }
+
+    generation.incrementAndGet();
+
+    List<String> dependencies = new ArrayList<>();
+    dependencies.add(ALL_TAGS);
+    dependencies.add(POST_PREFIX + event.getPostId());
+    for (String tag : event.getTags()) {
+      dependencies.add(TAG_PREFIX + tag);
+    }
+
+    Set<Key> keys = new HashSet<>();
+    for (String dependency : dependencies) {
+      Set<Key> dependentKeys = dependents.remove(dependency);
+      if (dependentKeys != null) {
+        keys.addAll(dependentKeys);
+      }
+    }
+    cache.invalidateAll(keys);
+    invalidationCounter.increment(keys.size());
+  }
+
+  //캐시에서 빠진 항목을 의존 키 목록에서도 뺌
+  //같은 키로 다시 저장해서 빠진 경우는 새 항목이 의존 키를 이미 등록했으므로 건드리지 않음
+  private void unregister(
+      Key key,
+      PostRecommendation value,
+      RemovalCause cause
+  ) {
+    if (key == null || value == null || cause == RemovalCause.REPLACED) {
+      return;
+    }
+
+    for (String dependency : dependenciesOf(key, value)) {
+      dependents.computeIfPresent(dependency, (k, keys) -> {
+        keys.remove(key);
+        return keys.isEmpty() ? null : keys;
+      });
+    }
+  }
+
+  private List<String> dependenciesOf(
+      Key key,
+      PostRecommendation value
+  ) {
+    List<String> dependencies = new ArrayList<>();
+    if (value
+        .getTags()
+        .isEmpty()) {
+      dependencies.add(ALL_TAGS);
+    }
+    for (String tag : value.getTags()) {
+      dependencies.add(TAG_PREFIX + tag);
+    }
+    dependencies.add(POST_PREFIX + key.postId);
+    for (PostRecommendResponseDto post : value.getPosts()) {
+      dependencies.add(POST_PREFIX + post.getId());
+    }
+    return dependencies;
+  }
+
+  //태그 순서와 중복에 관계없이 같은 키를 사용하도록 정렬
+  private List<String> normalizeTags(List<String> tags) {
+    if (tags == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(new TreeSet<>(tags));
+  }
+
+  //인덱스로 구한 결과는 tags 가 null
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class Key {
+    private final long postId;
+    private final List<String> tags;
+  }
+}
@@ -0,0 +1,35 @@
+package com.lets.service.post;
+
+import java.util.List;
+
+import com.lets.web.dto.post.PostRecommendResponseDto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추천 글 캐시에 저장하는 추천 결과
+ * 추천 글 인덱스로 구했다면 요청 태그와 관계없이 추천 기준 글에 저장된 태그로 구한 결과이므로 그 태그를 함께 들고 있다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostRecommendation {
+  private final List<PostRecommendResponseDto> posts;
+  private final boolean fromIndex;
+  private final List<String> tags;
+
+  public static PostRecommendation ofIndex(
+      List<PostRecommendResponseDto> posts,
+      List<String> tags
+  ) {
+    return new PostRecommendation(posts, true, tags);
+  }
+
+  public static PostRecommendation ofRequest(
+      List<PostRecommendResponseDto> posts,
+      List<String> tags
+  ) {
+    return new PostRecommendation(posts, false, tags);
+  }
+}
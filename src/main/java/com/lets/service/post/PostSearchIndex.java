@@ -0,0 +1,351 @@
+package com.lets.service.post;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostSearchSource;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagId;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.tag.Tag;
+import com.lets.domain.tag.TagRepository;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 검색 인덱스
+ * 태그는 수십 개 뿐이라 글의 태그 목록을 64bit 마스크 하나로 표현할 수 있다.
+ * 글마다 (id, 태그 마스크, 모집 상태, 작성일, 조회수)를 배열에 들고 있다가 검색 조건과 정렬에 맞는 글 id 페이지를 DB 없이 구한다.
+ * PostChangedEvent 로 바뀐 글만 다시 읽고, 이벤트가 없는 조회수는 주기적으로 전체를 다시 읽어 맞춘다.
+ * 태그가 64개를 넘는 등 인덱스를 사용할 수 없을 때는 Optional.empty() 를 반환하고 DB 에서 검색한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostSearchIndex extends RebuildableIndex {
+  private static final int MAX_TAGS = Long.SIZE;
+  private static final byte DELETED = -1;
+  private static final byte ANY_STATUS = -2;
+
+  private final PostRepository postRepository;
+  private final PostTechStackRepository postTechStackRepository;
+  private final TagRepository tagRepository;
+
+  @Value("${app.postIndex.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.postIndex.chunkSize:1000}")
+  private int chunkSize;
+
+  private volatile Map<String, Integer> tagBits = new HashMap<>();
+  private volatile Map<Long, Integer> tagIdBits = new HashMap<>();
+  private Map<Long, Integer> slots = new HashMap<>();
+  private int size;
+  private long[] ids = new long[0];
+  private long[] tagMasks = new long[0];
+  private byte[] statuses = new byte[0];
+  private long[] createdDates = new long[0];
+  private long[] viewCounts = new long[0];
+
+  @Scheduled(fixedDelayString = "${app.postIndex.rebuildDelayInMs:300000}")
+  public void scheduledRebuild() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  @Override
+  protected boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * DB 의 모든 글을 글 id 순서로 chunkSize 만큼씩 다시 읽어 인덱스를 새로 만든다.
+   */
+  @Override
+  protected void build() {
+    List<Tag> tags = tagRepository.findAll();
+    if (tags.size() > MAX_TAGS) {
+      log.warn("post search index disabled. tag count {} exceeds {}", tags.size(), MAX_TAGS);
+      ready = false;
+      return;
+    }
+
+    Map<String, Integer> newTagBits = new HashMap<>();
+    Map<Long, Integer> newTagIdBits = new HashMap<>();
+    tags.sort(Comparator.comparing(Tag::getId));
+    for (Tag tag : tags) {
+      newTagIdBits.put(tag.getId(), newTagBits.size());
+      newTagBits.put(tag.getName(), newTagBits.size());
+    }
+
+    //글 내용은 읽지 않고 인덱스에 필요한 값만 읽음
+    List<PostSearchSource> posts = new ArrayList<>();
+    Map<Long, Long> masks = new HashMap<>();
+    long lastId = 0;
+    while (true) {
+      List<PostSearchSource> chunk = postRepository.findSearchSources(lastId, PageRequest.of(0, chunkSize));
+      if (chunk.isEmpty()) {
+        break;
+      }
+
+      posts.addAll(chunk);
+      List<Long> postIds = chunk
+          .stream()
+          .map(PostSearchSource::getId)
+          .collect(Collectors.toList());
+      for (PostTagId postTagId : postTechStackRepository.findTagIdsByPostIds(postIds)) {
+        Integer bit = newTagIdBits.get(postTagId.getTagId());
+        if (bit != null) {
+          masks.merge(postTagId.getPostId(), 1L << bit, (a, b) -> a | b);
+        }
+      }
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+      lastId = chunk
+          .get(chunk.size() - 1)
+          .getId();
+    }
+
+    replace(() -> {
+      tagBits = newTagBits;
+      tagIdBits = newTagIdBits;
+      slots = new HashMap<>();
+      size = 0;
+      int capacity = Math.max(16, posts.size());
+      ids = new long[capacity];
+      tagMasks = new long[capacity];
+      statuses = new byte[capacity];
+      createdDates = new long[capacity];
+      viewCounts = new long[capacity];
+      for (PostSearchSource post : posts) {
+        put(post, masks.getOrDefault(post.getId(), 0L));
+      }
+    });
+  }
+
+  /**
+   * 검색 조건에 맞는 글 id 페이지를 정렬 순서대로 구한다.
+   * 커서가 있다면 (정렬 기준 값, 글 id)가 커서보다 뒤에 있는 글만 대상으로 한다.
+   */
+  public Optional<List<Long>> search(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  ) {
+    if (!enabled || !ready) {
+      return Optional.empty();
+    }
+
+    byte status = search.getStatus() == null ? ANY_STATUS : (byte)PostStatus
+        .valueOf(search.getStatus())
+        .ordinal();
+    boolean byViewCount = PostCursor
+        .sortOf(pageable.getSort())
+        .equals(PostCursor.VIEW_COUNT);
+    long offset = cursor == null ? pageable.getOffset() : 0;
+    int limit = (int)Math.min(Integer.MAX_VALUE - 1, offset + pageable.getPageSize());
+
+    lock
+        .readLock()
+        .lock();
+    try {
+      long[] keys = byViewCount ? viewCounts : createdDates;
+      long tagMask = 0;
+      List<String> tags = search.getTags();
+      boolean hasTags = tags != null && !tags.isEmpty();
+      if (hasTags) {
+        for (String tag : tags) {
+          Integer bit = tagBits.get(tag);
+          if (bit != null) {
+            tagMask |= 1L << bit;
+          } else if (search.getMatch() == TagMatch.ALL) {
+            //없는 태그가 모두 달린 글은 없음
+            return Optional.of(Collections.emptyList());
+          }
+        }
+      }
+
+      long cursorKey = 0;
+      long cursorId = 0;
+      if (cursor != null) {
+        cursorKey = byViewCount ? cursor.getViewCount() : toKey(cursor.getCreatedDate());
+        cursorId = cursor.getId();
+      }
+
+      //정렬 순서상 가장 뒤에 있는 글이 head 에 오도록 해서 limit 개의 앞쪽 글만 남김
+      Comparator<Integer> order = (a, b) -> compare(keys, a, b);
+      PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, 1024), order.reversed());
+
+      for (int slot = 0; slot < size; slot++) {
+        byte slotStatus = statuses[slot];
+        if (slotStatus == DELETED || (status != ANY_STATUS && slotStatus != status)) {
+          continue;
+        }
+        if (hasTags && !matchTags(tagMasks[slot], tagMask, search.getMatch())) {
+          continue;
+        }
+        if (cursor != null && !isAfter(keys[slot], ids[slot], cursorKey, cursorId)) {
+          continue;
+        }
+
+        if (top.size() < limit) {
+          top.add(slot);
+        } else if (order.compare(slot, top.peek()) < 0) {
+          top.poll();
+          top.add(slot);
+        }
+      }
+
+      List<Integer> sorted = new ArrayList<>(top);
+      sorted.sort(order);
+
+      List<Long> result = new ArrayList<>();
+      for (int i = (int)Math.min(offset, sorted.size()); i < sorted.size(); i++) {
+        result.add(ids[sorted.get(i)]);
+      }
+      return Optional.of(result);
+    } finally {
+      lock
+          .readLock()
+          .unlock();
+    }
+  }
+
+  @Override
+  protected void reload(Long postId) {
+    Optional<PostSearchSource> post = postRepository.findSearchSourceById(postId);
+    long mask = 0;
+    boolean unknownTag = false;
+    if (post.isPresent()) {
+      for (PostTagId postTagId : postTechStackRepository.findTagIdsByPostIds(Collections.singletonList(postId))) {
+        Integer bit = tagIdBits.get(postTagId.getTagId());
+        if (bit == null) {
+          unknownTag = true;
+        } else {
+          mask |= 1L << bit;
+        }
+      }
+    }
+
+    lock
+        .writeLock()
+        .lock();
+    try {
+      if (unknownTag) {
+        //인덱스를 만든 뒤 추가된 태그는 다시 만들 때까지 DB 에서 검색
+        ready = false;
+        return;
+      }
+      if (post.isPresent()) {
+        put(post.get(), mask);
+      } else {
+        remove(postId);
+      }
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+
+  private void put(
+      PostSearchSource post,
+      long mask
+  ) {
+    Integer slot = slots.get(post.getId());
+    if (slot == null) {
+      if (size == ids.length) {
+        grow();
+      }
+      slot = size++;
+      slots.put(post.getId(), slot);
+    }
+    ids[slot] = post.getId();
+    tagMasks[slot] = mask;
+    statuses[slot] = (byte)post
+        .getStatus()
+        .ordinal();
+    createdDates[slot] = toKey(post.getCreatedDate());
+    viewCounts[slot] = post.getViewCount();
+  }
+
+  private void remove(Long postId) {
+    Integer slot = slots.remove(postId);
+    if (slot != null) {
+      statuses[slot] = DELETED;
+    }
+  }
+
+  private void grow() {
+    int capacity = Math.max(16, ids.length * 2);
+    ids = Arrays.copyOf(ids, capacity);
+    tagMasks = Arrays.copyOf(tagMasks, capacity);
+    statuses = Arrays.copyOf(statuses, capacity);
+    createdDates = Arrays.copyOf(createdDates, capacity);
+    viewCounts = Arrays.copyOf(viewCounts, capacity);
+  }
+
+  //정렬 기준 값 내림차순, 같다면 글 id 내림차순 (DB 검색과 같은 순서)
+  private int compare(
+      long[] keys,
+      int a,
+      int b
+  ) {
+    int result = Long.compare(keys[b], keys[a]);
+    if (result != 0) {
+      return result;
+    }
+    return Long.compare(ids[b], ids[a]);
+  }
+
+  private boolean matchTags(
+      long postMask,
+      long tagMask,
+      TagMatch match
+  ) {
+    if (match == TagMatch.ALL) {
+      return (postMask & tagMask) == tagMask;
+    }
+    return (postMask & tagMask) != 0;
+  }
+
+  private boolean isAfter(
+      long key,
+      long id,
+      long cursorKey,
+      long cursorId
+  ) {
+    return key < cursorKey || (key == cursorKey && id < cursorId);
+  }
+
+  //DB 에 저장되는 정밀도에 맞춰 마이크로초 단위로 비교
+  private long toKey(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      return 0;
+    }
+    return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+  }
+}
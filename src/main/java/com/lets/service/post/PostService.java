@@ -2,14 +2,24 @@ package com.lets.service.post;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.lets.domain.comment.CommentRepository;
 import com.lets.domain.likePost.LikePost;
@@ -18,19 +28,26 @@ import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.Post;
 import com.lets.domain.post.PostRepository;
 import com.lets.domain.post.PostStatus;
+import com.lets.domain.postCard.PostCard;
+import com.lets.domain.postTechStack.PostTagName;
 import com.lets.domain.postTechStack.PostTechStack;
 import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.tag.Tag;
 import com.lets.domain.tag.TagRepository;
 import com.lets.domain.user.User;
+import com.lets.domain.userTechStack.UserTechStackRepository;
 import com.lets.exception.CustomException;
 import com.lets.exception.ErrorCode;
+import com.lets.service.likePost.LikePostService;
+import com.lets.service.postCard.PostCardService;
 import com.lets.service.user.UserService;
 import com.lets.util.CloudinaryUtil;
 import com.lets.web.dto.comment.CommentResponseDto;
 import com.lets.web.dto.comment.CommentSearchRequestDto;
 import com.lets.web.dto.likepost.ChangeLikePostStatusResponseDto;
 import com.lets.web.dto.post.PostCommentResponseDto;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostCursorResponseDto;
 import com.lets.web.dto.post.PostRecommendRequestDto;
 import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
@@ -44,15 +61,30 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Service
 public class PostService {
+  public static final int RECOMMEND_SIZE = 4;
+  private static final int USER_RECOMMEND_SIZE = 20;
+
   private final LikePostRepository likePostRepository;
   private final PostTechStackRepository postTechStackRepository;
   private final PostRepository postRepository;
 
   private final UserService userService;
+  private final LikePostService likePostService;
 
   private final TagRepository tagRepository;
   private final CloudinaryUtil cloudinaryUtil;
   private final CommentRepository commentRepository;
+  private final ApplicationEventPublisher applicationEventPublisher;
+  private final PostSearchIndex postSearchIndex;
+  private final PostCardService postCardService;
+  private final PostTextIndex postTextIndex;
+  private final PostViewCounter postViewCounter;
+  private final PostSimilarityIndex postSimilarityIndex;
+  private final PostTagRankIndex postTagRankIndex;
+  private final UserTechStackRepository userTechStackRepository;
+
+  @Value("${app.viewCounter.countAnonymous:true}")
+  private boolean countAnonymousViews;
 
   public Post findOneById(long id) {
     return postRepository
@@ -64,20 +96,105 @@ public class PostService {
       PostSearchRequestDto search,
       Pageable pageable
   ) {
+    //목록 카드를 사용할 수 있다면 카드 테이블만 조회
+    if (postCardService.isEnabled()) {
+      List<PostCard> postCards = postSearchIndex
+          .search(search, null, pageable)
+          .map(postCardService::findPostCardsByIds)
+          .orElseGet(() -> postCardService.findPostCards(search, null, pageable));
+      return createPostCardResponseDtos(postCards);
+    }
 
-    //postTechStack 한번에 구해와서 애플리케이션에서 각 post 의 태그 정보 조립
-    List<PostTechStack> postTechStacks = postTechStackRepository.findPostTechStacks(
-        search,
-        pageable
-    );
+    //조건에 맞는 글 페이지를 먼저 구하고 글들의 태그 정보는 한번에 조회
+    //검색 인덱스를 사용할 수 있다면 인덱스에서 구한 글 id 로 글을 조회
+    List<Post> posts = postSearchIndex
+        .search(search, null, pageable)
+        .map(this::findPostsByIds)
+        .orElseGet(() -> postTechStackRepository.findPosts(search, pageable));
 
     //각 post 의 태그 정보 조립
-    return findPostsTags(postTechStacks);
+    return findPostsWithTags(posts);
+  }
+
+  public PostCursorResponseDto searchPostsByCursor(
+      PostSearchRequestDto search,
+      String cursor,
+      Pageable pageable
+  ) {
+    String sort = PostCursor.sortOf(pageable.getSort());
+    PostCursor postCursor = PostCursor.decode(cursor);
+
+    //다른 정렬 기준으로 발급된 커서는 사용할 수 없음
+    if (postCursor != null && !postCursor
+        .getSort()
+        .equals(sort)) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+
+    if (postCardService.isEnabled()) {
+      List<PostCard> postCards = postSearchIndex
+          .search(search, postCursor, pageable)
+          .map(postCardService::findPostCardsByIds)
+          .orElseGet(() -> postCardService.findPostCards(search, postCursor, pageable));
+
+      String nextCursor = null;
+      if (postCards.size() == pageable.getPageSize()) {
+        nextCursor = PostCursor
+            .of(sort, postCards.get(postCards.size() - 1))
+            .encode();
+      }
+      return PostCursorResponseDto.from(createPostCardResponseDtos(postCards), nextCursor);
+    }
+
+    //커서 이후의 글을 먼저 구한 뒤 글들의 태그 정보는 한번에 조회
+    List<Post> posts = postSearchIndex
+        .search(search, postCursor, pageable)
+        .map(this::findPostsByIds)
+        .orElseGet(() -> postTechStackRepository.findPostsByCursor(search, postCursor, pageable));
+
+    //페이지가 가득 찼을 때만 다음 커서 발급
+    String nextCursor = null;
+    if (posts.size() == pageable.getPageSize()) {
+      nextCursor = PostCursor
+          .of(sort, posts.get(posts.size() - 1))
+          .encode();
+    }
+
+    return PostCursorResponseDto.from(findPostsWithTags(posts), nextCursor);
+  }
+
+  /**
+   * 제목, 본문 키워드 검색
+   * 키워드 검색 인덱스에서 BM25 점수 순서로 글 id 페이지를 구하고, 인덱스를 사용할 수 없다면 DB 에서 최신순으로 검색한다.
+   */
+  public List<PostResponseDto> searchPostsByKeyword(
+      String keyword,
+      PostSearchRequestDto search,
+      Pageable pageable
+  ) {
+    if (!StringUtils.hasText(keyword)) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    Optional<List<Long>> ids = postTextIndex.search(keyword, search, pageable);
+
+    if (postCardService.isEnabled() && ids.isPresent()) {
+      return createPostCardResponseDtos(postCardService.findPostCardsByIds(ids.get()));
+    }
+
+    List<Post> posts = ids
+        .map(this::findPostsByIds)
+        .orElseGet(() -> postTechStackRepository.findPostsByKeyword(keyword.trim(), search, pageable));
+    return findPostsWithTags(posts);
   }
 
   public List<PostResponseDto> findUserPosts(long userId) {
     User user = userService.findById(userId);
 
+    if (postCardService.isEnabled()) {
+      return createPostCardResponseDtos(postCardService.findUserPostCards(user.getId()));
+    }
+
     //postTechStack 한번에 구해와서 애플리케이션에서 각 post 의 태그 정보 조립
     List<PostTechStack> postTechStacks = postTechStackRepository.findAllByUser(user);
 
@@ -112,6 +229,9 @@ public class PostService {
 
     List<String> tagNames = createTagNames(tags);
 
+    postCardService.save(post, tagNames);
+    applicationEventPublisher.publishEvent(PostChangedEvent.of(post, tagNames));
+
     return PostResponseDto.from(
         profile,
         post.getId(),
@@ -121,7 +241,7 @@ public class PostService {
         post.getViewCount(),
         post.getStatus(),
         tagNames,
-        0l
+        post.getCommentCount()
     );
   }
 
@@ -138,6 +258,9 @@ public class PostService {
       throw new CustomException(ErrorCode.UNAUTHORIZED_USER);
     }
 
+    //수정 전 태그에 걸린 검색 결과도 지워야 하므로 미리 구해 둠
+    Set<String> changedTags = new HashSet<>(findTagNames(post));
+
     post.change(postUpdateRequestDto.getTitle(), postUpdateRequestDto.getContent());
     List<Tag> tags = tagRepository.findAllByNameIn(postUpdateRequestDto.getTags());
 
@@ -153,7 +276,10 @@ public class PostService {
         .map(tag -> tag.getName())
         .collect(Collectors.toList());
 
-    long commentCount = commentRepository.countByPost(post);
+    postCardService.update(post, tagsNames);
+
+    changedTags.addAll(tagsNames);
+    applicationEventPublisher.publishEvent(PostChangedEvent.of(post, changedTags));
 
     return PostResponseDto.from(
         profile,
@@ -164,7 +290,7 @@ public class PostService {
         post.getViewCount(),
         post.getStatus(),
         tagsNames,
-        commentCount
+        post.getCommentCount()
     );
   }
 
@@ -180,19 +306,30 @@ public class PostService {
       throw new CustomException(ErrorCode.UNAUTHORIZED_USER);
     }
 
+    PostChangedEvent postChangedEvent = PostChangedEvent.of(post, findTagNames(post));
+
     postTechStackRepository.deleteAllByPost(Arrays.asList(post));
     likePostRepository.deleteAllByPost(Collections.singletonList(post));
     commentRepository.deleteAllByPost(post);
+    postCardService.delete(post.getId());
     postRepository.delete(post);
+
+    applicationEventPublisher.publishEvent(postChangedEvent);
   }
 
-  @Transactional
+  //글 상세 조회는 쓰지 않음 (조회수는 PostViewCounter 가 따로 반영)
   public PostCommentResponseDto findById(
       Long userId,
       long postId
   ) {
     Post post = findOneById(postId);
 
+    //조회수는 버퍼에 모아뒀다가 한번에 반영하고, 아직 반영하지 않은 조회수를 더해서 보여줌
+    if (userId != null || countAnonymousViews) {
+      postViewCounter.increase(postId);
+    }
+    long viewCount = post.getViewCount() + postViewCounter.pendingCount(postId);
+
     String profile = cloudinaryUtil.findFileURL(post
                                                     .getUser()
                                                     .getPublicId());
@@ -228,13 +365,14 @@ public class PostService {
           profile,
           post.getId(),
           post.getLikeCount(),
-          post.getViewCount(),
+          viewCount,
           tags,
           post.getStatus(),
           post.getTitle(),
           post.getContent(),
           LikePostStatus.INACTIVE,
           post.getCreatedDate(),
+          post.getCommentCount(),
           comments,
           post
               .getUser()
@@ -242,25 +380,26 @@ public class PostService {
       );
     }
 
-    User user = userService.findById(userId);
-    LikePost likePost = likePostRepository
+    userService.findById(userId);
+
+    //좋아요를 누른 적 없다면 좋아요 상태는 INACTIVE
+    LikePostStatus likePostStatus = likePostRepository
         .findByUserIdAndPostId(userId, postId)
-        .orElseGet(() -> {
-          LikePost likePostCreate = LikePost.createLikePost(user, post);
-          return likePostRepository.save(likePostCreate);
-        });
+        .map(LikePost::getStatus)
+        .orElse(LikePostStatus.INACTIVE);
 
     return PostCommentResponseDto.from(
         profile,
         post.getId(),
         post.getLikeCount(),
-        post.getViewCount(),
+        viewCount,
         tags,
         post.getStatus(),
         post.getTitle(),
         post.getContent(),
-        likePost.getStatus(),
+        likePostStatus,
         post.getCreatedDate(),
+        post.getCommentCount(),
         comments,
         post
             .getUser()
@@ -273,15 +412,62 @@ public class PostService {
       long userId,
       long postId
   ) {
+    //좋아요를 처음 누를 때 좋아요 정보를 만듦
     LikePost likePost = likePostRepository
         .findByUserIdAndPostId(userId, postId)
-        .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        .orElseGet(() -> createLikePost(userId, postId));
+
+    //글 row 락은 트랜잭션 마지막에 잡아서 같은 글의 좋아요 요청끼리 기다리는 시간을 줄임
+    Post post = likePost.getPost();
+    List<String> tags = findTagNames(post);
 
-    likePost.changeLikeStatus();
+    LikePostStatus status = toggleLikePost(likePost, postId);
+    if (status == null) {
+      //그 사이 정리 작업이 INACTIVE 좋아요 정보를 지웠다면 INACTIVE 로 보고 좋아요 정보를 다시 만들어서 상태를 바꿈
+      status = toggleLikePost(createLikePost(userId, postId), postId);
+    }
 
-    return ChangeLikePostStatusResponseDto.of(likePost
-                                                  .getPost()
-                                                  .getLikeCount(), likePost.getStatus());
+    applicationEventPublisher.publishEvent(PostChangedEvent.ofCounts(post, tags));
+
+    return ChangeLikePostStatusResponseDto.of(postRepository.findLikeCountById(postId), status);
+  }
+
+  //읽은 상태에서 반대 상태로 바뀔 때만 좋아요 수를 더하고, 동시에 다른 요청이 먼저 바꿨다면 바뀐 상태를 그대로 반환
+  //좋아요 수는 엔티티에서 읽고 쓰지 않고 DB 에서 직접 더해서 동시에 눌러도 유실되지 않도록 함
+  //좋아요 정보가 그 사이 지워졌다면 null 을 반환
+  private LikePostStatus toggleLikePost(
+      LikePost likePost,
+      long postId
+  ) {
+    LikePostStatus status = likePost
+        .getStatus()
+        .toggle();
+    if (likePostRepository.changeStatus(likePost.getId(), likePost.getStatus(), status) == 1) {
+      postRepository.updateLikeCount(postId, status.likeCountDelta());
+      postCardService.updateLikeCount(postId, status.likeCountDelta());
+      return status;
+    }
+
+    return likePostRepository.findStatusById(likePost.getId());
+  }
+
+  //같은 글에 동시에 좋아요를 처음 누르면 (유저, 글) unique 제약조건 때문에 하나만 저장됨
+  //저장은 새 트랜잭션에서 해서 제약조건에 걸려도 이 트랜잭션은 그대로 쓰고, 먼저 저장된 좋아요 정보를 다시 읽어서 상태를 바꿈
+  private LikePost createLikePost(
+      long userId,
+      long postId
+  ) {
+    User user = userService.findById(userId);
+    Post post = findOneById(postId);
+    try {
+      likePostService.createLikePost(user, post);
+    } catch (DataIntegrityViolationException e) {
+      //다른 요청이 먼저 저장한 좋아요 정보를 사용
+    }
+
+    return likePostRepository
+        .findForUpdateByUserIdAndPostId(userId, postId)
+        .orElseThrow(() -> new CustomException(ErrorCode.DUPLICATE_LIKE_POST));
   }
 
   public List<PostRecommendResponseDto> recommendPosts(
@@ -289,44 +475,72 @@ public class PostService {
       long postId,
       PostRecommendRequestDto postRecommendRequestDto
   ) {
-    List<PostTechStack> recommendedPosts = postTechStackRepository.findRecommendPosts(
-        postRecommendRequestDto,
-        userId,
-        postId
+    //미리 구해둔 태그 유사도 순서로 추천하고, 인덱스로 채우지 못하면
+    //태그가 겹치는 글을 먼저, 모자라면 조회수가 많은 글로 채워서 한번에 조회
+    return postSimilarityIndex
+        .recommend(postId, userId, RECOMMEND_SIZE)
+        .orElseGet(() -> postTechStackRepository.findRecommendPosts(
+            postRecommendRequestDto,
+            userId,
+            postId,
+            RECOMMEND_SIZE
+        ));
+  }
+
+  /**
+   * 추천 글 캐시에 사용
+   * 조회한 유저와 관계없이 글마다 같은 결과를 저장할 수 있도록 본인 글을 거르지 않고 minSize 개 이상 maxSize 개까지 구한다.
+   * 인덱스로 구했다면 글에 저장된 태그를, DB 에서 구했다면 요청 태그를 함께 반환한다.
+   */
+  public PostRecommendation recommendPostCandidates(
+      long postId,
+      PostRecommendRequestDto postRecommendRequestDto,
+      int minSize,
+      int maxSize
+  ) {
+    Optional<List<PostRecommendResponseDto>> posts = postSimilarityIndex.recommend(postId, null, minSize, maxSize);
+    if (posts.isPresent()) {
+      List<String> tags = postTechStackRepository
+          .findTagNamesByPostIds(Collections.singletonList(postId))
+          .stream()
+          .map(PostTagName::getTagName)
+          .collect(Collectors.toList());
+      return PostRecommendation.ofIndex(posts.get(), tags);
+    }
+
+    return PostRecommendation.ofRequest(
+        postTechStackRepository.findRecommendPosts(postRecommendRequestDto, null, postId, maxSize),
+        postRecommendRequestDto.getTags() == null ? Collections.emptyList() : postRecommendRequestDto.getTags()
     );
+  }
 
-    LinkedHashSet<Post> posts = recommendedPosts
+  /**
+   * 유저 관심 태그 기반 추천 글 조회
+   * 관심 태그 추천 글 인덱스에서 겹치는 태그 수, 최신순, 인기순을 함께 본 순서로 구하고,
+   * 인덱스를 사용할 수 없다면 DB 에서 겹치는 태그 수, 조회수 순서로 구한다.
+   */
+  public List<PostResponseDto> recommendUserPosts(long userId) {
+    User user = userService.findById(userId);
+    List<String> tags = userTechStackRepository
+        .findAllByUser(user)
         .stream()
-        .map(PostTechStack::getPost)
-        .filter(p -> p
-            .getUser()
-            .getId() != userId)
-        .collect(Collectors.toCollection(LinkedHashSet::new));
+        .map(userTechStack -> userTechStack
+            .getTag()
+            .getName())
+        .collect(Collectors.toList());
 
-    if (posts.size() < 4) {
-      List<PostTechStack> recommendedPost2 = postTechStackRepository.findRecommendPosts(new PostRecommendRequestDto(
-          new ArrayList<>()), userId, postId);
-      LinkedHashSet<Post> collect = recommendedPost2
-          .stream()
-          .map(PostTechStack::getPost)
-          .collect(Collectors.toCollection(LinkedHashSet::new));
-      for (Post post : collect) {
-        posts.add(post);
-        if (posts.size() >= 4) {
-          break;
-        }
-      }
-    }
-    List<PostRecommendResponseDto> list = new ArrayList<>();
+    List<Long> ids = postTagRankIndex
+        .recommend(tags, user.getId(), USER_RECOMMEND_SIZE)
+        .orElseGet(() -> postTechStackRepository
+            .findRecommendPosts(new PostRecommendRequestDto(tags), user.getId(), null, USER_RECOMMEND_SIZE)
+            .stream()
+            .map(PostRecommendResponseDto::getId)
+            .collect(Collectors.toList()));
 
-    for (Post post : posts) {
-      list.add(PostRecommendResponseDto.PostRecommendToDto(post.getId(), post.getTitle()));
-      if (list.size() >= 4) {
-        break;
-      }
+    if (postCardService.isEnabled()) {
+      return createPostCardResponseDtos(postCardService.findPostCardsByIds(ids));
     }
-
-    return list;
+    return findPostsWithTags(findPostsByIds(ids));
   }
 
   @Transactional
@@ -341,7 +555,23 @@ public class PostService {
       throw new CustomException(ErrorCode.UNAUTHORIZED_USER);
     }
 
-    return post.changeStatus();
+    PostStatus previousStatus = post.getStatus();
+    PostStatus status = post.changeStatus();
+    postCardService.updateStatus(post);
+
+    applicationEventPublisher.publishEvent(PostChangedEvent.of(post, findTagNames(post), previousStatus));
+
+    return status;
+  }
+
+  public List<String> findTagNames(Post post) {
+    return postTechStackRepository
+        .findAllByPosts(Collections.singletonList(post))
+        .stream()
+        .map(postTechStack -> postTechStack
+            .getTag()
+            .getName())
+        .collect(Collectors.toList());
   }
 
   private List<PostResponseDto> findPostsTags(List<PostTechStack> postTechStacks) {
@@ -351,19 +581,61 @@ public class PostService {
         .map(PostTechStack::getPost)
         .collect(Collectors.toCollection(LinkedHashSet::new));
 
+    return findPostsTags(posts, postTechStacks);
+  }
+
+  //인덱스에서 구한 순서대로 글을 정렬
+  private List<Post> findPostsByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Map<Long, Post> postsById = postRepository
+        .findAllWithUserByIdIn(ids)
+        .stream()
+        .collect(Collectors.toMap(Post::getId, post -> post));
+
+    return ids
+        .stream()
+        .map(postsById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private List<PostResponseDto> findPostsWithTags(List<Post> posts) {
+    if (posts.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    //글들의 태그 정보는 IN 쿼리 한번으로 조회
+    List<PostTechStack> postTechStacks = postTechStackRepository.findAllByPosts(posts);
+
+    return findPostsTags(posts, postTechStacks);
+  }
+
+  private List<PostResponseDto> findPostsTags(
+      Collection<Post> posts,
+      List<PostTechStack> postTechStacks
+  ) {
+    //각 post 의 태그 이름 목록
+    Map<Long, List<String>> tagsByPostId = postTechStacks
+        .stream()
+        .collect(Collectors.groupingBy(
+            postTechStack -> postTechStack
+                .getPost()
+                .getId(),
+            Collectors.mapping(
+                postTechStack -> postTechStack
+                    .getTag()
+                    .getName(),
+                Collectors.toList()
+            )
+        ));
+
     //각 post 의 태그 정보 조립
     ArrayList<PostResponseDto> postDtos = new ArrayList<>();
     for (Post post : posts) {
-      List<String> tags = postTechStacks
-          .stream()
-          .filter(postTechStack -> postTechStack
-              .getPost()
-              .getId() == post.getId())
-          .map(postTechStack -> postTechStack
-              .getTag()
-              .getName())
-          .collect(Collectors.toList());
-      Long commentCount = commentRepository.countByPost(post);
+      List<String> tags = tagsByPostId.getOrDefault(post.getId(), new ArrayList<>());
       User user = post.getUser();
       String profile = cloudinaryUtil.findFileURL(user.getPublicId());
 
@@ -376,12 +648,30 @@ public class PostService {
           post.getViewCount(),
           post.getStatus(),
           tags,
-          commentCount
+          post.getCommentCount()
       ));
     }
     return postDtos;
   }
 
+  //목록 카드에는 본문 앞부분만 있으므로 content 로 내려줌
+  private List<PostResponseDto> createPostCardResponseDtos(List<PostCard> postCards) {
+    return postCards
+        .stream()
+        .map(postCard -> PostResponseDto.from(
+            cloudinaryUtil.findFileURL(postCard.getPublicId()),
+            postCard.getPostId(),
+            postCard.getTitle(),
+            postCard.getExcerpt(),
+            postCard.getLikeCount(),
+            postCard.getViewCount(),
+            postCard.getStatus(),
+            postCard.getTagNames(),
+            postCard.getCommentCount()
+        ))
+        .collect(Collectors.toList());
+  }
+
   private List<String> createTagNames(List<Tag> tags) {
     return tags
         .stream()
@@ -0,0 +1,556 @@
+package com.lets.service.post;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lets.domain.post.PostRecommendSource;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagId;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.web.dto.post.PostRecommendResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 글 인덱스
+ * 글마다 태그 집합의 Jaccard 유사도(겹치는 태그 수 / 두 글의 태그 합집합 수)가 높은 모집 중인 글을 neighborSize 개까지 미리 구해둔다.
+ * 전체를 다시 만들 때는 글을 나눠 fork-join 으로 이웃 목록을 병렬로 계산하고,
+ * PostChangedEvent 로 글의 태그, 모집 상태가 바뀌면 태그가 겹치는(겹쳤던) 글의 이웃 목록만 고친다.
+ * 추천 글 조회는 이웃 목록을 앞에서부터 읽으며 본인 글과 모집이 끝난 글을 거르기만 한다.
+ * 이웃이 빠져 목록이 짧아진 글은 주기적으로 전체를 다시 만들 때 채운다.
+ * 글이 많은 태그도 계산량이 글 수에 비례해 늘지 않도록 태그마다 가장 최근에 들어온 candidateSize 개의 글만 이웃 후보로 본다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostSimilarityIndex extends RebuildableIndex {
+  private static final byte DELETED = -1;
+  private static final byte RECRUITING = (byte)PostStatus.RECRUITING.ordinal();
+  private static final int[] NO_TAGS = new int[0];
+  private static final int MIN_TASK_SIZE = 1024;
+
+  private final PostRepository postRepository;
+  private final PostTechStackRepository postTechStackRepository;
+
+  @Value("${app.postSimilarity.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.postSimilarity.chunkSize:1000}")
+  private int chunkSize;
+
+  @Value("${app.postSimilarity.neighborSize:16}")
+  private int neighborSize;
+
+  @Value("${app.postSimilarity.candidateSize:1000}")
+  private int candidateSize;
+
+  private Model model = new Model(0, 0);
+
+  @Scheduled(fixedDelayString = "${app.postSimilarity.rebuildDelayInMs:3600000}")
+  public void scheduledRebuild() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  @Override
+  protected boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * DB 의 모든 글을 글 id 순서로 chunkSize 만큼씩 읽은 뒤 글마다 이웃 목록을 fork-join 으로 계산한다.
+   */
+  @Override
+  protected void build() {
+    Model newModel = new Model(neighborSize, candidateSize);
+    long lastId = 0;
+    while (true) {
+      List<PostRecommendSource> posts = postRepository.findRecommendSources(lastId, PageRequest.of(0, chunkSize));
+      if (posts.isEmpty()) {
+        break;
+      }
+
+      Map<Long, List<Long>> tagIdsByPostId = findTagIds(posts
+                                                            .stream()
+                                                            .map(PostRecommendSource::getId)
+                                                            .collect(Collectors.toList()));
+      for (PostRecommendSource post : posts) {
+        newModel.put(post, tagIdsByPostId.getOrDefault(post.getId(), Collections.emptyList()));
+      }
+      if (posts.size() < chunkSize) {
+        break;
+      }
+      lastId = posts
+          .get(posts.size() - 1)
+          .getId();
+    }
+
+    //작업 하나가 글 수만큼의 계산용 배열을 쓰기 때문에 작업 수가 스레드 수의 몇 배 정도가 되도록 나눔
+    int parallelism = ForkJoinPool
+        .commonPool()
+        .getParallelism();
+    int taskSize = Math.max(MIN_TASK_SIZE, newModel.size / (parallelism * 4) + 1);
+    ForkJoinPool
+        .commonPool()
+        .invoke(new NeighborTask(newModel, 0, newModel.size, taskSize));
+
+    replace(() -> model = newModel);
+  }
+
+  /**
+   * 글과 태그가 비슷한 모집 중인 글을 유사도 순서대로 size 개 구한다.
+   * 인덱스에 없는 글이거나 이웃 목록에서 size 개를 채우지 못했다면 Optional.empty() 를 반환하고 DB 에서 추천한다.
+   */
+  public Optional<List<PostRecommendResponseDto>> recommend(
+      long postId,
+      Long userId,
+      int size
+  ) {
+    return recommend(postId, userId, size, size);
+  }
+
+  /**
+   * 글과 태그가 비슷한 모집 중인 글을 유사도 순서대로 maxSize 개까지 구한다.
+   * minSize 개를 채우지 못했다면 Optional.empty() 를 반환한다.
+   */
+  public Optional<List<PostRecommendResponseDto>> recommend(
+      long postId,
+      Long userId,
+      int minSize,
+      int maxSize
+  ) {
+    if (!enabled || !ready) {
+      return Optional.empty();
+    }
+
+    lock
+        .readLock()
+        .lock();
+    try {
+      Model current = model;
+      Integer slot = current.slots.get(postId);
+      if (slot == null) {
+        return Optional.empty();
+      }
+
+      List<PostRecommendResponseDto> result = new ArrayList<>();
+      int[] neighbors = current.neighborSlots[slot];
+      for (int i = 0; i < current.neighborCounts[slot] && result.size() < maxSize; i++) {
+        int neighbor = neighbors[i];
+        if (current.statuses[neighbor] != RECRUITING) {
+          continue;
+        }
+        if (userId != null && current.userIds[neighbor] == userId) {
+          continue;
+        }
+        result.add(PostRecommendResponseDto.PostRecommendToDto(
+            current.ids[neighbor],
+            current.titles[neighbor],
+            current.userIds[neighbor]
+        ));
+      }
+
+      if (result.size() < minSize) {
+        return Optional.empty();
+      }
+      return Optional.of(result);
+    } finally {
+      lock
+          .readLock()
+          .unlock();
+    }
+  }
+
+  /**
+   * 제목, 모집 상태, 태그가 그대로라면 이웃 목록을 다시 계산하지 않는다.
+   */
+  @Override
+  protected void reload(Long postId) {
+    Optional<PostRecommendSource> post = postRepository.findRecommendSourceById(postId);
+    List<Long> tagIds = post.isPresent()
+        ? findTagIds(Collections.singletonList(postId)).getOrDefault(postId, Collections.emptyList())
+        : Collections.emptyList();
+
+    lock
+        .writeLock()
+        .lock();
+    try {
+      Integer slot = model.slots.get(postId);
+      if (slot == null && post.isEmpty()) {
+        return;
+      }
+
+      int[] oldTags = slot == null ? NO_TAGS : model.tags[slot];
+      if (post.isEmpty()) {
+        model.remove(slot);
+      } else if (slot != null && !model.changed(slot, post.get(), tagIds)) {
+        return;
+      } else {
+        slot = model.put(post.get(), tagIds);
+      }
+      model.refreshNeighbors(slot, oldTags);
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+
+  private Map<Long, List<Long>> findTagIds(List<Long> postIds) {
+    return postTechStackRepository
+        .findTagIdsByPostIds(postIds)
+        .stream()
+        .collect(Collectors.groupingBy(
+            PostTagId::getPostId,
+            Collectors.mapping(PostTagId::getTagId, Collectors.toList())
+        ));
+  }
+
+  //두 태그 집합의 Jaccard 유사도
+  private static float similarity(
+      int[] a,
+      int[] b,
+      int intersection
+  ) {
+    return (float)intersection / (a.length + b.length - intersection);
+  }
+
+  //정렬된 두 태그 배열의 겹치는 태그 수
+  private static int intersect(
+      int[] a,
+      int[] b
+  ) {
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        count++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 글 정보, 태그별 글 목록, 글마다 유사도 순으로 정렬된 이웃 목록
+   * 이웃 목록은 slot 과 점수를 배열로 들고 있고, 점수가 같다면 최신 글(id 가 큰 글)이 앞에 온다.
+   */
+  private static class Model {
+    private final int neighborSize;
+    private final int candidateSize;
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<Long, Integer> tagIndexes = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private int size;
+    private long[] ids = new long[16];
+    private long[] userIds = new long[16];
+    private byte[] statuses = new byte[16];
+    private String[] titles = new String[16];
+    private int[][] tags = new int[16][];
+    private int[][] neighborSlots = new int[16][];
+    private float[][] neighborScores = new float[16][];
+    private int[] neighborCounts = new int[16];
+
+    private Model(
+        int neighborSize,
+        int candidateSize
+    ) {
+      this.neighborSize = neighborSize;
+      this.candidateSize = candidateSize;
+    }
+
+    private int put(
+        PostRecommendSource post,
+        Collection<Long> tagIds
+    ) {
+      Integer slot = slots.get(post.getId());
+      if (slot == null) {
+        if (size == ids.length) {
+          grow();
+        }
+        slot = size++;
+        slots.put(post.getId(), slot);
+        neighborSlots[slot] = new int[neighborSize];
+        neighborScores[slot] = new float[neighborSize];
+      } else {
+        removePostings(slot);
+      }
+
+      ids[slot] = post.getId();
+      userIds[slot] = post.getUserId() == null ? 0 : post.getUserId();
+      statuses[slot] = (byte)post
+          .getStatus()
+          .ordinal();
+      titles[slot] = post.getTitle();
+      tags[slot] = toTagIndexes(tagIds);
+      for (int tag : tags[slot]) {
+        postings
+            .get(tag)
+            .add(slot);
+      }
+      return slot;
+    }
+
+    private void remove(int slot) {
+      removePostings(slot);
+      slots.remove(ids[slot]);
+      tags[slot] = NO_TAGS;
+      titles[slot] = null;
+      statuses[slot] = DELETED;
+      neighborCounts[slot] = 0;
+    }
+
+    private boolean changed(
+        int slot,
+        PostRecommendSource post,
+        Collection<Long> tagIds
+    ) {
+      return statuses[slot] != (byte)post
+          .getStatus()
+          .ordinal()
+          || !Objects.equals(titles[slot], post.getTitle())
+          || !Arrays.equals(tags[slot], toTagIndexes(tagIds));
+    }
+
+    //slot 과 태그가 겹치는 모집 중인 후보 글을 세어 이웃 목록을 새로 만듦
+    private void computeNeighbors(
+        int slot,
+        int[] counts,
+        int[] touched
+    ) {
+      neighborCounts[slot] = 0;
+      int touchedCount = 0;
+      for (int tag : tags[slot]) {
+        Postings tagSlots = postings.get(tag);
+        for (int i = firstCandidate(tagSlots); i < tagSlots.size; i++) {
+          int other = tagSlots.slots[i];
+          if (other == slot || statuses[other] != RECRUITING) {
+            continue;
+          }
+          if (counts[other]++ == 0) {
+            touched[touchedCount++] = other;
+          }
+        }
+      }
+
+      //후보로 보지 않은 위치에서 겹치는 태그도 있으므로 겹치는 태그 수는 다시 셈
+      for (int i = 0; i < touchedCount; i++) {
+        int other = touched[i];
+        offer(slot, other, similarity(tags[slot], tags[other], intersect(tags[slot], tags[other])));
+        counts[other] = 0;
+      }
+    }
+
+    //바뀐 글과 태그가 겹치는(겹쳤던) 후보 글의 이웃 목록에서 바뀐 글을 빼고 새 유사도로 다시 넣음
+    //후보 밖의 글 이웃 목록에 남은 바뀐 글은 조회할 때 모집 상태로 거르고, 전체를 다시 만들 때 정리됨
+    private void refreshNeighbors(
+        int slot,
+        int[] oldTags
+    ) {
+      Set<Integer> affected = new HashSet<>();
+      for (int[] slotTags : List.of(oldTags, tags[slot])) {
+        for (int tag : slotTags) {
+          Postings tagSlots = postings.get(tag);
+          for (int i = firstCandidate(tagSlots); i < tagSlots.size; i++) {
+            affected.add(tagSlots.slots[i]);
+          }
+        }
+      }
+      affected.remove(slot);
+
+      neighborCounts[slot] = 0;
+      for (int other : affected) {
+        removeNeighbor(other, slot);
+
+        int intersection = intersect(tags[slot], tags[other]);
+        if (intersection == 0) {
+          continue;
+        }
+        float score = similarity(tags[slot], tags[other], intersection);
+        if (statuses[slot] == RECRUITING) {
+          offer(other, slot, score);
+        }
+        if (statuses[other] == RECRUITING) {
+          offer(slot, other, score);
+        }
+      }
+    }
+
+    //태그 글 목록은 들어온 순서대로 쌓이므로 뒤쪽 candidateSize 개가 가장 최근 글
+    private int firstCandidate(Postings tagSlots) {
+      return Math.max(0, tagSlots.size - candidateSize);
+    }
+
+    private void offer(
+        int slot,
+        int other,
+        float score
+    ) {
+      int[] neighbors = neighborSlots[slot];
+      float[] scores = neighborScores[slot];
+      int count = neighborCounts[slot];
+
+      int position = count;
+      while (position > 0 && isBefore(score, other, scores[position - 1], neighbors[position - 1])) {
+        position--;
+      }
+      if (position >= neighborSize) {
+        return;
+      }
+
+      //목록이 가득 찼다면 마지막 이웃을 밀어냄
+      int end = Math.min(count, neighborSize - 1);
+      System.arraycopy(neighbors, position, neighbors, position + 1, end - position);
+      System.arraycopy(scores, position, scores, position + 1, end - position);
+      neighbors[position] = other;
+      scores[position] = score;
+      neighborCounts[slot] = end + 1;
+    }
+
+    private void removeNeighbor(
+        int slot,
+        int other
+    ) {
+      int[] neighbors = neighborSlots[slot];
+      float[] scores = neighborScores[slot];
+      int count = neighborCounts[slot];
+      for (int i = 0; i < count; i++) {
+        if (neighbors[i] == other) {
+          System.arraycopy(neighbors, i + 1, neighbors, i, count - i - 1);
+          System.arraycopy(scores, i + 1, scores, i, count - i - 1);
+          neighborCounts[slot] = count - 1;
+          return;
+        }
+      }
+    }
+
+    private boolean isBefore(
+        float score,
+        int slot,
+        float otherScore,
+        int otherSlot
+    ) {
+      return score > otherScore || (score == otherScore && ids[slot] > ids[otherSlot]);
+    }
+
+    private int[] toTagIndexes(Collection<Long> tagIds) {
+      return tagIds
+          .stream()
+          .mapToInt(tagId -> tagIndexes.computeIfAbsent(tagId, key -> {
+            postings.add(new Postings());
+            return postings.size() - 1;
+          }))
+          .distinct()
+          .sorted()
+          .toArray();
+    }
+
+    private void removePostings(int slot) {
+      for (int tag : tags[slot]) {
+        postings
+            .get(tag)
+            .remove(slot);
+      }
+    }
+
+    private void grow() {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      userIds = Arrays.copyOf(userIds, capacity);
+      statuses = Arrays.copyOf(statuses, capacity);
+      titles = Arrays.copyOf(titles, capacity);
+      tags = Arrays.copyOf(tags, capacity);
+      neighborSlots = Arrays.copyOf(neighborSlots, capacity);
+      neighborScores = Arrays.copyOf(neighborScores, capacity);
+      neighborCounts = Arrays.copyOf(neighborCounts, capacity);
+    }
+  }
+
+  //태그가 달린 글의 slot 목록
+  private static class Postings {
+    private int[] slots = new int[4];
+    private int size;
+
+    private void add(int slot) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size * 2);
+      }
+      slots[size++] = slot;
+    }
+
+    private void remove(int slot) {
+      for (int i = 0; i < size; i++) {
+        if (slots[i] == slot) {
+          System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+          size--;
+          return;
+        }
+      }
+    }
+  }
+
+  //[from, to) 범위 글의 이웃 목록을 나눠서 계산
+  //글마다 자기 이웃 목록만 쓰기 때문에 작업끼리 같은 배열을 동시에 쓰지 않음
+  private static class NeighborTask extends RecursiveAction {
+    private final Model model;
+    private final int from;
+    private final int to;
+    private final int taskSize;
+
+    private NeighborTask(
+        Model model,
+        int from,
+        int to,
+        int taskSize
+    ) {
+      this.model = model;
+      this.from = from;
+      this.to = to;
+      this.taskSize = taskSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= taskSize) {
+        int[] counts = new int[model.size];
+        int[] touched = new int[model.size];
+        for (int slot = from; slot < to; slot++) {
+          model.computeNeighbors(slot, counts, touched);
+        }
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new NeighborTask(model, from, middle, taskSize),
+          new NeighborTask(model, middle, to, taskSize)
+      );
+    }
+  }
+}
@@ -0,0 +1,432 @@
+package com.lets.service.post;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lets.domain.post.PostRankSource;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagName;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관심 태그 추천 글 인덱스
+ * 태그마다 모집 중인 글을 글 점수(최신순, 인기순을 섞은 0 ~ 1 사이 값) 순서로 정렬해 들고 있고,
+ * 유저 추천 점수는 (유저 태그와 겹치는 태그 수) * (글 점수) 로 매긴다.
+ * 유저의 태그별 글 목록을 heap 으로 합치며(k-way merge) 위에서부터 읽고, 아직 읽지 않은 글이 받을 수 있는 최대 점수가
+ * 지금까지 구한 size 번째 점수보다 낮아지면 멈추기 때문에(threshold algorithm) 태그가 많은 유저도 모든 글을 읽지 않는다.
+ * 최신순 점수는 인덱스를 만든 시각 기준이라 주기적으로 전체를 다시 만들 때 갱신된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostTagRankIndex extends RebuildableIndex {
+  private static final byte DELETED = -1;
+  private static final byte RECRUITING = (byte)PostStatus.RECRUITING.ordinal();
+  private static final String[] NO_TAGS = new String[0];
+  private static final double RECENCY_DAYS = 7;
+  private static final int LIKE_WEIGHT = 5;
+
+  private final PostRepository postRepository;
+  private final PostTechStackRepository postTechStackRepository;
+
+  @Value("${app.postTagRank.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.postTagRank.chunkSize:1000}")
+  private int chunkSize;
+
+  private Model model = new Model(LocalDateTime.now());
+
+  @Scheduled(fixedDelayString = "${app.postTagRank.rebuildDelayInMs:600000}")
+  public void scheduledRebuild() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  @Override
+  protected boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * DB 의 모든 글을 글 id 순서로 chunkSize 만큼씩 읽어 태그별 글 목록을 새로 만든다.
+   */
+  @Override
+  protected void build() {
+    //글 내용은 읽지 않고 글 점수와 추천에 필요한 값만 읽음
+    Model newModel = new Model(LocalDateTime.now());
+    long lastId = 0;
+    while (true) {
+      List<PostRankSource> posts = postRepository.findRankSources(lastId, PageRequest.of(0, chunkSize));
+      if (posts.isEmpty()) {
+        break;
+      }
+
+      Map<Long, List<String>> tagsByPostId = findTagNames(posts
+                                                              .stream()
+                                                              .map(PostRankSource::getId)
+                                                              .collect(Collectors.toList()));
+      for (PostRankSource post : posts) {
+        newModel.put(post, tagsByPostId.getOrDefault(post.getId(), Collections.emptyList()));
+      }
+      if (posts.size() < chunkSize) {
+        break;
+      }
+      lastId = posts
+          .get(posts.size() - 1)
+          .getId();
+    }
+
+    replace(() -> model = newModel);
+  }
+
+  //좋아요 수가 글 점수에 들어가므로 좋아요 수, 댓글 수만 바뀐 이벤트도 반영
+  @Override
+  protected boolean ignores(PostChangedEvent event) {
+    return false;
+  }
+
+  /**
+   * 유저 태그와 겹치는 모집 중인 글을 추천 점수 순서대로 size 개까지 구한다.
+   * 점수가 같다면 최신 글(id 가 큰 글)이 앞에 오고, 유저 본인의 글은 뺀다.
+   * 인덱스를 사용할 수 없거나 유저 태그가 달린 글이 없다면 Optional.empty() 를 반환하고 DB 에서 추천한다.
+   */
+  public Optional<List<Long>> recommend(
+      Collection<String> tags,
+      Long userId,
+      int size
+  ) {
+    if (!enabled || !ready) {
+      return Optional.empty();
+    }
+
+    lock
+        .readLock()
+        .lock();
+    try {
+      Model current = model;
+      Set<String> userTags = new LinkedHashSet<>(tags);
+
+      //태그별 글 목록의 맨 앞 글 점수가 높은 목록부터 꺼내는 heap
+      PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+          Comparator.comparingDouble((Cursor cursor) -> -cursor.head(current)));
+      for (String tag : userTags) {
+        RankedPostings postings = current.postings.get(tag);
+        if (postings != null && postings.size > 0) {
+          cursors.add(new Cursor(postings));
+        }
+      }
+      if (cursors.isEmpty()) {
+        return Optional.empty();
+      }
+
+      //추천 점수는 읽은 글에만 매기고, 추천 순서상 가장 뒤에 있는 글이 head 에 오도록 해서 size 개의 앞쪽 글만 남김
+      Map<Integer, Float> scores = new HashMap<>();
+      long[] ids = current.ids;
+      PriorityQueue<Integer> top = new PriorityQueue<>((a, b) -> {
+        int result = Float.compare(scores.get(a), scores.get(b));
+        if (result != 0) {
+          return result;
+        }
+        return Long.compare(ids[a], ids[b]);
+      });
+
+      int maxMatch = Math.min(cursors.size(), current.maxTags);
+      float[] heads = new float[cursors.size()];
+      while (!cursors.isEmpty()) {
+        Cursor cursor = cursors.poll();
+        int slot = cursor.postings.slots[cursor.position++];
+        if (cursor.position < cursor.postings.size) {
+          cursors.add(cursor);
+        }
+
+        if (!scores.containsKey(slot)) {
+          scores.put(slot, current.countMatches(slot, userTags) * current.scores[slot]);
+          if (userId == null || current.userIds[slot] != userId) {
+            top.add(slot);
+            if (top.size() > size) {
+              top.poll();
+            }
+          }
+        }
+
+        if (top.size() == size && scores.get(top.peek()) > threshold(current, cursors, heads, maxMatch)) {
+          break;
+        }
+      }
+
+      List<Long> result = new ArrayList<>(top.size());
+      while (!top.isEmpty()) {
+        result.add(ids[top.poll()]);
+      }
+      Collections.reverse(result);
+      return Optional.of(result);
+    } finally {
+      lock
+          .readLock()
+          .unlock();
+    }
+  }
+
+  /**
+   * 아직 읽지 않은 글이 받을 수 있는 최대 점수
+   * 태그 m 개가 겹치는 글은 m 개 목록 모두에서 아직 읽지 않은 위치에 있으므로 글 점수가 m 번째로 높은 목록 맨 앞 점수 이하다.
+   */
+  private float threshold(
+      Model current,
+      PriorityQueue<Cursor> cursors,
+      float[] heads,
+      int maxMatch
+  ) {
+    int count = 0;
+    for (Cursor cursor : cursors) {
+      heads[count++] = cursor.head(current);
+    }
+    Arrays.sort(heads, 0, count);
+
+    float threshold = 0;
+    for (int match = 1; match <= Math.min(count, maxMatch); match++) {
+      threshold = Math.max(threshold, match * heads[count - match]);
+    }
+    return threshold;
+  }
+
+  @Override
+  protected void reload(Long postId) {
+    Optional<PostRankSource> post = postRepository.findRankSourceById(postId);
+    List<String> tags = post.isPresent()
+        ? findTagNames(Collections.singletonList(postId)).getOrDefault(postId, Collections.emptyList())
+        : Collections.emptyList();
+
+    lock
+        .writeLock()
+        .lock();
+    try {
+      if (post.isEmpty()) {
+        model.remove(postId);
+        return;
+      }
+      model.put(post.get(), tags);
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+
+  private Map<Long, List<String>> findTagNames(List<Long> postIds) {
+    return postTechStackRepository
+        .findTagNamesByPostIds(postIds)
+        .stream()
+        .collect(Collectors.groupingBy(
+            PostTagName::getPostId,
+            Collectors.mapping(PostTagName::getTagName, Collectors.toList())
+        ));
+  }
+
+  /**
+   * 글 정보와 태그별로 글 점수 순서로 정렬된 모집 중인 글 목록
+   * 글 점수가 같다면 최신 글(id 가 큰 글)이 앞에 온다.
+   */
+  private static class Model {
+    private final LocalDateTime now;
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<String, RankedPostings> postings = new HashMap<>();
+    private int size;
+    private int maxTags;
+    private long[] ids = new long[16];
+    private long[] userIds = new long[16];
+    private byte[] statuses = new byte[16];
+    private float[] scores = new float[16];
+    private String[][] tags = new String[16][];
+
+    private Model(LocalDateTime now) {
+      this.now = now;
+    }
+
+    private void put(
+        PostRankSource post,
+        Collection<String> tagNames
+    ) {
+      Integer slot = slots.get(post.getId());
+      if (slot == null) {
+        if (size == ids.length) {
+          grow();
+        }
+        slot = size++;
+        slots.put(post.getId(), slot);
+      } else {
+        removePostings(slot);
+      }
+
+      //태그별 글 목록은 점수로 정렬되어 있으므로 점수를 바꾸기 전에 목록에서 뺀 뒤 다시 넣음
+      ids[slot] = post.getId();
+      userIds[slot] = post.getUserId() == null ? 0 : post.getUserId();
+      statuses[slot] = (byte)post
+          .getStatus()
+          .ordinal();
+      scores[slot] = score(post);
+      tags[slot] = new LinkedHashSet<>(tagNames).toArray(NO_TAGS);
+      maxTags = Math.max(maxTags, tags[slot].length);
+
+      if (statuses[slot] != RECRUITING) {
+        return;
+      }
+      for (String tag : tags[slot]) {
+        postings
+            .computeIfAbsent(tag, key -> new RankedPostings())
+            .add(slot, this);
+      }
+    }
+
+    private void remove(long postId) {
+      Integer slot = slots.remove(postId);
+      if (slot == null) {
+        return;
+      }
+      removePostings(slot);
+      tags[slot] = NO_TAGS;
+      statuses[slot] = DELETED;
+    }
+
+    private int countMatches(
+        int slot,
+        Set<String> userTags
+    ) {
+      int count = 0;
+      for (String tag : tags[slot]) {
+        if (userTags.contains(tag)) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    //최근 글일수록, 좋아요와 조회수가 많을수록 1 에 가까움
+    private float score(PostRankSource post) {
+      LocalDateTime createdDate = post.getCreatedDate() == null ? now : post.getCreatedDate();
+      double ageInDays = Math.max(0, Duration
+          .between(createdDate, now)
+          .toHours() / 24.0);
+      double recency = 1 / (1 + ageInDays / RECENCY_DAYS);
+
+      double popularity = Math.log1p(post.getViewCount() + LIKE_WEIGHT * post.getLikeCount());
+      popularity = popularity / (1 + popularity);
+
+      return (float)((recency + popularity) / 2);
+    }
+
+    private boolean isBefore(
+        int slot,
+        int otherSlot
+    ) {
+      return scores[slot] > scores[otherSlot] || (scores[slot] == scores[otherSlot] && ids[slot] > ids[otherSlot]);
+    }
+
+    private void removePostings(int slot) {
+      if (statuses[slot] != RECRUITING) {
+        return;
+      }
+      for (String tag : tags[slot]) {
+        RankedPostings tagPostings = postings.get(tag);
+        if (tagPostings != null) {
+          tagPostings.remove(slot, this);
+        }
+      }
+    }
+
+    private void grow() {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      userIds = Arrays.copyOf(userIds, capacity);
+      statuses = Arrays.copyOf(statuses, capacity);
+      scores = Arrays.copyOf(scores, capacity);
+      tags = Arrays.copyOf(tags, capacity);
+    }
+  }
+
+  //글 점수 순서로 정렬된 태그의 글 slot 목록
+  private static class RankedPostings {
+    private int[] slots = new int[4];
+    private int size;
+
+    private void add(
+        int slot,
+        Model model
+    ) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size * 2);
+      }
+      int position = position(slot, model);
+      System.arraycopy(slots, position, slots, position + 1, size - position);
+      slots[position] = slot;
+      size++;
+    }
+
+    private void remove(
+        int slot,
+        Model model
+    ) {
+      int position = position(slot, model);
+      if (position < size && slots[position] == slot) {
+        System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+        size--;
+      }
+    }
+
+    //slot 보다 뒤에 와야 하는 첫 위치
+    private int position(
+        int slot,
+        Model model
+    ) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (model.isBefore(slots[middle], slot)) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+  }
+
+  //태그별 글 목록에서 다음에 읽을 위치
+  private static class Cursor {
+    private final RankedPostings postings;
+    private int position;
+
+    private Cursor(RankedPostings postings) {
+      this.postings = postings;
+    }
+
+    private float head(Model model) {
+      return model.scores[postings.slots[position]];
+    }
+  }
+}
@@ -0,0 +1,427 @@
+package com.lets.service.post;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTechStack;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 제목, 본문 키워드 검색 인덱스
+ * 형태소 분석기 없이 한글을 검색할 수 있도록 단어를 글자 2-gram 으로 나눠 역색인을 만들고 BM25 로 순위를 매긴다.
+ * 태그는 태그별 글 목록으로, 모집 상태는 글마다 값으로 들고 있다가 글 검색과 같은 조건으로 걸러낸다.
+ * 시작할 때 글을 chunkSize 만큼씩 읽어 만들고, PostChangedEvent 로 바뀐 글만 다시 색인한다.
+ * 지운 글은 표시만 해두고 주기적으로 전체를 다시 만들 때 정리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostTextIndex extends RebuildableIndex {
+  private static final float K1 = 1.2f;
+  private static final float B = 0.75f;
+  private static final int TITLE_WEIGHT = 2;
+  private static final byte DELETED = -1;
+  private static final byte ANY_STATUS = -2;
+
+  private final PostRepository postRepository;
+  private final PostTechStackRepository postTechStackRepository;
+
+  @Value("${app.postTextIndex.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.postTextIndex.chunkSize:1000}")
+  private int chunkSize;
+
+  private Segment segment = new Segment();
+
+  @Scheduled(fixedDelayString = "${app.postTextIndex.rebuildDelayInMs:3600000}")
+  public void scheduledRebuild() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  @Override
+  protected boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * DB 의 모든 글을 글 id 순서로 chunkSize 만큼씩 읽어 인덱스를 새로 만든다.
+   */
+  @Override
+  protected void build() {
+    Segment newSegment = new Segment();
+    long lastId = 0;
+    while (true) {
+      List<Post> posts = postRepository.findAllByIdGreaterThan(lastId, PageRequest.of(0, chunkSize));
+      if (posts.isEmpty()) {
+        break;
+      }
+
+      Map<Long, List<String>> tagsByPostId = findTagNames(posts);
+      for (Post post : posts) {
+        newSegment.put(
+            post.getId(),
+            post.getTitle(),
+            post.getContent(),
+            post.getStatus(),
+            tagsByPostId.getOrDefault(post.getId(), Collections.emptyList())
+        );
+      }
+      lastId = posts
+          .get(posts.size() - 1)
+          .getId();
+    }
+
+    replace(() -> segment = newSegment);
+  }
+
+  public void put(
+      long postId,
+      String title,
+      String content,
+      PostStatus status,
+      Collection<String> tags
+  ) {
+    lock
+        .writeLock()
+        .lock();
+    try {
+      segment.put(postId, title, content, status, tags);
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+
+  public void remove(long postId) {
+    lock
+        .writeLock()
+        .lock();
+    try {
+      segment.remove(postId);
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+
+  /**
+   * 키워드와 검색 조건에 맞는 글 id 페이지를 BM25 점수 순서대로 구한다.
+   * 점수가 같다면 최신 글(id 가 큰 글)이 앞에 온다.
+   */
+  public Optional<List<Long>> search(
+      String keyword,
+      PostSearchRequestDto search,
+      Pageable pageable
+  ) {
+    if (!enabled || !ready) {
+      return Optional.empty();
+    }
+
+    Set<String> terms = tokenize(keyword).keySet();
+    if (terms.isEmpty()) {
+      return Optional.of(Collections.emptyList());
+    }
+
+    byte status = search.getStatus() == null ? ANY_STATUS : (byte)PostStatus
+        .valueOf(search.getStatus())
+        .ordinal();
+    long offset = pageable.getOffset();
+    int limit = (int)Math.min(Integer.MAX_VALUE - 1, offset + pageable.getPageSize());
+
+    lock
+        .readLock()
+        .lock();
+    try {
+      Segment current = segment;
+      BitSet allowed = current.matchTags(search.getTags(), search.getMatch());
+
+      //점수는 단어가 나온 slot 에만 쌓음
+      Map<Integer, Float> scores = new HashMap<>();
+      float avgLength = current.live == 0 ? 1 : (float)current.totalLength / current.live;
+
+      for (String term : terms) {
+        Postings postings = current.postings.get(term);
+        if (postings == null || postings.live == 0) {
+          continue;
+        }
+
+        float idf = (float)Math.log(1 + (current.live - postings.live + 0.5) / (postings.live + 0.5));
+        for (int i = 0; i < postings.size; i++) {
+          int slot = postings.slots[i];
+          byte slotStatus = current.statuses[slot];
+          if (slotStatus == DELETED || (status != ANY_STATUS && slotStatus != status)) {
+            continue;
+          }
+          if (allowed != null && !allowed.get(slot)) {
+            continue;
+          }
+
+          int tf = postings.freqs[i];
+          float norm = K1 * (1 - B + B * current.lengths[slot] / avgLength);
+          scores.merge(slot, idf * tf * (K1 + 1) / (tf + norm), Float::sum);
+        }
+      }
+
+      //순서상 가장 뒤에 있는 글이 head 에 오도록 해서 limit 개의 앞쪽 글만 남김
+      long[] ids = current.ids;
+      Comparator<Integer> order = (a, b) -> {
+        int result = Float.compare(scores.get(b), scores.get(a));
+        if (result != 0) {
+          return result;
+        }
+        return Long.compare(ids[b], ids[a]);
+      };
+      PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, 1024), order.reversed());
+      for (Integer slot : scores.keySet()) {
+        if (top.size() < limit) {
+          top.add(slot);
+        } else if (order.compare(slot, top.peek()) < 0) {
+          top.poll();
+          top.add(slot);
+        }
+      }
+
+      List<Integer> sorted = new ArrayList<>(top);
+      sorted.sort(order);
+
+      List<Long> result = new ArrayList<>();
+      for (int i = (int)Math.min(offset, sorted.size()); i < sorted.size(); i++) {
+        result.add(ids[sorted.get(i)]);
+      }
+      return Optional.of(result);
+    } finally {
+      lock
+          .readLock()
+          .unlock();
+    }
+  }
+
+  /**
+   * 글을 소문자로 바꾸고 글자, 숫자가 아닌 문자로 단어를 나눈 뒤 단어마다 글자 2-gram 을 구한다.
+   * 한 글자 단어는 그대로 사용한다.
+   */
+  static Map<String, Integer> tokenize(String text) {
+    Map<String, Integer> terms = new HashMap<>();
+    if (text == null) {
+      return terms;
+    }
+
+    int[] codePoints = text
+        .toLowerCase(Locale.ROOT)
+        .codePoints()
+        .toArray();
+    int start = 0;
+    for (int i = 0; i <= codePoints.length; i++) {
+      if (i < codePoints.length && Character.isLetterOrDigit(codePoints[i])) {
+        continue;
+      }
+
+      int length = i - start;
+      if (length == 1) {
+        terms.merge(new String(codePoints, start, 1), 1, Integer::sum);
+      }
+      for (int j = start; j + 1 < i; j++) {
+        terms.merge(new String(codePoints, j, 2), 1, Integer::sum);
+      }
+      start = i + 1;
+    }
+    return terms;
+  }
+
+  @Override
+  protected void reload(Long postId) {
+    Optional<Post> post = postRepository.findById(postId);
+    if (post.isEmpty()) {
+      remove(postId);
+      return;
+    }
+
+    List<String> tags = findTagNames(Collections.singletonList(post.get()))
+        .getOrDefault(postId, Collections.emptyList());
+    put(postId, post
+        .get()
+        .getTitle(), post
+            .get()
+            .getContent(), post
+            .get()
+            .getStatus(), tags);
+  }
+
+  private Map<Long, List<String>> findTagNames(List<Post> posts) {
+    return postTechStackRepository
+        .findAllByPosts(posts)
+        .stream()
+        .collect(Collectors.groupingBy(
+            postTechStack -> postTechStack
+                .getPost()
+                .getId(),
+            Collectors.mapping(
+                postTechStack -> postTechStack
+                    .getTag()
+                    .getName(),
+                Collectors.toList()
+            )
+        ));
+  }
+
+  /**
+   * 역색인 본체
+   * 글마다 slot 을 하나씩 배정하고 다시 색인하는 글은 이전 slot 을 지운 표시를 한 뒤 새 slot 을 배정한다.
+   * 지운 slot 은 전체를 다시 만들 때까지 postings 에 남지만 문서 수와 문서 빈도(df)는 살아있는 글만 센다.
+   */
+  private static class Segment {
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Postings> tagPostings = new HashMap<>();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private int size;
+    private int live;
+    private long totalLength;
+    private long[] ids = new long[16];
+    private int[] lengths = new int[16];
+    private byte[] statuses = new byte[16];
+    //slot 이 나오는 단어 목록, 글을 지울 때 단어별 문서 빈도를 줄이는 데 사용
+    private Postings[][] slotPostings = new Postings[16][];
+
+    private void put(
+        long postId,
+        String title,
+        String content,
+        PostStatus status,
+        Collection<String> tags
+    ) {
+      remove(postId);
+
+      Map<String, Integer> terms = new HashMap<>();
+      tokenize(title).forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+      tokenize(content).forEach((term, tf) -> terms.merge(term, tf, Integer::sum));
+
+      if (size == ids.length) {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        slotPostings = Arrays.copyOf(slotPostings, capacity);
+      }
+      int slot = size++;
+      int length = 0;
+      Postings[] termPostings = new Postings[terms.size()];
+      int termCount = 0;
+      for (Map.Entry<String, Integer> term : terms.entrySet()) {
+        Postings termSlots = postings.computeIfAbsent(term.getKey(), key -> new Postings());
+        termSlots.add(slot, term.getValue());
+        termSlots.live++;
+        termPostings[termCount++] = termSlots;
+        length += term.getValue();
+      }
+      for (String tag : tags) {
+        tagPostings
+            .computeIfAbsent(tag, key -> new Postings())
+            .add(slot, 1);
+      }
+
+      ids[slot] = postId;
+      slotPostings[slot] = termPostings;
+      lengths[slot] = length;
+      statuses[slot] = (byte)status.ordinal();
+      slots.put(postId, slot);
+      live++;
+      totalLength += length;
+    }
+
+    private void remove(long postId) {
+      Integer slot = slots.remove(postId);
+      if (slot != null) {
+        statuses[slot] = DELETED;
+        live--;
+        totalLength -= lengths[slot];
+        for (Postings termSlots : slotPostings[slot]) {
+          termSlots.live--;
+        }
+        slotPostings[slot] = null;
+      }
+    }
+
+    //태그 조건에 맞는 slot, 태그 조건이 없다면 null
+    private BitSet matchTags(
+        List<String> tags,
+        TagMatch match
+    ) {
+      if (tags == null || tags.isEmpty()) {
+        return null;
+      }
+
+      BitSet result = null;
+      for (String tag : tags) {
+        BitSet tagged = new BitSet(size);
+        Postings tagSlots = tagPostings.get(tag);
+        if (tagSlots != null) {
+          for (int i = 0; i < tagSlots.size; i++) {
+            tagged.set(tagSlots.slots[i]);
+          }
+        }
+
+        if (result == null) {
+          result = tagged;
+        } else if (match == TagMatch.ALL) {
+          result.and(tagged);
+        } else {
+          result.or(tagged);
+        }
+      }
+      return result;
+    }
+  }
+
+  //단어(또는 태그)가 나오는 slot 과 횟수, slot 은 오름차순으로 쌓인다
+  private static class Postings {
+    private int[] slots = new int[4];
+    private int[] freqs = new int[4];
+    private int size;
+    //지우지 않은 slot 수 (문서 빈도)
+    private int live;
+
+    private void add(
+        int slot,
+        int freq
+    ) {
+      if (size == slots.length) {
+        slots = Arrays.copyOf(slots, size * 2);
+        freqs = Arrays.copyOf(freqs, size * 2);
+      }
+      slots[size] = slot;
+      freqs[size] = freq;
+      size++;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.lets.service.post;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 조회수 버퍼
+ * 조회할 때마다 글 행을 수정하면 인기 글의 행 잠금이 몰리기 때문에 글마다 LongAdder 에 조회수를 모아뒀다가
+ * 주기적으로 UPDATE ... SET view_count = view_count + ? 를 batch 로 한번에 반영한다.
+ * 반영하지 못한 조회수는 다음에 다시 반영하고, 종료할 때 남은 조회수를 모두 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostViewCounter {
+  private static final String UPDATE_POST = "update post set view_count = view_count + ? where post_id = ?";
+  private static final String UPDATE_POST_CARD = "update post_card set view_count = view_count + ? where post_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+  //맵에서 뺀 LongAdder, 빼기 직전에 꺼내간 스레드가 더한 조회수를 다음 반영 때 한번 더 확인
+  private final Queue<Map.Entry<Long, LongAdder>> retired = new ConcurrentLinkedQueue<>();
+
+  public void increase(long postId) {
+    pending
+        .computeIfAbsent(postId, id -> new LongAdder())
+        .increment();
+  }
+
+  /**
+   * 아직 DB 에 반영하지 않은 조회수
+   * 화면에는 DB 의 조회수에 이 값을 더해서 보여준다.
+   */
+  public long pendingCount(long postId) {
+    LongAdder adder = pending.get(postId);
+    return adder == null ? 0 : adder.sum();
+  }
+
+  @Scheduled(fixedDelayString = "${app.viewCounter.flushDelayInMs:1000}")
+  public void flush() {
+    Map<Long, Long> deltas = drain();
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    List<Object[]> args = new ArrayList<>();
+    deltas.forEach((postId, delta) -> args.add(new Object[] {delta, postId}));
+
+    try {
+      transactionTemplate.execute(status -> {
+        jdbcTemplate.batchUpdate(UPDATE_POST_CARD, args);
+        return jdbcTemplate.batchUpdate(UPDATE_POST, args);
+      });
+    } catch (DataAccessException e) {
+      log.warn("view count flush failed. posts={}", deltas.size(), e);
+      //다음에 다시 반영
+      deltas.forEach((postId, delta) -> pending
+          .computeIfAbsent(postId, id -> new LongAdder())
+          .add(delta));
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    flush();
+    //종료 직전에 꺼내간 LongAdder 까지 반영
+    flush();
+  }
+
+  private Map<Long, Long> drain() {
+    Map<Long, Long> deltas = new HashMap<>();
+
+    Map.Entry<Long, LongAdder> retiredEntry;
+    while ((retiredEntry = retired.poll()) != null) {
+      add(deltas, retiredEntry.getKey(), retiredEntry
+          .getValue()
+          .sumThenReset());
+    }
+
+    for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+      long delta = entry
+          .getValue()
+          .sumThenReset();
+      if (delta == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+        //더 이상 조회되지 않는 글은 맵에서 빼서 맵이 계속 커지지 않도록 함
+        retired.add(entry);
+      }
+      add(deltas, entry.getKey(), delta);
+    }
+    return deltas;
+  }
+
+  private void add(
+      Map<Long, Long> deltas,
+      long postId,
+      long delta
+  ) {
+    if (delta != 0) {
+      deltas.merge(postId, delta, Long::sum);
+    }
+  }
+}
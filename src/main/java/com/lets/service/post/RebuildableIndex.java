@@ -0,0 +1,106 @@
+package com.lets.service.post;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 글 메모리 인덱스
+ * 시작할 때와 주기적으로 DB 를 다시 읽어 인덱스 전체를 새로 만들고, 그 사이에는 PostChangedEvent 로 바뀐 글만 다시 읽어 고친다.
+ * 새 인덱스는 락 밖에서 만든 뒤 쓰기 락 안에서 바꿔 끼우고, 전체를 다시 만드는 동안 바뀐 글은 바꿔 끼운 뒤 한번 더 반영한다.
+ */
+public abstract class RebuildableIndex {
+  protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  //전체를 다시 읽는 동안 바뀐 글은 다시 읽은 뒤 한번 더 반영
+  private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+  //시작할 때와 주기적으로 다시 만드는 작업이 겹치면 먼저 시작한 작업만 실행
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  protected volatile boolean ready;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    if (isEnabled()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * 인덱스 전체를 다시 만든다.
+   * 이미 다른 스레드가 다시 만드는 중이라면 그 작업이 바뀐 글까지 반영하므로 바로 반환한다.
+   */
+  public void rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      changedWhileRebuilding.clear();
+      build();
+
+      if (ready) {
+        for (Long postId : changedWhileRebuilding) {
+          reload(postId);
+        }
+      }
+      changedWhileRebuilding.clear();
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void update(PostChangedEvent event) {
+    if (!isEnabled() || ignores(event)) {
+      return;
+    }
+    if (rebuilding.get()) {
+      changedWhileRebuilding.add(event.getPostId());
+    }
+    if (ready) {
+      reload(event.getPostId());
+    }
+  }
+
+  protected abstract boolean isEnabled();
+
+  /**
+   * DB 를 다시 읽어 새 인덱스를 만들고 replace 로 바꿔 끼운다.
+   */
+  protected abstract void build();
+
+  /**
+   * 바뀐 글 하나를 DB 에서 다시 읽어 반영한다.
+   * 지워진 글이라면 인덱스에서 뺀다.
+   */
+  protected abstract void reload(Long postId);
+
+  /**
+   * 다시 읽지 않아도 되는 이벤트
+   * 기본으로는 좋아요 수, 댓글 수만 바뀐 이벤트를 무시한다.
+   */
+  protected boolean ignores(PostChangedEvent event) {
+    return event.isCountsOnly();
+  }
+
+  //새로 만든 인덱스로 바꿔 끼우고 사용할 수 있다고 표시
+  protected void replace(Runnable swap) {
+    lock
+        .writeLock()
+        .lock();
+    try {
+      swap.run();
+      ready = true;
+    } finally {
+      lock
+          .writeLock()
+          .unlock();
+    }
+  }
+}
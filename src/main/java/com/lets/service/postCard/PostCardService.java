@@ -0,0 +1,195 @@
+package com.lets.service.postCard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.postCard.LikePostCard;
+import com.lets.domain.postCard.PostCard;
+import com.lets.domain.postCard.PostCardRepository;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 목록 카드(PostCard) 관리
+ * 카드는 원본이 바뀌는 트랜잭션 안에서 함께 수정하기 때문에 커밋된 글과 카드는 항상 같다.
+ * app.postCard.enabled 가 true 일 때만 목록 조회에 카드를 사용하고, 시작할 때 카드가 없는 글의 카드를 chunkSize 만큼씩 만든다.
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class PostCardService {
+  private final PostCardRepository postCardRepository;
+  private final PostTechStackRepository postTechStackRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${app.postCard.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.postCard.chunkSize:1000}")
+  private int chunkSize;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public List<PostCard> findPostCards(
+      PostSearchRequestDto search,
+      PostCursor cursor,
+      Pageable pageable
+  ) {
+    return postCardRepository.findPostCards(search, cursor, pageable);
+  }
+
+  //주어진 id 순서대로 카드를 정렬
+  public List<PostCard> findPostCardsByIds(List<Long> postIds) {
+    if (postIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Map<Long, PostCard> postCardsById = postCardRepository
+        .findAllByPostIdIn(postIds)
+        .stream()
+        .collect(Collectors.toMap(PostCard::getPostId, postCard -> postCard));
+
+    return postIds
+        .stream()
+        .map(postCardsById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  public List<PostCard> findUserPostCards(long userId) {
+    return postCardRepository.findAllByUserId(userId);
+  }
+
+  public List<LikePostCard> findLikePostCards(long userId) {
+    return postCardRepository.findLikePostCards(userId);
+  }
+
+  @Transactional
+  public void save(
+      Post post,
+      List<String> tags
+  ) {
+    postCardRepository.save(PostCard.createPostCard(post, tags));
+  }
+
+  /**
+   * 글 내용, 태그, 모집 상태, 좋아요 수를 다시 반영한다.
+   * 카드가 아직 없는 글이라면 새로 만든다.
+   */
+  @Transactional
+  public void update(
+      Post post,
+      List<String> tags
+  ) {
+    postCardRepository
+        .findById(post.getId())
+        .ifPresentOrElse(
+            postCard -> postCard.change(post, tags),
+            () -> save(post, tags)
+        );
+  }
+
+  @Transactional
+  public void updateStatus(Post post) {
+    postCardRepository
+        .findById(post.getId())
+        .ifPresent(postCard -> postCard.changeStatus(post.getStatus()));
+  }
+
+  //좋아요 수는 동시에 바뀔 수 있기 때문에 엔티티 값을 복사하지 않고 DB 에서 직접 더함
+  @Transactional
+  public void updateLikeCount(
+      long postId,
+      long delta
+  ) {
+    postCardRepository.updateLikeCount(postId, delta);
+  }
+
+  @Transactional
+  public void delete(long postId) {
+    postCardRepository
+        .findById(postId)
+        .ifPresent(postCardRepository::delete);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    if (enabled) {
+      backfill();
+    }
+  }
+
+  /**
+   * 카드가 없는 글의 카드를 글 id 순서로 chunkSize 만큼씩 만든다.
+   */
+  public void backfill() {
+    long lastId = 0;
+    long created = 0;
+
+    while (true) {
+      long from = lastId;
+      //chunk 마다 별도 트랜잭션으로 처리해서 락을 오래 잡지 않도록 함
+      List<Long> postIds = transactionTemplate.execute(status -> backfillChunk(from));
+      if (postIds == null || postIds.isEmpty()) {
+        break;
+      }
+      created += postIds.size();
+      lastId = postIds.get(postIds.size() - 1);
+    }
+
+    log.info("backfill created {} post cards", created);
+  }
+
+  private List<Long> backfillChunk(long lastId) {
+    List<Post> posts = postCardRepository.findPostsWithoutCard(lastId, PageRequest.of(0, chunkSize));
+    if (posts.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Map<Long, List<String>> tagsByPostId = postTechStackRepository
+        .findAllByPosts(posts)
+        .stream()
+        .collect(Collectors.groupingBy(
+            postTechStack -> postTechStack
+                .getPost()
+                .getId(),
+            Collectors.mapping(
+                postTechStack -> postTechStack
+                    .getTag()
+                    .getName(),
+                Collectors.toList()
+            )
+        ));
+
+    List<PostCard> postCards = posts
+        .stream()
+        .map(post -> PostCard.createPostCard(post, tagsByPostId.getOrDefault(post.getId(), new ArrayList<>())))
+        .collect(Collectors.toList());
+    postCardRepository.saveAll(postCards);
+
+    return posts
+        .stream()
+        .map(Post::getId)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,182 @@
+package com.lets.service.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+import lombok.Getter;
+
+/**
+ * 접두어 사전
+ * 정규화한 키를 정렬한 배열에서 이분 탐색으로 접두어 범위를 찾고, 가중치 구간 최댓값 트리로 범위 안의 상위 k 개를 구한다.
+ * 범위가 아무리 넓어도 O(k log n) 이며, 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드에서 읽을 수 있다.
+ */
+public final class PrefixDictionary {
+  private final String[] keys;
+  private final Entry[] entries;
+  //tree[n + i] = i, tree[i] = 자식 중 가중치가 큰 위치
+  private final int[] tree;
+  private final int size;
+
+  public PrefixDictionary(List<Entry> entries) {
+    Entry[] sorted = entries.toArray(new Entry[0]);
+    Arrays.sort(sorted, Comparator
+        .comparing(Entry::getKey)
+        .thenComparingLong(Entry::getId));
+
+    this.size = sorted.length;
+    this.entries = sorted;
+    this.keys = new String[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = sorted[i].getKey();
+    }
+
+    this.tree = new int[Math.max(2, size * 2)];
+    for (int i = 0; i < size; i++) {
+      tree[size + i] = i;
+    }
+    for (int i = size - 1; i > 0; i--) {
+      tree[i] = heavier(tree[i * 2], tree[i * 2 + 1]);
+    }
+  }
+
+  public static String normalize(String text) {
+    return text
+        .trim()
+        .toLowerCase(Locale.ROOT);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 키가 prefix 로 시작하는 항목 중 가중치가 큰 순서로 k 개를 구한다.
+   * excluded 에 해당하는 id 는 건너뛴다.
+   */
+  public List<Entry> top(
+      String prefix,
+      int k,
+      LongPredicate excluded
+  ) {
+    List<Entry> result = new ArrayList<>();
+    int from = lowerBound(prefix);
+    int to = upperBound(prefix, from);
+    if (from >= to || k <= 0) {
+      return result;
+    }
+
+    //(구간 시작, 구간 끝, 구간 최댓값 위치)를 최댓값 가중치가 큰 순서로 꺼냄
+    PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compare(b[2], a[2]));
+    ranges.add(new int[] {from, to, max(from, to)});
+    while (!ranges.isEmpty() && result.size() < k) {
+      int[] range = ranges.poll();
+      int position = range[2];
+      if (!excluded.test(entries[position].getId())) {
+        result.add(entries[position]);
+      }
+      if (range[0] < position) {
+        ranges.add(new int[] {range[0], position, max(range[0], position)});
+      }
+      if (position + 1 < range[1]) {
+        ranges.add(new int[] {position + 1, range[1], max(position + 1, range[1])});
+      }
+    }
+    return result;
+  }
+
+  //prefix 이상인 첫 위치
+  private int lowerBound(String prefix) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid].compareTo(prefix) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  //from 이후 prefix 로 시작하지 않는 첫 위치
+  private int upperBound(
+      String prefix,
+      int from
+  ) {
+    int low = from;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid].startsWith(prefix)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  //[from, to) 에서 가중치가 가장 큰 위치
+  private int max(
+      int from,
+      int to
+  ) {
+    int result = from;
+    for (int low = from + size, high = to + size; low < high; low >>= 1, high >>= 1) {
+      if ((low & 1) == 1) {
+        result = heavier(result, tree[low++]);
+      }
+      if ((high & 1) == 1) {
+        result = heavier(result, tree[--high]);
+      }
+    }
+    return result;
+  }
+
+  private int heavier(
+      int a,
+      int b
+  ) {
+    return compare(a, b) >= 0 ? a : b;
+  }
+
+  //가중치가 크면 양수, 같다면 키 순서가 앞선 쪽이 큼
+  private int compare(
+      int a,
+      int b
+  ) {
+    int result = Long.compare(entries[a].getWeight(), entries[b].getWeight());
+    if (result != 0) {
+      return result;
+    }
+    return Integer.compare(b, a);
+  }
+
+  @Getter
+  public static class Entry {
+    private final long id;
+
+    private final String value;
+
+    private final long weight;
+
+    private final String key;
+
+    public Entry(
+        long id,
+        String value,
+        long weight
+    ) {
+      this.id = id;
+      this.value = value;
+      this.weight = weight;
+      this.key = normalize(value);
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package com.lets.service.suggestion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostTitle;
+import com.lets.domain.user.UserNickname;
+import com.lets.domain.user.UserRepository;
+import com.lets.service.post.PostChangedEvent;
+import com.lets.service.user.UserChangedEvent;
+import com.lets.web.dto.suggestion.SuggestionResponseDto;
+import com.lets.web.dto.suggestion.SuggestionType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 글 제목, 닉네임 자동완성
+ * 제목은 조회수, 닉네임은 작성한 글의 조회수 합을 가중치로 접두어가 같은 항목 중 상위 k 개를 DB 없이 구한다.
+ * 전체 항목은 PrefixDictionary 로 주기적으로 새로 만들고, 그 사이에 바뀐 항목은 변경분에 모아뒀다가 조회할 때 합친다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SuggestionService {
+  public static final int MAX_SIZE = 20;
+
+  private final PostRepository postRepository;
+  private final UserRepository userRepository;
+
+  private final Dictionary titles = new Dictionary();
+  private final Dictionary nicknames = new Dictionary();
+
+  @Value("${app.suggestion.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.suggestion.chunkSize:10000}")
+  private int chunkSize;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.suggestion.rebuildDelayInMs:600000}")
+  public void scheduledRebuild() {
+    if (enabled) {
+      rebuild();
+    }
+  }
+
+  /**
+   * DB 에서 제목, 닉네임을 모두 읽어 사전을 새로 만든다.
+   */
+  public void rebuild() {
+    long titleVersion = titles.version();
+    List<PrefixDictionary.Entry> titleEntries = new ArrayList<>();
+    long lastId = 0;
+    while (true) {
+      List<PostTitle> chunk = postRepository.findTitles(lastId, PageRequest.of(0, chunkSize));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      for (PostTitle postTitle : chunk) {
+        titleEntries.add(new PrefixDictionary.Entry(postTitle.getId(), postTitle.getTitle(), postTitle.getViewCount()));
+      }
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+      lastId = chunk
+          .get(chunk.size() - 1)
+          .getId();
+    }
+    titles.replace(new PrefixDictionary(titleEntries), titleVersion);
+
+    long nicknameVersion = nicknames.version();
+    List<PrefixDictionary.Entry> nicknameEntries = userRepository
+        .findNicknames()
+        .stream()
+        .map(userNickname -> new PrefixDictionary.Entry(
+            userNickname.getId(),
+            userNickname.getNickname(),
+            userNickname.getViewCount()
+        ))
+        .collect(Collectors.toList());
+    nicknames.replace(new PrefixDictionary(nicknameEntries), nicknameVersion);
+
+    log.info("suggestion dictionary rebuilt. titles={}, nicknames={}", titleEntries.size(), nicknameEntries.size());
+  }
+
+  /**
+   * 바뀐 글의 제목, 조회수를 다시 읽어 반영한다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void updateTitle(PostChangedEvent event) {
+    //좋아요 수, 댓글 수만 바뀌었다면 제목, 조회수는 그대로
+    if (!enabled || event.isCountsOnly()) {
+      return;
+    }
+
+    Long postId = event.getPostId();
+    postRepository
+        .findTitleById(postId)
+        .ifPresentOrElse(
+            postTitle -> titles.put(new PrefixDictionary.Entry(
+                postId,
+                postTitle.getTitle(),
+                postTitle.getViewCount()
+            )),
+            () -> titles.remove(postId)
+        );
+  }
+
+  /**
+   * 바뀐 유저의 닉네임을 다시 읽어 반영한다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void updateNickname(UserChangedEvent event) {
+    if (!enabled) {
+      return;
+    }
+
+    Long userId = event.getUserId();
+    userRepository
+        .findNicknameById(userId)
+        .ifPresentOrElse(
+            userNickname -> nicknames.put(new PrefixDictionary.Entry(
+                userId,
+                userNickname.getNickname(),
+                userNickname.getViewCount()
+            )),
+            () -> nicknames.remove(userId)
+        );
+  }
+
+  public List<SuggestionResponseDto> suggest(
+      String prefix,
+      SuggestionType type,
+      int size
+  ) {
+    String key = PrefixDictionary.normalize(prefix);
+    if (key.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Dictionary dictionary = type == SuggestionType.NICKNAME ? nicknames : titles;
+    return dictionary
+        .top(key, Math.max(1, Math.min(size, MAX_SIZE)))
+        .stream()
+        .map(entry -> SuggestionResponseDto.from(entry.getId(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 사전과 사전을 만든 뒤 바뀐 항목(변경분)
+   * 변경분에는 바뀐 순서를 함께 저장해서 사전을 새로 만드는 동안 바뀐 항목은 새 사전으로 바꾼 뒤에도 남긴다.
+   * 변경분은 정규화한 키 순서로도 모아둬서 접두어가 같은 변경분만 범위로 조회한다.
+   */
+  private static class Dictionary {
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, Map<Long, PrefixDictionary.Entry>> changedEntries =
+        new ConcurrentSkipListMap<>();
+    private volatile PrefixDictionary base = new PrefixDictionary(new ArrayList<>());
+
+    private long version() {
+      return sequence.get();
+    }
+
+    private synchronized void put(PrefixDictionary.Entry entry) {
+      change(entry.getId(), entry);
+    }
+
+    //지운 항목은 entry 가 null 인 변경으로 남김
+    private synchronized void remove(long id) {
+      change(id, null);
+    }
+
+    //version 이전의 변경은 새 사전에 이미 반영되어 있음
+    private synchronized void replace(
+        PrefixDictionary newBase,
+        long version
+    ) {
+      base = newBase;
+      Iterator<Map.Entry<Long, Change>> iterator = changes
+          .entrySet()
+          .iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<Long, Change> change = iterator.next();
+        if (change.getValue().sequence <= version) {
+          iterator.remove();
+          unindex(change.getKey(), change.getValue());
+        }
+      }
+    }
+
+    private List<PrefixDictionary.Entry> top(
+        String key,
+        int k
+    ) {
+      List<PrefixDictionary.Entry> result = base.top(key, k, changes::containsKey);
+      boolean changed = false;
+      for (Map<Long, PrefixDictionary.Entry> entries : changedEntries
+          .subMap(key, true, key + Character.MAX_VALUE, false)
+          .values()) {
+        result.addAll(entries.values());
+        changed = true;
+      }
+
+      if (changed) {
+        result.sort(Comparator
+                        .comparingLong(PrefixDictionary.Entry::getWeight)
+                        .reversed()
+                        .thenComparing(PrefixDictionary.Entry::getKey));
+      }
+      return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    private void change(
+        long id,
+        PrefixDictionary.Entry entry
+    ) {
+      unindex(id, changes.put(id, new Change(sequence.incrementAndGet(), entry)));
+      if (entry != null) {
+        changedEntries
+            .computeIfAbsent(entry.getKey(), key -> new ConcurrentHashMap<>())
+            .put(id, entry);
+      }
+    }
+
+    private void unindex(
+        long id,
+        Change change
+    ) {
+      if (change == null || change.entry == null) {
+        return;
+      }
+      changedEntries.computeIfPresent(change.entry.getKey(), (key, entries) -> {
+        entries.remove(id);
+        return entries.isEmpty() ? null : entries;
+      });
+    }
+  }
+
+  private static class Change {
+    private final long sequence;
+    private final PrefixDictionary.Entry entry;
+
+    private Change(
+        long sequence,
+        PrefixDictionary.Entry entry
+    ) {
+      this.sequence = sequence;
+      this.entry = entry;
+    }
+  }
+}
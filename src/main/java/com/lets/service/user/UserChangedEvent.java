@@ -0,0 +1,13 @@
+package com.lets.service.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저 프로필(닉네임, 프로필 이미지)이 바뀌거나 유저가 탈퇴했을 때 발행하는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+  private final Long userId;
+}
@@ -0,0 +1,112 @@
+package com.lets.service.user;
+
+import static com.lets.util.RedisNamespace.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lets.service.post.PostService;
+import com.lets.util.RedisUtil;
+import com.lets.web.dto.post.PostResponseDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저 관심 태그 기반 추천 글 캐시
+ * 유저마다 추천 결과를 JSON 으로 저장하고, 설정 변경으로 관심 태그가 바뀌거나 탈퇴하면 지운다.
+ * 글이 바뀐 것은 ttl 이 지나면 반영된다.
+ * 캐시 저장은 응답을 기다리지 않고, Redis 를 사용할 수 없을 때는 바로 추천 글을 구한다.
+ */
+@Slf4j
+@Service
+public class UserRecommendCacheService {
+  private final PostService postService;
+  private final RedisUtil redisUtil;
+  private final ObjectMapper objectMapper;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  @Value("${app.userRecommendCache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.userRecommendCache.ttlInSeconds:300}")
+  private long ttlInSeconds;
+
+  public UserRecommendCacheService(
+      PostService postService,
+      RedisUtil redisUtil,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry
+  ) {
+    this.postService = postService;
+    this.redisUtil = redisUtil;
+    this.objectMapper = objectMapper;
+    this.hitCounter = Counter
+        .builder("cache.gets")
+        .tag("cache", "userRecommend")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter
+        .builder("cache.gets")
+        .tag("cache", "userRecommend")
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  public List<PostResponseDto> recommendPosts(long userId) {
+    if (!enabled) {
+      return postService.recommendUserPosts(userId);
+    }
+
+    String key = USER_RECOMMEND.key(userId);
+    try {
+      String cached = redisUtil.getData(USER_RECOMMEND, userId);
+      if (cached != null) {
+        hitCounter.increment();
+        return objectMapper.readValue(cached, new TypeReference<List<PostResponseDto>>() {
+        });
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("user recommend cache get failed. key={}", key, e);
+      return postService.recommendUserPosts(userId);
+    }
+
+    missCounter.increment();
+    List<PostResponseDto> result = postService.recommendUserPosts(userId);
+
+    try {
+      redisUtil.setDataAsync(USER_RECOMMEND, userId, objectMapper.writeValueAsString(result), Duration.ofSeconds(ttlInSeconds));
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("user recommend cache put failed. key={}", key, e);
+    }
+    return result;
+  }
+
+  /**
+   * 관심 태그가 바뀌었을 수 있으므로 유저의 추천 결과를 지운다.
+   * 커밋 전에 지우면 다른 요청이 이전 태그로 다시 캐시를 채울 수 있기 때문에 커밋 후에 지운다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void evict(UserChangedEvent event) {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      redisUtil.deleteData(USER_RECOMMEND, event.getUserId());
+    } catch (DataAccessException e) {
+      log.warn("user recommend cache evict failed. userId={}", event.getUserId(), e);
+    }
+  }
+}
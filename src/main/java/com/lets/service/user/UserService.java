@@ -4,15 +4,19 @@ import static com.lets.exception.ErrorCode.*;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.lets.domain.likePost.LikePostRepository;
 import com.lets.domain.post.Post;
 import com.lets.domain.post.PostRepository;
+import com.lets.domain.postCard.PostCardRepository;
 import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.tag.Tag;
 import com.lets.domain.tag.TagRepository;
@@ -23,6 +27,7 @@ import com.lets.domain.userTechStack.UserTechStackRepository;
 import com.lets.exception.CustomException;
 import com.lets.exception.ErrorCode;
 import com.lets.security.AuthProvider;
+import com.lets.service.post.PostChangedEvent;
 import com.lets.util.CloudinaryUtil;
 import com.lets.util.FileUtil;
 import com.lets.web.dto.auth.SignupRequestDto;
@@ -41,7 +46,9 @@ public class UserService {
   private final LikePostRepository likePostRepository;
   private final TagRepository tagRepository;
   private final PostRepository postRepository;
+  private final PostCardRepository postCardRepository;
   private final CloudinaryUtil cloudinaryUtil;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   private final FileUtil fileUtil;
 
@@ -87,11 +94,16 @@ public class UserService {
 
     //postTechStack 삭제
     List<Post> posts = postRepository.findAllByUser(user);
+    //지운 글을 색인, 캐시에서도 빼도록 태그를 지우기 전에 이벤트를 만들어 둠
+    List<PostChangedEvent> postChangedEvents = createPostChangedEvents(posts);
     postTechStackRepository.deleteAllByPost(posts);
 
     //likePost 삭제
     likePostRepository.deleteAllByPost(posts);
 
+    //글 목록 카드 삭제
+    postCardRepository.deleteAllByUserId(user.getId());
+
     //post 삭제
     List<Long> postIds = posts
         .stream()
@@ -101,6 +113,9 @@ public class UserService {
 
     //user 삭제
     userRepository.deleteById(user.getId());
+
+    applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+    postChangedEvents.forEach(applicationEventPublisher::publishEvent);
   }
 
   public User findBySocialLoginIdAndAuthProvider(
@@ -157,6 +172,10 @@ public class UserService {
     List<UserTechStack> userTechStacks = changeUserTechStack(user, settingRequestDto.getTags());
     changeNickname(user, settingRequestDto.getNickname());
 
+    //글 목록 카드의 작성자 정보 반영
+    postCardRepository.updateProfile(user.getId(), user.getNickname(), user.getPublicId());
+    applicationEventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+
     String profile = cloudinaryUtil.findFileURL(user.getPublicId());
     List<String> tags = userTechStacks
         .stream()
@@ -241,6 +260,28 @@ public class UserService {
   /**
    * 기존 프로필 삭제
    */
+  private List<PostChangedEvent> createPostChangedEvents(List<Post> posts) {
+    if (posts.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<Long, List<String>> tagNames = postTechStackRepository
+        .findAllByPosts(posts)
+        .stream()
+        .collect(Collectors.groupingBy(
+            postTechStack -> postTechStack
+                .getPost()
+                .getId(),
+            Collectors.mapping(postTechStack -> postTechStack
+                .getTag()
+                .getName(), Collectors.toList())
+        ));
+    return posts
+        .stream()
+        .map(post -> PostChangedEvent.of(post, tagNames.getOrDefault(post.getId(), Collections.emptyList())))
+        .collect(Collectors.toList());
+  }
+
   private void deleteProfile(String publicId) {
     //이전에 설정해 놓은 이미지가 기본 이미지가 아님 -> 기존 이미지 삭제
     if (!publicId.equals("default")) {
@@ -22,6 +22,14 @@ public class CookieUtil {
     return token;
   }
 
+  /**
+   * SameSite 를 지정하기 위해 refresh token 쿠키를 Set-Cookie 헤더 값으로 만든다.
+   */
+  public String createRefreshTokenHeader(String refreshToken) {
+    return "refreshToken=" + refreshToken + "; Secure; SameSite=none; HttpOnly=true; Path=/; Expires="
+        + refreshTokenExpirationInMs + ";";
+  }
+
   public Cookie getCookie(HttpServletRequest req) {
     final Cookie[] cookies = req.getCookies();
     if (cookies == null) {
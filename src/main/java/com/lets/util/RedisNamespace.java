@@ -0,0 +1,25 @@
+package com.lets.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 레디스 키 접두사
+ * 같은 레디스를 쓰는 기능끼리 키가 겹치지 않도록 용도마다 접두사를 붙인다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RedisNamespace {
+  REFRESH_TOKEN("rt:"),
+  REFRESH_TOKEN_USER("rt:user:"),
+  REFRESH_TOKEN_ROTATED("rt:rotated:"),
+  FEED("cache:feed:"),
+  FEED_INDEX("cache:feed:index:"),
+  USER_RECOMMEND("cache:user:recommend:");
+
+  private final String prefix;
+
+  public String key(Object id) {
+    return prefix + id;
+  }
+}
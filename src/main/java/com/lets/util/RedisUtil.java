@@ -1,34 +1,66 @@
 package com.lets.util;
 
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import java.time.Duration;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 문자열 키, 값으로 레디스를 사용한다.
+ * 키는 RedisNamespace 접두사를 붙여 만들고, 키와 값은 StringRedisSerializer 로 저장해서 JDK 직렬화의 클래스 정보가 붙지 않는다.
+ * 응답을 기다릴 필요 없는 쓰기는 비동기(Lettuce)로 보낸다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class RedisUtil {
-  private final RedisTemplate redisTemplate;
+  private final StringRedisTemplate redisTemplate;
+  private final ReactiveStringRedisTemplate reactiveRedisTemplate;
 
-  public String getData(String key) {
-    ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-    String value = valueOperations.get(key);
-    return value;
+  public String getData(
+      RedisNamespace namespace,
+      Object id
+  ) {
+    return redisTemplate
+        .opsForValue()
+        .get(namespace.key(id));
   }
 
   public void setData(
-      String key,
-      String value
+      RedisNamespace namespace,
+      Object id,
+      String value,
+      Duration ttl
   ) {
-
-    ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-    valueOperations.set(key, value);
-
+    redisTemplate
+        .opsForValue()
+        .set(namespace.key(id), value, ttl);
   }
 
-  public void deleteData(String key) {
-    redisTemplate.delete(key);
+  /**
+   * 응답을 기다리지 않고 저장한다. 실패하면 로그만 남긴다.
+   */
+  public void setDataAsync(
+      RedisNamespace namespace,
+      Object id,
+      String value,
+      Duration ttl
+  ) {
+    String key = namespace.key(id);
+    reactiveRedisTemplate
+        .opsForValue()
+        .set(key, value, ttl)
+        .subscribe(null, e -> log.warn("redis async set failed. key={}", key, e));
+  }
 
+  public void deleteData(
+      RedisNamespace namespace,
+      Object id
+  ) {
+    redisTemplate.delete(namespace.key(id));
   }
 }
@@ -22,13 +22,15 @@ import org.springframework.web.bind.annotation.RestController;
 import com.lets.domain.user.User;
 import com.lets.exception.CustomException;
 import com.lets.security.JwtAuthentication;
+import com.lets.security.JwtClaims;
 import com.lets.security.JwtTokenProvider;
+import com.lets.security.RefreshTokenStore;
+import com.lets.security.RotatedRefreshToken;
 import com.lets.security.UserPrincipal;
 import com.lets.service.user.UserService;
 import com.lets.util.CloudinaryUtil;
 import com.lets.util.CookieUtil;
 import com.lets.util.FileUtil;
-import com.lets.util.RedisUtil;
 import com.lets.web.dto.auth.AuthResponseDto;
 import com.lets.web.dto.auth.LoginRequestDto;
 import com.lets.web.dto.auth.SignInResponseDto;
@@ -44,7 +46,7 @@ public class AuthController {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final CookieUtil cookieUtill;
-  private final RedisUtil redisUtil;
+  private final RefreshTokenStore refreshTokenStore;
   private final FileUtil fileUtil;
   private final CloudinaryUtil cloudinaryUtil;
   private final UserService userService;
@@ -53,7 +55,10 @@ public class AuthController {
    *  access token 재발급
    */
   @PostMapping("/silent-refresh")
-  public AuthResponseDto getAccessToken(HttpServletRequest request) {
+  public AuthResponseDto getAccessToken(
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) {
 
     /**
      * cookieUtil.getCookie()를 Optional()로 반환하게 해서 더 가독성 있게 예외처리를 할 수 있지만,
@@ -70,28 +75,31 @@ public class AuthController {
     }
     String refreshToken = refreshTokenCookie.getValue();
 
-    //refresh token 이 레디스에 존재하는지 확인 -> 유저가 로그아웃 후에 refresh token 으로 access token 재발급 요청하면 막아야함.
-    if (redisUtil.getData(refreshToken) == null) {
-      throw new CustomException(INVALID_REFRESH_TOKEN);
-    }
-
-    //refresh token 유효성 확인
-    boolean isValidate = jwtTokenProvider.validateToken(refreshToken);
-
-    if (!isValidate) {
-      throw new CustomException(INVALID_REFRESH_TOKEN);
+    //refresh token 유효성 확인 (서명, 만료 시간)
+    JwtClaims claims = jwtTokenProvider
+        .parseToken(refreshToken)
+        .orElseThrow(() -> new CustomException(INVALID_REFRESH_TOKEN));
+
+    //새 refresh token 발행
+    Authentication authentication = jwtTokenProvider.getRefreshAuthentication(claims);
+    String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+
+    //레디스에서 refresh token 교체 -> 유저가 로그아웃 후에 refresh token 으로 access token 재발급 요청하면 막아야함.
+    //레디스를 사용할 수 없다면 이전 refresh token 을 계속 사용
+    RotatedRefreshToken rotatedRefreshToken = refreshTokenStore
+        .rotate(refreshToken, newRefreshToken, claims.getUserId())
+        .orElseThrow(() -> new CustomException(INVALID_REFRESH_TOKEN));
+    response.setHeader("Set-Cookie", cookieUtill.createRefreshTokenHeader(rotatedRefreshToken.getRefreshToken()));
+
+    //access token 발행 (닉네임은 레디스에 저장한 닉네임, 없다면 refresh token 클레임을 사용)
+    if (rotatedRefreshToken.getNickname() != null) {
+      authentication = jwtTokenProvider.getAuthentication(claims, rotatedRefreshToken.getNickname());
     }
-
-    //유저 정보 조회
-    Long userId = jwtTokenProvider.getUserIdFromJWT(refreshToken);
-    User user = userService.findById(userId);
-
-    //access token 발행
-    Authentication authentication = jwtTokenProvider.getAuthenticationFromJWT(refreshToken);
     String accessToken = jwtTokenProvider.generateAccessToken(authentication);
 
     //응답
-    return AuthResponseDto.from(user.getNickname(), accessToken, "OK");
+    UserPrincipal principal = (UserPrincipal)authentication.getPrincipal();
+    return AuthResponseDto.from(principal.getUsername(), accessToken, "OK");
   }
 
   /**
@@ -147,17 +155,11 @@ public class AuthController {
     String accessToken = jwtTokenProvider.generateAccessToken(jwtAuthentication);
     String refreshToken = jwtTokenProvider.generateRefreshToken(jwtAuthentication);
 
-    //레디스에 refresh token 저장
-    redisUtil.setData(refreshToken, Long.toString(principal.getId()));
+    //레디스에 refresh token 저장 (만료 시간까지만 남음)
+    refreshTokenStore.save(refreshToken, principal.getId(), principal.getUsername());
 
     //refresh token 쿠키 생성 후 응답에 추가
-    Cookie refreshTokenCookie = cookieUtill.createCookie("refreshToken", refreshToken);
-    // response.addCookie(refreshTokenCookie);
-    response.setHeader(
-        "Set-Cookie",
-        "refreshToken=" + refreshToken + "; Secure; SameSite=none; HttpOnly=true; Path=/; Expires="
-            + refreshTokenCookie.getMaxAge() + ";"
-    );
+    response.setHeader("Set-Cookie", cookieUtill.createRefreshTokenHeader(refreshToken));
 
     //프로필 URI
     String profile = cloudinaryUtil.findFileURL(findUser.getPublicId());
@@ -187,7 +189,7 @@ public class AuthController {
 
     //refresh token 값을 얻어 레디스에서 지운다.
     String refreshToken = refreshTokenCookie.getValue();
-    redisUtil.deleteData(refreshToken);
+    refreshTokenStore.delete(refreshToken);
   }
 
   /**
@@ -198,7 +200,7 @@ public class AuthController {
     //==flow==//
     1. 클라이언트에서 access token 과 함께 요청
     2. 서버는 사용자 계정을 삭제한다.
-    3. 서버는 레디스에 존재하는 refresh token 을 지워서 access token 재발급을 막는다.
+    3. 서버는 레디스에 존재하는 유저의 모든 refresh token 을 지워서 모든 기기에서 access token 재발급을 막는다.
     4. 클라이언트는 서버에서 정상 응답이 오면 access token 을 지운다.
      */
   @PostMapping("/signout")
@@ -208,6 +210,12 @@ public class AuthController {
       HttpServletRequest request
   ) {
 
+    //쿠키에 refresh token 이 없다면 유저를 삭제하기 전에 예외 던짐
+    Cookie refreshTokenCookie = cookieUtill.getCookie(request);
+    if (refreshTokenCookie == null) {
+      throw new CustomException(REFRESH_TOKEN_NOT_FOUND);
+    }
+
     //유저 존재하는지 확인
     userService.existsById(principal.getId());
 
@@ -215,13 +223,7 @@ public class AuthController {
     User user = userService.findById(principal.getId());
     userService.signout(user);
 
-    //refresh token 삭제
-    Cookie refreshTokenCookie = cookieUtill.getCookie(request);
-    if (refreshTokenCookie == null) {
-      throw new CustomException(REFRESH_TOKEN_NOT_FOUND);
-    }
-    String refreshToken = refreshTokenCookie.getValue();
-
-    redisUtil.deleteData(refreshToken);
+    //다른 기기에서 로그인한 refresh token 도 함께 삭제 (재발급은 DB 를 조회하지 않으므로 반드시 지워야 함)
+    refreshTokenStore.deleteAll(principal.getId());
   }
 }
@@ -15,19 +15,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.lets.security.UserPrincipal;
+import com.lets.service.likePost.LikePostService;
+import com.lets.service.post.PostFeedCacheService;
+import com.lets.service.post.PostRecommendCacheService;
 import com.lets.service.post.PostService;
+import com.lets.service.suggestion.SuggestionService;
 import com.lets.web.dto.likepost.ChangeLikePostStatusResponseDto;
+import com.lets.web.dto.likepost.LikePostStatusResponseDto;
 import com.lets.web.dto.post.ChangePostStatusResponseDto;
 import com.lets.web.dto.post.PostCommentResponseDto;
+import com.lets.web.dto.post.PostCursorResponseDto;
 import com.lets.web.dto.post.PostRecommendRequestDto;
 import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
 import com.lets.web.dto.post.PostSaveRequestDto;
 import com.lets.web.dto.post.PostSearchRequestDto;
 import com.lets.web.dto.post.PostUpdateRequestDto;
+import com.lets.web.dto.suggestion.SuggestionResponseDto;
+import com.lets.web.dto.suggestion.SuggestionType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,17 +45,76 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/posts")
 public class PostController {
   private final PostService postService;
+  private final PostFeedCacheService postFeedCacheService;
+  private final PostRecommendCacheService postRecommendCacheService;
+  private final LikePostService likePostService;
+  private final SuggestionService suggestionService;
 
   /**
    * 글 검색
+   * 로그인한 유저라면 캐시된 검색 결과에 유저의 좋아요 상태를 채운다.
    */
   @GetMapping("/filter")
   public List<PostResponseDto> searchPosts(
+      @AuthenticationPrincipal UserPrincipal principal,
       @ModelAttribute PostSearchRequestDto search,
       @PageableDefault(size = 20, sort = {
           "createdDate"}, direction = Sort.Direction.DESC) Pageable pageable
   ) {
-    return postService.searchPosts(search, pageable);
+    return likePostService.addLikePostStatuses(
+        userIdOf(principal),
+        postFeedCacheService.searchPosts(search, pageable)
+    );
+  }
+
+  /**
+   * 글 검색 (커서)
+   * cursor 파라미터가 있으면 page 대신 이전 응답의 nextCursor 이후의 글을 조회한다.
+   * 첫 페이지는 빈 cursor 로 요청한다.
+   */
+  @GetMapping(value = "/filter", params = "cursor")
+  public PostCursorResponseDto searchPostsByCursor(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @ModelAttribute PostSearchRequestDto search,
+      @RequestParam String cursor,
+      @PageableDefault(size = 20, sort = {
+          "createdDate"}, direction = Sort.Direction.DESC) Pageable pageable
+  ) {
+    PostCursorResponseDto result = postFeedCacheService.searchPostsByCursor(search, cursor, pageable);
+    return PostCursorResponseDto.from(
+        likePostService.addLikePostStatuses(userIdOf(principal), result.getPosts()),
+        result.getNextCursor()
+    );
+  }
+
+  /**
+   * 글 제목, 본문 키워드 검색
+   * 관련도 순으로 정렬하며 status, tags, match 조건은 글 검색과 같다.
+   */
+  @GetMapping("/search")
+  public List<PostResponseDto> searchPostsByKeyword(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @RequestParam("q") String keyword,
+      @ModelAttribute PostSearchRequestDto search,
+      @PageableDefault(size = 20) Pageable pageable
+  ) {
+    return likePostService.addLikePostStatuses(
+        userIdOf(principal),
+        postService.searchPostsByKeyword(keyword, search, pageable)
+    );
+  }
+
+  /**
+   * 글 제목, 작성자 닉네임 자동완성
+   * q 로 시작하는 제목(닉네임)을 조회수가 많은 순서로 size 개(최대 20개)까지 조회한다.
+   */
+  @GetMapping("/suggestions")
+  public List<SuggestionResponseDto> suggest(
+      @RequestParam("q") String prefix,
+      @RequestParam(defaultValue = "TITLE") SuggestionType type,
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    return suggestionService.suggest(prefix, type, size);
   }
 
   @PostMapping
@@ -98,6 +166,19 @@ public class PostController {
     return postService.changeLikeStatus(principal.getId(), postId);
   }
 
+  /**
+   * 글 id 목록의 좋아요 상태 조회
+   * 요청한 글 id 순서대로 반환하며 한번에 100개까지 조회할 수 있다.
+   */
+  @PostMapping("/likes/status")
+  @PreAuthorize("hasRole('ROLE_USER')")
+  public List<LikePostStatusResponseDto> findLikePostStatuses(
+      @AuthenticationPrincipal UserPrincipal principal,
+      @RequestBody List<Long> postIds
+  ) {
+    return likePostService.findLikePostStatuses(principal.getId(), postIds);
+  }
+
   @PostMapping("/{postId}/status")
   @PreAuthorize("hasRole('ROLE_USER')")
   public ChangePostStatusResponseDto changePostStatus(
@@ -114,9 +195,10 @@ public class PostController {
       @PathVariable("postId") long postId,
       @ModelAttribute PostRecommendRequestDto postRecommendRequestDto
   ) {
-    if (principal == null) {
-      return postService.recommendPosts(null, postId, postRecommendRequestDto);
-    }
-    return postService.recommendPosts(principal.getId(), postId, postRecommendRequestDto);
+    return postRecommendCacheService.recommendPosts(userIdOf(principal), postId, postRecommendRequestDto);
+  }
+
+  private Long userIdOf(UserPrincipal principal) {
+    return principal == null ? null : principal.getId();
   }
 }
@@ -12,9 +12,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.lets.security.JwtAuthentication;
+import com.lets.security.JwtTokenProvider;
+import com.lets.security.RefreshTokenStore;
 import com.lets.security.UserPrincipal;
 import com.lets.service.likePost.LikePostService;
 import com.lets.service.post.PostService;
+import com.lets.service.user.UserRecommendCacheService;
 import com.lets.service.user.UserService;
 import com.lets.web.dto.likepost.LikePostResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
@@ -30,6 +34,9 @@ public class UserController {
   private final UserService userService;
   private final PostService postService;
   private final LikePostService likePostService;
+  private final UserRecommendCacheService userRecommendCacheService;
+  private final JwtTokenProvider jwtTokenProvider;
+  private final RefreshTokenStore refreshTokenStore;
 
   /**
    * 작성 글 조회
@@ -37,7 +44,7 @@ public class UserController {
   @GetMapping("/myPosts")
   @PreAuthorize("hasRole('ROLE_USER')")
   public List<PostResponseDto> findMyPosts(@AuthenticationPrincipal UserPrincipal principal) {
-    return postService.findUserPosts(principal.getId());
+    return likePostService.addLikePostStatuses(principal.getId(), postService.findUserPosts(principal.getId()));
   }
 
   /**
@@ -49,6 +56,18 @@ public class UserController {
     return likePostService.findLikePosts(principal.getId());
   }
 
+  /**
+   * 관심 태그 기반 추천 글 조회
+   */
+  @GetMapping("/recommendations")
+  @PreAuthorize("hasRole('ROLE_USER')")
+  public List<PostResponseDto> findRecommendations(@AuthenticationPrincipal UserPrincipal principal) {
+    return likePostService.addLikePostStatuses(
+        principal.getId(),
+        userRecommendCacheService.recommendPosts(principal.getId())
+    );
+  }
+
   @GetMapping("/setting")
   @PreAuthorize("hasRole('ROLE_USER')")
   public SettingResponseDto getSetting(@AuthenticationPrincipal UserPrincipal principal) {
@@ -61,6 +80,20 @@ public class UserController {
       @AuthenticationPrincipal UserPrincipal principal,
       @Valid @RequestBody SettingRequestDto settingDto
   ) {
-    return userService.setSetting(principal.getId(), settingDto);
+    SettingResponseDto setting = userService.setSetting(principal.getId(), settingDto);
+    if (setting
+        .getNickname()
+        .equals(principal.getUsername())) {
+      return setting;
+    }
+
+    //access token 에 닉네임이 담겨 있으므로 닉네임이 바뀌면 access token 재발급
+    UserPrincipal changedPrincipal = UserPrincipal.create(principal.getId(), setting.getNickname(), principal.getAuthorities());
+    String accessToken = jwtTokenProvider.generateAccessToken(new JwtAuthentication(changedPrincipal));
+
+    //로그인한 모든 기기가 다음 재발급부터 새 닉네임을 받도록 레디스에 저장한 닉네임 변경 (로그아웃시키지 않음)
+    refreshTokenStore.updateNickname(principal.getId(), setting.getNickname());
+
+    return setting.withAccessToken(accessToken);
   }
 }
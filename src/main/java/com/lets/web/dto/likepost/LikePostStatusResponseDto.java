@@ -0,0 +1,25 @@
+package com.lets.web.dto.likepost;
+
+import com.lets.domain.likePost.LikePostStatus;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class LikePostStatusResponseDto {
+  private final long postId;
+
+  private final LikePostStatus likePostStatus;
+
+  public static LikePostStatusResponseDto from(
+      long postId,
+      LikePostStatus likePostStatus
+  ) {
+    return LikePostStatusResponseDto.builder()
+        .postId(postId)
+        .likePostStatus(likePostStatus)
+        .build();
+  }
+}
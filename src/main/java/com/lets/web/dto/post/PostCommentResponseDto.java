@@ -34,6 +34,8 @@ public class PostCommentResponseDto {
 
   private LocalDateTime createdDate;
 
+  private final long commentCount;
+
   private List<CommentResponseDto> comments;
 
   private String nickname;
@@ -49,6 +51,7 @@ public class PostCommentResponseDto {
       String content,
       LikePostStatus likePostStatus,
       LocalDateTime createdDate,
+      long commentCount,
       List<CommentResponseDto> comments,
       String nickName
   ) {
@@ -64,6 +67,7 @@ public class PostCommentResponseDto {
         .content(content)
         .likePostStatus(likePostStatus)
         .createdDate(createdDate)
+        .commentCount(commentCount)
         .comments(comments)
         .nickname(nickName)
         .build();
@@ -0,0 +1,137 @@
+package com.lets.web.dto.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.postCard.PostCard;
+import com.lets.exception.CustomException;
+import com.lets.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반 글 검색에 사용하는 커서
+ * (정렬 기준 값, 글 id)를 base64로 인코딩해서 클라이언트에는 불투명한 문자열로 전달한다.
+ * 정렬 기준 값이 같은 글이 여러 개일 수 있으므로 글 id를 보조 정렬 기준으로 사용한다.
+ */
+@Getter
+public class PostCursor {
+  public static final String CREATED_DATE = "createdDate";
+  public static final String VIEW_COUNT = "viewCount";
+
+  private static final String DELIMITER = "|";
+
+  private final String sort;
+  private final String value;
+  private final long id;
+
+  private PostCursor(
+      String sort,
+      String value,
+      long id
+  ) {
+    this.sort = sort;
+    this.value = value;
+    this.id = id;
+  }
+
+  public static PostCursor of(
+      String sort,
+      Post post
+  ) {
+    if (sort.equals(VIEW_COUNT)) {
+      return new PostCursor(sort, Long.toString(post.getViewCount()), post.getId());
+    }
+    return new PostCursor(sort, post
+        .getCreatedDate()
+        .toString(), post.getId());
+  }
+
+  public static PostCursor of(
+      String sort,
+      PostCard postCard
+  ) {
+    if (sort.equals(VIEW_COUNT)) {
+      return new PostCursor(sort, Long.toString(postCard.getViewCount()), postCard.getPostId());
+    }
+    return new PostCursor(sort, postCard
+        .getCreatedDate()
+        .toString(), postCard.getPostId());
+  }
+
+  /**
+   * 비어있는 커서는 첫 페이지 요청이므로 null 을 반환한다.
+   */
+  public static PostCursor decode(String cursor) {
+    if (!StringUtils.hasText(cursor)) {
+      return null;
+    }
+
+    try {
+      String decoded = new String(Base64
+                                      .getUrlDecoder()
+                                      .decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = decoded.split("\\" + DELIMITER);
+      if (parts.length != 3) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+
+      PostCursor postCursor = new PostCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+
+      //정렬 기준 값 형식 확인
+      if (postCursor.sort.equals(VIEW_COUNT)) {
+        postCursor.getViewCount();
+      } else if (postCursor.sort.equals(CREATED_DATE)) {
+        postCursor.getCreatedDate();
+      } else {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      return postCursor;
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  /**
+   * 요청 정렬 조건에서 커서 정렬 기준을 구한다.
+   * PostTechStackCustomRepositoryImpl.getOrderSpecifier()와 같은 규칙을 따른다.
+   */
+  public static String sortOf(Sort sort) {
+    String result = CREATED_DATE;
+    for (Sort.Order order : sort) {
+      if (order
+          .getProperty()
+          .equals(VIEW_COUNT)) {
+        result = VIEW_COUNT;
+      } else if (order
+          .getProperty()
+          .equals(CREATED_DATE)) {
+        result = CREATED_DATE;
+      }
+    }
+    return result;
+  }
+
+  public String encode() {
+    String raw = sort + DELIMITER + value + DELIMITER + id;
+    return Base64
+        .getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public LocalDateTime getCreatedDate() {
+    return LocalDateTime.parse(value);
+  }
+
+  public long getViewCount() {
+    return Long.parseLong(value);
+  }
+}
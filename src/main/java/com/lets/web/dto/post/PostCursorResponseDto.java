@@ -0,0 +1,29 @@
+package com.lets.web.dto.post;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 글 검색 응답에 사용하는 DTO
+ * 다음 페이지가 없다면 nextCursor 는 null 이다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class PostCursorResponseDto {
+  private final List<PostResponseDto> posts;
+
+  private final String nextCursor;
+
+  public static PostCursorResponseDto from(
+      List<PostResponseDto> posts,
+      String nextCursor
+  ) {
+    return PostCursorResponseDto.builder()
+        .posts(posts)
+        .nextCursor(nextCursor)
+        .build();
+  }
+}
@@ -1,5 +1,7 @@
 package com.lets.web.dto.post;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,10 +13,19 @@ public class PostRecommendResponseDto {
 
   private final String title;
 
+  //추천 글 캐시에서 조회한 유저의 글을 거를 때 사용
+  @JsonIgnore
+  private final Long userId;
+
   public static PostRecommendResponseDto PostRecommendToDto(long id, String title) {
+    return PostRecommendToDto(id, title, null);
+  }
+
+  public static PostRecommendResponseDto PostRecommendToDto(long id, String title, Long userId) {
     return PostRecommendResponseDto.builder()
         .id(id)
         .title(title)
+        .userId(userId)
         .build();
   }
 }
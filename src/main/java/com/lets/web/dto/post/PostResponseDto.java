@@ -2,6 +2,7 @@ package com.lets.web.dto.post;
 
 import java.util.List;
 
+import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.PostStatus;
 
 import lombok.AccessLevel;
@@ -10,10 +11,10 @@ import lombok.Getter;
 
 /**
  * 글 검색 응답에 사용하는 DTO
- * 글 검색시 LikePostStatus는 필요없으므로 추가하지 않았음.
+ * likePostStatus 는 INACTIVE 로 만들고 로그인한 유저라면 목록을 조회한 뒤 한번에 채운다.
  */
 @Getter
-@Builder(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true, access = AccessLevel.PRIVATE)
 public class PostResponseDto {
   private final String profile;
 
@@ -33,6 +34,8 @@ public class PostResponseDto {
 
   private final long commentCount;
 
+  private final LikePostStatus likePostStatus;
+
   public static PostResponseDto from(
       String profile,
       long id,
@@ -54,6 +57,13 @@ public class PostResponseDto {
         .status(status)
         .tags(tags)
         .commentCount(commentCount)
+        .likePostStatus(LikePostStatus.INACTIVE)
+        .build();
+  }
+
+  public PostResponseDto withLikePostStatus(LikePostStatus likePostStatus) {
+    return toBuilder()
+        .likePostStatus(likePostStatus)
         .build();
   }
 }
@@ -10,4 +10,15 @@ import lombok.RequiredArgsConstructor;
 public class PostSearchRequestDto {
   private final String status;
   private final List<String> tags;
+  private final TagMatch match;
+
+  /**
+   * 태그 조건이 없다면 태그 중 하나라도 달린 글을 검색한다.
+   */
+  public TagMatch getMatch() {
+    if (match == null) {
+      return TagMatch.ANY;
+    }
+    return match;
+  }
 }
@@ -0,0 +1,10 @@
+package com.lets.web.dto.post;
+
+/**
+ * 글 검색 태그 조건
+ * ANY: 태그 중 하나라도 달린 글, ALL: 태그가 모두 달린 글
+ */
+public enum TagMatch {
+  ANY,
+  ALL;
+}
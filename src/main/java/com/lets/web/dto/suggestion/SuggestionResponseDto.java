@@ -0,0 +1,27 @@
+package com.lets.web.dto.suggestion;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 응답에 사용하는 DTO
+ * id 는 TITLE 이라면 글 id, NICKNAME 이라면 유저 id
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class SuggestionResponseDto {
+  private final long id;
+
+  private final String value;
+
+  public static SuggestionResponseDto from(
+      long id,
+      String value
+  ) {
+    return SuggestionResponseDto.builder()
+        .id(id)
+        .value(value)
+        .build();
+  }
+}
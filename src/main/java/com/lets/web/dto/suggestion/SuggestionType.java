@@ -0,0 +1,10 @@
+package com.lets.web.dto.suggestion;
+
+/**
+ * 자동완성 대상
+ * TITLE 은 글 제목, NICKNAME 은 작성자 닉네임
+ */
+public enum SuggestionType {
+  TITLE,
+  NICKNAME
+}
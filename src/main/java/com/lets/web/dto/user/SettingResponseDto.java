@@ -12,6 +12,8 @@ public class SettingResponseDto {
   private final String profile;
   private final String nickname;
   private final List<String> tags;
+  //닉네임이 바뀌어 재발급한 access token, 바뀌지 않았다면 null
+  private final String accessToken;
 
   public static SettingResponseDto from(
       String profile,
@@ -24,4 +26,13 @@ public class SettingResponseDto {
         .tags(tags)
         .build();
   }
+
+  public SettingResponseDto withAccessToken(String accessToken) {
+    return SettingResponseDto.builder()
+        .profile(profile)
+        .nickname(nickname)
+        .tags(tags)
+        .accessToken(accessToken)
+        .build();
+  }
 }
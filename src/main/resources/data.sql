@@ -45,39 +45,39 @@ values (now(), now(), 1, 1);
 
 
 
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content1', 1, 'RECRUITING', 'title1', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content1', 0, 1, 'RECRUITING', 'title1', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content2', 1, 'RECRUITING', 'title2', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content2', 0, 1, 'RECRUITING', 'title2', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content3', 1, 'RECRUITING', 'title3', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content3', 0, 1, 'RECRUITING', 'title3', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content4', 1, 'RECRUITING', 'title4', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content4', 0, 1, 'RECRUITING', 'title4', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content5', 1, 'RECRUITING', 'title5', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content5', 0, 1, 'RECRUITING', 'title5', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content6', 1, 'RECRUITING', 'title6', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content6', 0, 1, 'RECRUITING', 'title6', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content7', 1, 'RECRUITING', 'title7', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content7', 0, 1, 'RECRUITING', 'title7', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content8', 1, 'RECRUITING', 'title8', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content8', 0, 1, 'RECRUITING', 'title8', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content9', 1, 'RECRUITING', 'title9', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content9', 0, 1, 'RECRUITING', 'title9', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content10', 1, 'RECRUITING', 'title10', 1, 1);
-insert into post(created_date, modified_date, content, like_count, status, title, view_count,
+values (now(), now(), 'content10', 0, 1, 'RECRUITING', 'title10', 1, 1);
+insert into post(created_date, modified_date, content, comment_count, like_count, status, title, view_count,
                  user_id)
-values (now(), now(), 'content11', 1, 'RECRUITING', 'title11', 1, 1);
+values (now(), now(), 'content11', 0, 1, 'RECRUITING', 'title11', 1, 1);
 
 
 insert into POST_TECH_STACK(created_date, modified_date, tag_id, post_id)
@@ -0,0 +1,61 @@
+-- refresh token 교체
+-- KEYS[1] 이전 토큰 키(rt:{해시}, 값은 유저 id:닉네임), KEYS[2] 새 토큰 키, KEYS[3] 교체 기록 키(rt:rotated:{이전 해시})
+-- ARGV[1] 이전 토큰 해시, ARGV[2] 새 토큰 해시, ARGV[3] ttl(ms), ARGV[4] 동시 요청으로 보는 시간(ms)
+-- ARGV[5] 지운 토큰 해시를 알리는 채널, ARGV[6] 토큰 키 접두사(RedisNamespace.REFRESH_TOKEN)
+-- ARGV[7] 유저의 토큰 목록 키 접두사(RedisNamespace.REFRESH_TOKEN_USER), ARGV[8] 교체한 토큰 해시를 알리는 채널
+-- 반환 {상태, 유저 id}, 교체했다면 {상태, 유저 id, 닉네임}
+-- 닉네임 없이 유저 id 만 저장된 이전 토큰이라면 닉네임은 빈 문자열
+-- 상태 1: 교체함, 0: 없는 토큰, 2: 방금 교체된 토큰(동시 요청), 3: 교체된 토큰 재사용(유저의 모든 토큰 삭제)
+-- 유저의 토큰 목록 키(rt:user:{유저 id})는 저장된 유저 id 로 만들기 때문에 단일 레디스에서만 사용한다.
+local tokenPrefix = ARGV[6]
+local userPrefix = ARGV[7]
+
+local value = redis.call('GET', KEYS[1])
+if value then
+  local userId = value
+  local nickname = ''
+  local separator = string.find(value, ':', 1, true)
+  if separator then
+    userId = string.sub(value, 1, separator - 1)
+    nickname = string.sub(value, separator + 1)
+  end
+
+  local userKey = userPrefix .. userId
+  redis.call('DEL', KEYS[1])
+  redis.call('SET', KEYS[2], value, 'PX', ARGV[3])
+  redis.call('SET', KEYS[3], userId, 'PX', ARGV[3])
+  redis.call('SREM', userKey, ARGV[1])
+  -- 만료되어 레디스가 지운 토큰은 목록에서 빼서 로그인 중인 토큰만 남김
+  for _, hash in ipairs(redis.call('SMEMBERS', userKey)) do
+    if redis.call('EXISTS', tokenPrefix .. hash) == 0 then
+      redis.call('SREM', userKey, hash)
+    end
+  end
+  redis.call('SADD', userKey, ARGV[2])
+  redis.call('PEXPIRE', userKey, ARGV[3])
+  -- 다른 서버의 캐시에 남은 이전 토큰은 빼되, 재사용을 확인할 수 있도록 지운 토큰으로 두지 않음
+  redis.call('PUBLISH', ARGV[8], ARGV[1])
+  return {1, tonumber(userId), nickname}
+end
+
+local rotatedUserId = redis.call('GET', KEYS[3])
+if not rotatedUserId then
+  return {0, 0}
+end
+
+-- 여러 탭에서 동시에 재발급하면 먼저 도착한 요청만 교체하고 나머지는 거절만 함
+if tonumber(ARGV[3]) - redis.call('PTTL', KEYS[3]) < tonumber(ARGV[4]) then
+  return {2, tonumber(rotatedUserId)}
+end
+
+-- 이미 교체된 토큰을 다시 사용했다면 탈취된 것으로 보고 유저의 모든 토큰을 지움
+local rotatedUserKey = userPrefix .. rotatedUserId
+local hashes = redis.call('SMEMBERS', rotatedUserKey)
+for _, hash in ipairs(hashes) do
+  redis.call('DEL', tokenPrefix .. hash)
+end
+redis.call('DEL', rotatedUserKey, KEYS[3])
+if #hashes > 0 then
+  redis.call('PUBLISH', ARGV[5], table.concat(hashes, ','))
+end
+return {3, tonumber(rotatedUserId)}
@@ -0,0 +1,19 @@
+-- refresh token 저장
+-- KEYS[1] 토큰 키(rt:{해시}), KEYS[2] 유저의 토큰 목록 키(rt:user:{유저 id})
+-- ARGV[1] 토큰 해시, ARGV[2] 저장할 값(유저 id:닉네임), ARGV[3] 토큰 ttl(ms), ARGV[4] 토큰 목록 ttl(ms)
+-- ARGV[5] 토큰 키 접두사(RedisNamespace.REFRESH_TOKEN)
+-- 토큰 키는 목록에 있는 해시로 만들기 때문에 단일 레디스에서만 사용한다.
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+
+-- 만료되어 레디스가 지운 토큰은 목록에서 빼서 로그인 중인 토큰만 남김
+local hashes = redis.call('SMEMBERS', KEYS[2])
+for _, hash in ipairs(hashes) do
+  if redis.call('EXISTS', ARGV[5] .. hash) == 0 then
+    redis.call('SREM', KEYS[2], hash)
+  end
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+-- 토큰 목록은 마지막으로 저장한 토큰이 만료될 때까지 남김
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+return 1
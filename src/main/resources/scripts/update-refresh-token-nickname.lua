@@ -0,0 +1,21 @@
+-- 유저의 모든 refresh token 에 저장한 닉네임 변경
+-- KEYS[1] 유저의 토큰 목록 키(rt:user:{유저 id})
+-- ARGV[1] 저장할 값(유저 id:닉네임), ARGV[2] 토큰 키 접두사(RedisNamespace.REFRESH_TOKEN)
+-- 반환 바꾼 토큰 수
+-- 토큰 키는 목록에 있는 해시로 만들기 때문에 단일 레디스에서만 사용한다.
+-- 교체 스크립트와 같은 레디스에서 하나씩 실행되므로 바꾸는 중에 교체된 토큰도 새 닉네임을 받는다.
+local count = 0
+local hashes = redis.call('SMEMBERS', KEYS[1])
+for _, hash in ipairs(hashes) do
+  local key = ARGV[2] .. hash
+  -- 만료 시간은 그대로 두고 값만 바꿈
+  local ttl = redis.call('PTTL', key)
+  if ttl > 0 then
+    redis.call('SET', key, ARGV[1], 'PX', ttl)
+    count = count + 1
+  elseif ttl == -2 then
+    -- 만료되어 레디스가 지운 토큰은 목록에서 뺌
+    redis.call('SREM', KEYS[1], hash)
+  end
+end
+return count
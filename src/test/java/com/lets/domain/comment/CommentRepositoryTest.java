@@ -2,7 +2,9 @@ package com.lets.domain.comment;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +62,31 @@ public class CommentRepositoryTest {
     assertThat(count).isEqualTo(1);
   }
 
+  @DisplayName("countByPostIds메서드는 여러 글의 댓글 수를 한번에 반환한다")
+  @Test
+  void countByPostIds() {
+    //given
+    Post post2 = Post.createPost(user, "title2", "content2");
+    postRepository.save(post2);
+    commentRepository.save(Comment.createComment(user, post2, "comment2"));
+    commentRepository.save(Comment.createComment(user, post2, "comment3"));
+
+    Post post3 = Post.createPost(user, "title3", "content3");
+    postRepository.save(post3);
+
+    //when
+    Map<Long, Long> counts = commentRepository.countByPostIds(Arrays.asList(
+        post.getId(),
+        post2.getId(),
+        post3.getId()
+    ));
+
+    //then
+    assertThat(counts.get(post.getId())).isEqualTo(1);
+    assertThat(counts.get(post2.getId())).isEqualTo(2);
+    assertThat(counts).doesNotContainKey(post3.getId());
+  }
+
   @DisplayName("deleteAllByPost메서드는 특정 글의 모든 댓글을 삭제한다")
   @Test
   void deleteAllByPost() {
@@ -12,10 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.lets.config.QueryDslConfig;
 import com.lets.domain.likePost.LikePost;
 import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.Post;
 import com.lets.domain.post.PostRepository;
 import com.lets.domain.user.User;
@@ -98,4 +100,89 @@ public class LikePostRepositoryTest {
                    .getId()).isEqualTo(likePost.getId());
   }
 
+  @DisplayName("findByUserIdAndPostId메서드는 다른 유저의 관심글은 조회하지 않는다")
+  @Test
+  public void findByUserIdAndPostIdWithOtherUser() {
+    //given
+    User otherUser = User.createUser("user2", "456", AuthProvider.google, "default");
+    userRepository.save(otherUser);
+
+    //when
+    Optional<LikePost> result = likePostRepository.findByUserIdAndPostId(
+        otherUser.getId(),
+        post.getId()
+    );
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @DisplayName("findByUserIdAndPostId메서드는 유저의 다른 글 관심글은 조회하지 않는다")
+  @Test
+  public void findByUserIdAndPostIdWithOtherPost() {
+    //given
+    Post otherPost = Post.createPost(user, "title2", "content2");
+    postRepository.save(otherPost);
+
+    //when
+    Optional<LikePost> result = likePostRepository.findByUserIdAndPostId(
+        user.getId(),
+        otherPost.getId()
+    );
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @DisplayName("findForUpdateByUserIdAndPostId메서드는 특정 유저와 특정 글의 관심글만 조회한다")
+  @Test
+  public void findForUpdateByUserIdAndPostId() {
+    //given
+    Post otherPost = Post.createPost(user, "title2", "content2");
+    postRepository.save(otherPost);
+    LikePost otherLikePost = likePostRepository.save(LikePost.createLikePost(user, otherPost));
+
+    //when
+    Optional<LikePost> result = likePostRepository.findForUpdateByUserIdAndPostId(
+        user.getId(),
+        otherPost.getId()
+    );
+
+    //then
+    assertThat(result
+                   .get()
+                   .getId()).isEqualTo(otherLikePost.getId());
+  }
+
+  @DisplayName("findPostIdsByUserIdAndStatus메서드는 글 id 중 유저가 좋아요한 글 id 만 조회한다")
+  @Test
+  public void findPostIdsByUserIdAndStatus() {
+    //given
+    Post otherPost = Post.createPost(user, "title2", "content2");
+    postRepository.save(otherPost);
+    likePostRepository.save(LikePost.createLikePost(user, otherPost));
+    likePostRepository.changeStatus(likePost.getId(), LikePostStatus.INACTIVE, LikePostStatus.ACTIVE);
+
+    //when
+    List<Long> result = likePostRepository.findPostIdsByUserIdAndStatus(
+        user.getId(),
+        List.of(post.getId(), otherPost.getId()),
+        LikePostStatus.ACTIVE
+    );
+
+    //then
+    assertThat(result).containsExactly(post.getId());
+  }
+
+  @DisplayName("같은 유저와 글의 관심글은 하나만 저장할 수 있다")
+  @Test
+  public void saveDuplicateLikePost() {
+    //given
+    LikePost duplicateLikePost = LikePost.createLikePost(user, post);
+
+    //when, then
+    assertThatThrownBy(() -> likePostRepository.saveAndFlush(duplicateLikePost))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
 }
@@ -30,19 +30,14 @@ public class LikePostTest {
   }
 
   @Test
-  @DisplayName("changeLikeStatus메서드는 관심글의 상태를 변경한다")
-  public void changeLikeStatus() {
+  @DisplayName("toggle메서드는 반대 좋아요 상태를 반환한다")
+  public void toggle() {
     //given
-    User user = User.createUser("user1", "123", AuthProvider.google, "default");
-    Post post = Post.createPost(user, "title1", "content1");
-
-    LikePost likePost = LikePost.createLikePost(user, post);
 
-    //when
-    likePost.changeLikeStatus();
-
-    //then
-    assertThat(likePost.getStatus()).isEqualTo(LikePostStatus.ACTIVE);
-    assertThat(post.getLikeCount()).isEqualTo(1);
+    //when, then
+    assertThat(LikePostStatus.INACTIVE.toggle()).isEqualTo(LikePostStatus.ACTIVE);
+    assertThat(LikePostStatus.ACTIVE.toggle()).isEqualTo(LikePostStatus.INACTIVE);
+    assertThat(LikePostStatus.ACTIVE.likeCountDelta()).isEqualTo(1);
+    assertThat(LikePostStatus.INACTIVE.likeCountDelta()).isEqualTo(-1);
   }
 }
@@ -11,9 +11,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import com.lets.config.QueryDslConfig;
+import com.lets.domain.comment.Comment;
 import com.lets.domain.user.User;
 import com.lets.domain.user.UserRepository;
 import com.lets.security.AuthProvider;
@@ -27,6 +29,9 @@ public class PostRepositoryTest {
   @Autowired
   private PostRepository postRepository;
 
+  @Autowired
+  private TestEntityManager testEntityManager;
+
   private User user;
   private Post post;
 
@@ -79,4 +84,65 @@ public class PostRepositoryTest {
                    .get()
                    .getTitle()).isEqualTo(post.getTitle());
   }
+
+  @DisplayName("increaseCommentCount, decreaseCommentCount메서드는 글의 댓글 수를 증감한다")
+  @Test
+  public void increaseAndDecreaseCommentCount() {
+    //given
+
+    //when
+    postRepository.increaseCommentCount(post.getId());
+    postRepository.increaseCommentCount(post.getId());
+    postRepository.decreaseCommentCount(post.getId());
+    testEntityManager.clear();
+
+    //then
+    Post result = postRepository
+        .findById(post.getId())
+        .get();
+    assertThat(result.getCommentCount()).isEqualTo(1);
+  }
+
+  @DisplayName("decreaseCommentCount메서드는 댓글 수를 0보다 작게 만들지 않는다")
+  @Test
+  public void decreaseCommentCountBelowZero() {
+    //given
+
+    //when
+    int result = postRepository.decreaseCommentCount(post.getId());
+    testEntityManager.clear();
+
+    //then
+    assertThat(result).isEqualTo(0);
+    assertThat(postRepository
+                   .findById(post.getId())
+                   .get()
+                   .getCommentCount()).isEqualTo(0);
+  }
+
+  @DisplayName("repairCommentCounts메서드는 실제 댓글 수와 다른 글의 댓글 수만 수정한다")
+  @Test
+  public void repairCommentCounts() {
+    //given
+    Post other = Post.createPost(user, "title2", "content2");
+    postRepository.save(other);
+    testEntityManager.persist(Comment.createComment(user, post, "comment1"));
+    testEntityManager.persist(Comment.createComment(user, post, "comment2"));
+    testEntityManager.flush();
+
+    //when
+    int result = postRepository.repairCommentCounts(Arrays.asList(post.getId(), other.getId()));
+    testEntityManager.clear();
+
+    //then
+    assertThat(result).isEqualTo(1);
+    assertThat(postRepository
+                   .findById(post.getId())
+                   .get()
+                   .getCommentCount()).isEqualTo(2);
+    assertThat(postRepository
+                   .findById(other.getId())
+                   .get()
+                   .getCommentCount()).isEqualTo(0);
+  }
 }
@@ -0,0 +1,229 @@
+package com.lets.domain.postCard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.lets.config.QueryDslConfig;
+import com.lets.domain.likePost.LikePost;
+import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.postTechStack.PostTechStack;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.tag.Tag;
+import com.lets.domain.tag.TagRepository;
+import com.lets.domain.user.User;
+import com.lets.domain.user.UserRepository;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+public class PostCardRepositoryTest {
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private PostTechStackRepository postTechStackRepository;
+
+  @Autowired
+  private LikePostRepository likePostRepository;
+
+  @Autowired
+  private PostCardRepository postCardRepository;
+
+  private User user;
+  private Post post1;
+  private Post post2;
+
+  @BeforeEach
+  void setup() {
+    user = userRepository.save(User.createUser("user1", "123", AuthProvider.google, "default"));
+    Tag spring = tagRepository.save(Tag.createTag("spring"));
+    Tag java = tagRepository.save(Tag.createTag("java"));
+
+    post1 = postRepository.save(Post.createPost(user, "title1", "content1"));
+    post2 = postRepository.save(Post.createPost(user, "title2", "content2"));
+    postTechStackRepository.saveAll(List.of(
+        PostTechStack.createPostTechStack(spring, post1),
+        PostTechStack.createPostTechStack(spring, post2),
+        PostTechStack.createPostTechStack(java, post2)
+    ));
+
+    postCardRepository.save(PostCard.createPostCard(post1, List.of("spring")));
+    postCardRepository.save(PostCard.createPostCard(post2, List.of("spring", "java")));
+    testEntityManager.flush();
+    testEntityManager.clear();
+  }
+
+  @Test
+  @DisplayName("findPostCards메서드는 태그 조건에 맞는 카드를 최신순으로 조회한다")
+  void findPostCards() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto("RECRUITING", List.of("java", "spring"), TagMatch.ALL);
+
+    //when
+    List<PostCard> result = postCardRepository.findPostCards(
+        search,
+        null,
+        PageRequest.of(0, 20, Sort.Direction.DESC, "createdDate")
+    );
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result
+                   .get(0)
+                   .getPostId()).isEqualTo(post2.getId());
+    assertThat(result
+                   .get(0)
+                   .getTagNames()).containsExactly("spring", "java");
+  }
+
+  @Test
+  @DisplayName("findPostCards메서드는 태그 조건이 ANY 라면 다른 태그 이름의 일부만 겹치는 카드는 조회하지 않는다")
+  void findPostCardsWithAnyTags() {
+    //given
+    Post post3 = postRepository.save(Post.createPost(user, "title3", "content3"));
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tagRepository.save(Tag.createTag("javascript")), post3));
+    postCardRepository.save(PostCard.createPostCard(post3, List.of("javascript")));
+    testEntityManager.flush();
+    testEntityManager.clear();
+    PostSearchRequestDto search = new PostSearchRequestDto(null, List.of("java", "python"), TagMatch.ANY);
+
+    //when
+    List<PostCard> result = postCardRepository.findPostCards(
+        search,
+        null,
+        PageRequest.of(0, 20, Sort.Direction.DESC, "createdDate")
+    );
+
+    //then
+    assertThat(result
+                   .stream()
+                   .map(PostCard::getPostId)
+                   .collect(Collectors.toList())).containsExactly(post2.getId());
+  }
+
+  @Test
+  @DisplayName("findPostCards메서드는 태그 이름의 _, % 를 와일드카드로 보지 않고 이름이 같은 태그만 찾는다")
+  void findPostCardsWithWildcardTag() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto(null, List.of("jav_", "%"), TagMatch.ANY);
+
+    //when
+    List<PostCard> result = postCardRepository.findPostCards(
+        search,
+        null,
+        PageRequest.of(0, 20, Sort.Direction.DESC, "createdDate")
+    );
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("findPostCards메서드는 커서 이후의 카드를 조회한다")
+  void findPostCardsByCursor() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto(null, null, null);
+    PostCard first = postCardRepository
+        .findById(post2.getId())
+        .get();
+    PostCursor cursor = PostCursor.of(PostCursor.VIEW_COUNT, first);
+
+    //when
+    List<PostCard> result = postCardRepository.findPostCards(
+        search,
+        cursor,
+        PageRequest.of(0, 20, Sort.Direction.DESC, "viewCount")
+    );
+
+    //then
+    assertThat(result
+                   .stream()
+                   .map(PostCard::getPostId)
+                   .collect(Collectors.toList())).containsExactly(post1.getId());
+  }
+
+  @Test
+  @DisplayName("findLikePostCards메서드는 관심글 카드와 좋아요 상태를 함께 조회한다")
+  void findLikePostCards() {
+    //given
+    likePostRepository.save(LikePost.createLikePost(userRepository
+                                                        .findById(user.getId())
+                                                        .get(), postRepository
+                                                        .findById(post1.getId())
+                                                        .get()));
+
+    //when
+    List<LikePostCard> result = postCardRepository.findLikePostCards(user.getId());
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result
+                   .get(0)
+                   .getPostCard()
+                   .getPostId()).isEqualTo(post1.getId());
+    assertThat(result
+                   .get(0)
+                   .getLikePostStatus()).isEqualTo(LikePostStatus.INACTIVE);
+  }
+
+  @Test
+  @DisplayName("updateProfile메서드는 유저가 쓴 글 카드의 작성자 정보를 수정한다")
+  void updateProfile() {
+    //given
+    //when
+    int updated = postCardRepository.updateProfile(user.getId(), "user2", "profile");
+    testEntityManager.clear();
+
+    //then
+    assertThat(updated).isEqualTo(2);
+    assertThat(postCardRepository
+                   .findAllByUserId(user.getId())
+                   .stream()
+                   .map(PostCard::getNickname)).containsOnly("user2");
+  }
+
+  @Test
+  @DisplayName("findPostsWithoutCard메서드는 카드가 없는 글만 조회한다")
+  void findPostsWithoutCard() {
+    //given
+    Post post3 = postRepository.save(Post.createPost(userRepository
+                                                          .findById(user.getId())
+                                                          .get(), "title3", "content3"));
+
+    //when
+    List<Post> result = postCardRepository.findPostsWithoutCard(0, PageRequest.of(0, 10));
+
+    //then
+    assertThat(result
+                   .stream()
+                   .map(Post::getId)
+                   .collect(Collectors.toList())).containsExactly(post3.getId());
+  }
+}
@@ -0,0 +1,50 @@
+package com.lets.domain.postCard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+
+public class PostCardTest {
+  @Test
+  @DisplayName("createPostCard메서드는 본문을 앞부분만 잘라서 카드를 생성한다")
+  void createPostCard() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "title1", "a".repeat(PostCard.EXCERPT_LENGTH + 10));
+
+    //when
+    PostCard postCard = PostCard.createPostCard(post, List.of("spring", "java"));
+
+    //then
+    assertThat(postCard
+                   .getExcerpt()
+                   .length()).isEqualTo(PostCard.EXCERPT_LENGTH);
+    assertThat(postCard.getTagNames()).containsExactly("spring", "java");
+    assertThat(postCard.getNickname()).isEqualTo("user1");
+  }
+
+  @Test
+  @DisplayName("createPostCard메서드는 서로게이트 쌍 중간에서 본문을 자르지 않는다")
+  void createPostCardWithSurrogatePair() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    String content = "a".repeat(PostCard.EXCERPT_LENGTH - 1) + "😀";
+    Post post = Post.createPost(user, "title1", content);
+
+    //when
+    PostCard postCard = PostCard.createPostCard(post, List.of());
+
+    //then
+    assertThat(postCard
+                   .getExcerpt()
+                   .length()).isEqualTo(PostCard.EXCERPT_LENGTH - 1);
+    assertThat(postCard.getTagNames()).isEmpty();
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,8 +25,11 @@ import com.lets.domain.tag.TagRepository;
 import com.lets.domain.user.User;
 import com.lets.domain.user.UserRepository;
 import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostCursor;
 import com.lets.web.dto.post.PostRecommendRequestDto;
+import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
 
 @DataJpaTest
 @Import(QueryDslConfig.class)
@@ -97,6 +101,23 @@ public class PostTechStackRepositoryTest {
 
   }
 
+  @DisplayName("findTagNamesByPostIds메서드는 글 id 와 태그 이름을 조회한다")
+  @Test
+  public void findTagNamesByPostIds() {
+    //given
+    //when
+    List<PostTagName> result = postTechStackRepository.findTagNamesByPostIds(Arrays.asList(post.getId()));
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result
+                   .get(0)
+                   .getPostId()).isEqualTo(post.getId());
+    assertThat(result
+                   .get(0)
+                   .getTagName()).isEqualTo("spring");
+  }
+
   @DisplayName("findAllByUser메서드는 유저의 모든 글 기술 스택을 조회한다")
   @Test
   public void findAllByUser() {
@@ -111,39 +132,161 @@ public class PostTechStackRepositoryTest {
                    .getId()).isEqualTo(postTechStack.getId());
   }
 
-  @DisplayName("findPostTechStacks메서드는 검색 조건으로 포스트를 조회한다")
+  @DisplayName("findPosts메서드는 검색 조건으로 포스트를 조회한다")
   @Test
-  public void findPostTechStacks() {
+  public void findPosts() {
     //given
     setupPost(40);
     PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("createdDate"));
     PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
-        PostStatus.RECRUITING.name(), Arrays.asList(tag.getName()));
+        PostStatus.RECRUITING.name(), Arrays.asList(tag.getName()), TagMatch.ANY);
+
+    //when
+    List<Post> posts = postTechStackRepository.findPosts(postSearchRequestDto, pageRequest);
+
+    //then
+    assertThat(posts.size()).isEqualTo(20);
+  }
+
+  @DisplayName("findPosts메서드는 글의 태그 수와 상관없이 글 단위로 페이지를 자른다")
+  @Test
+  public void findPostsWithManyTags() {
+    //given
+    Post lastPost = setupPost(40);
+    Tag tag2 = Tag.createTag("java");
+    tagRepository.save(tag2);
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tag2, lastPost));
+    PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("createdDate"));
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(), Arrays.asList(tag.getName(), tag2.getName()), TagMatch.ANY);
+
+    //when
+    List<Post> posts = postTechStackRepository.findPosts(postSearchRequestDto, pageRequest);
+    List<PostTechStack> postTechStacks = postTechStackRepository.findAllByPosts(posts);
+
+    //then
+    assertThat(posts.size()).isEqualTo(20);
+    assertThat(posts)
+        .extracting(Post::getId)
+        .doesNotHaveDuplicates();
+    assertThat(postTechStacks.size()).isEqualTo(21);
+  }
+
+  @DisplayName("findPosts메서드는 태그 조건이 ALL 이라면 태그가 모두 달린 글만 조회한다")
+  @Test
+  public void findPostsWithAllTags() {
+    //given
+    Post lastPost = setupPost(40);
+    Tag tag2 = Tag.createTag("java");
+    tagRepository.save(tag2);
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tag2, lastPost));
+    PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("createdDate"));
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(), Arrays.asList(tag.getName(), tag2.getName()), TagMatch.ALL);
 
     //when
-    List<PostTechStack> postTechStacks = postTechStackRepository.findPostTechStacks(
-        postSearchRequestDto, pageRequest);
+    List<Post> posts = postTechStackRepository.findPosts(postSearchRequestDto, pageRequest);
 
     //then
-    assertThat(postTechStacks.size()).isEqualTo(20);
+    assertThat(posts.size()).isEqualTo(1);
+    assertThat(posts
+                   .get(0)
+                   .getId()).isEqualTo(lastPost.getId());
   }
 
-  @DisplayName("findRecommendedPosts메서드는 추천 포스트를 조회한다")
+  @DisplayName("findPostsByCursor메서드는 커서 이후의 글을 중복 없이 조회한다")
+  @Test
+  public void findPostsByCursor() {
+    //given
+    setupPost(40);
+    PageRequest pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdDate"));
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(), Arrays.asList(tag.getName()), TagMatch.ANY);
+
+    //when
+    List<Post> firstPage = postTechStackRepository.findPostsByCursor(
+        postSearchRequestDto, null, pageRequest);
+    PostCursor cursor = PostCursor.decode(PostCursor
+                                              .of(PostCursor.CREATED_DATE, firstPage.get(19))
+                                              .encode());
+    List<Post> secondPage = postTechStackRepository.findPostsByCursor(
+        postSearchRequestDto, cursor, pageRequest);
+    cursor = PostCursor.decode(PostCursor
+                                   .of(PostCursor.CREATED_DATE, secondPage.get(19))
+                                   .encode());
+    List<Post> lastPage = postTechStackRepository.findPostsByCursor(
+        postSearchRequestDto, cursor, pageRequest);
+
+    //then
+    assertThat(firstPage.size()).isEqualTo(20);
+    assertThat(secondPage.size()).isEqualTo(20);
+    assertThat(lastPage.size()).isEqualTo(1);
+
+    List<Long> firstPageIds = firstPage
+        .stream()
+        .map(Post::getId)
+        .collect(Collectors.toList());
+    assertThat(secondPage)
+        .extracting(Post::getId)
+        .doesNotContainAnyElementsOf(firstPageIds);
+  }
+
+  @DisplayName("findRecommendedPosts메서드는 추천 포스트를 limit 개까지 조회한다")
   @Test
   public void findRecommendedPosts() {
     //given
-    setupPost(4);
+    setupPost(5);
     PostRecommendRequestDto postRecommendRequestDto = new PostRecommendRequestDto(
         Arrays.asList(tag.getName()));
 
     //when
-    List<PostTechStack> recommendedPosts = postTechStackRepository.findRecommendPosts(
-        postRecommendRequestDto, user.getId(), post.getId());
+    List<PostRecommendResponseDto> recommendedPosts = postTechStackRepository.findRecommendPosts(
+        postRecommendRequestDto, user.getId(), post.getId(), 4);
 
     //then
     assertThat(recommendedPosts.size()).isEqualTo(4);
   }
 
+  @DisplayName("findRecommendedPosts메서드는 겹치는 태그가 많은 글을 조회수보다 먼저 추천하고 본인 글은 제외한다")
+  @Test
+  public void findRecommendedPostsBySharedTagCount() {
+    //given
+    Tag java = Tag.createTag("java");
+    tagRepository.save(java);
+
+    User user2 = User.createUser("user2", "123", AuthProvider.google, "default");
+    userRepository.save(user2);
+
+    Post popularPost = Post.createPost(user2, "popular", "content");
+    popularPost.addView();
+    postRepository.save(popularPost);
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tag, popularPost));
+
+    Post sharedPost = Post.createPost(user2, "shared", "content");
+    postRepository.save(sharedPost);
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tag, sharedPost));
+    postTechStackRepository.save(PostTechStack.createPostTechStack(java, sharedPost));
+
+    Post untaggedPost = Post.createPost(user2, "untagged", "content");
+    postRepository.save(untaggedPost);
+
+    Post myPost = Post.createPost(user, "mine", "content");
+    postRepository.save(myPost);
+    postTechStackRepository.save(PostTechStack.createPostTechStack(tag, myPost));
+
+    PostRecommendRequestDto postRecommendRequestDto = new PostRecommendRequestDto(
+        Arrays.asList(tag.getName(), java.getName()));
+
+    //when
+    List<PostRecommendResponseDto> recommendedPosts = postTechStackRepository.findRecommendPosts(
+        postRecommendRequestDto, user.getId(), post.getId(), 4);
+
+    //then
+    assertThat(recommendedPosts)
+        .extracting(PostRecommendResponseDto::getId)
+        .containsExactly(sharedPost.getId(), popularPost.getId(), untaggedPost.getId());
+  }
+
   private Post setupPost(int size) {
     Post lastPost = null;
     User user2 = User.createUser("user2", "123", AuthProvider.google, "default");
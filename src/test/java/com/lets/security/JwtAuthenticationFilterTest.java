@@ -0,0 +1,113 @@
+package com.lets.security;
+
+import static com.lets.exception.ErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lets.security.RefreshTokenStore.DegradedMode;
+import com.lets.util.CookieUtil;
+
+@SpringBootTest
+public class JwtAuthenticationFilterTest {
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private CookieUtil cookieUtil;
+
+  @Autowired
+  private RefreshTokenNearCache refreshTokenNearCache;
+
+  static long userId = 1_000_002L;
+  String refreshToken;
+
+  @BeforeEach
+  void setup() {
+    UserPrincipal principal = UserPrincipal.create(
+        userId,
+        "user1",
+        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+    );
+    refreshToken = jwtTokenProvider.generateRefreshToken(new JwtAuthentication(principal));
+  }
+
+  @Test
+  @DisplayName("doFilter메서드는 레디스를 사용할 수 없을 때 서명이 유효한 refresh token 이라면 access token 을 재발급한다")
+  void doFilterWithoutRedis() throws Exception {
+    //given
+    JwtAuthenticationFilter filter = createFilterWithoutRedis(DegradedMode.SIGNATURE);
+    MockHttpServletRequest request = createRefreshRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    //when
+    filter.doFilter(request, response, filterChain);
+
+    //then
+    assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    assertThat(response.getContentAsString()).contains("ACCESS_TOKEN이 재발행되었습니다.");
+    assertThat(response.getHeader("Set-Cookie")).contains(refreshToken);
+    assertThat(filterChain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("doFilter메서드는 레디스를 사용할 수 없을 때 지운 refresh token 이라면 재발급하지 않는다")
+  void doFilterWithRevokedTokenWithoutRedis() throws Exception {
+    //given
+    refreshTokenNearCache.revoke(Collections.singletonList(TokenHashes.sha256(refreshToken)));
+    JwtAuthenticationFilter filter = createFilterWithoutRedis(DegradedMode.SIGNATURE);
+    MockHttpServletRequest request = createRefreshRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    //when
+    filter.doFilter(request, response, filterChain);
+
+    //then
+    assertThat(response.getHeader("Set-Cookie")).isNull();
+    assertThat(filterChain.getRequest()).isNotNull();
+    assertThat(request.getAttribute("errorCode")).isEqualTo(INVALID_REFRESH_TOKEN);
+  }
+
+  //만료된 access token 과 refresh token 쿠키를 보내는 요청
+  private MockHttpServletRequest createRefreshRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/myPosts");
+    request.addHeader("Authorization", "Bearer expired");
+    request.setCookies(new Cookie("refreshToken", refreshToken));
+    return request;
+  }
+
+  //모든 호출에서 연결 실패 예외를 던지는 레디스
+  private JwtAuthenticationFilter createFilterWithoutRedis(DegradedMode degradedMode) {
+    StringRedisTemplate unavailableRedis = Mockito.mock(StringRedisTemplate.class, invocation -> {
+      throw new RedisConnectionFailureException("redis is down");
+    });
+    RefreshTokenStore store = new RefreshTokenStore(unavailableRedis, refreshTokenNearCache);
+    ReflectionTestUtils.setField(store, "refreshTokenExpirationInMs", 60_000L);
+    ReflectionTestUtils.setField(store, "concurrentWindowInMs", 10_000L);
+    ReflectionTestUtils.setField(store, "degradedMode", degradedMode);
+    return new JwtAuthenticationFilter(objectMapper, jwtTokenProvider, cookieUtil, store);
+  }
+}
@@ -0,0 +1,176 @@
+package com.lets.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.user.User;
+import com.lets.domain.user.UserRepository;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtTokenProviderTest {
+  @Mock
+  UserRepository userRepository;
+
+  JwtTokenProvider jwtTokenProvider;
+
+  MeterRegistry meterRegistry;
+
+  static User user = User.createUser("user1", "123", AuthProvider.google, "default");
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    jwtTokenProvider = createProvider("secret", 60_000L);
+  }
+
+  @Test
+  @DisplayName("parseToken메서드는 유효한 토큰의 클레임을 반환하고 다시 확인할 때는 캐시를 사용한다")
+  void parseToken() {
+    //given
+    String token = jwtTokenProvider.generateAccessToken(new JwtAuthentication(UserPrincipal.create(1L, user)));
+
+    //when
+    Optional<JwtClaims> first = jwtTokenProvider.parseToken(token);
+    Optional<JwtClaims> second = jwtTokenProvider.parseToken(token);
+
+    //then
+    assertThat(first).isPresent();
+    assertThat(first
+                   .get()
+                   .getUserId()).isEqualTo(1L);
+    assertThat(second).containsSame(first.get());
+    assertThat(meterRegistry
+                   .get("cache.gets")
+                   .tag("cache", "jwtClaims")
+                   .tag("result", "hit")
+                   .functionCounter()
+                   .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("parseToken메서드는 서명이 다른 토큰이라면 빈 값을 반환한다")
+  void parseTokenWithInvalidSignature() {
+    //given
+    String token = createProvider("other", 60_000L)
+        .generateAccessToken(new JwtAuthentication(UserPrincipal.create(1L, user)));
+
+    //when
+    Optional<JwtClaims> result = jwtTokenProvider.parseToken(token);
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("parseToken메서드는 만료된 토큰이라면 빈 값을 반환한다")
+  void parseTokenWithExpiredToken() {
+    //given
+    String token = createProvider("secret", -1_000L)
+        .generateAccessToken(new JwtAuthentication(UserPrincipal.create(1L, user)));
+
+    //when
+    Optional<JwtClaims> result = jwtTokenProvider.parseToken(token);
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("getRefreshAuthentication메서드는 유저를 조회하지 않고 토큰의 닉네임, 권한 클레임으로 인증 정보를 만든다")
+  void getRefreshAuthentication() {
+    //given
+    String token = jwtTokenProvider.generateRefreshToken(new JwtAuthentication(UserPrincipal.create(1L, user)));
+    JwtClaims claims = jwtTokenProvider
+        .parseToken(token)
+        .orElseThrow();
+
+    //when
+    Authentication authentication = jwtTokenProvider.getRefreshAuthentication(claims);
+
+    //then
+    UserPrincipal principal = (UserPrincipal)authentication.getPrincipal();
+    assertThat(principal.getId()).isEqualTo(1L);
+    assertThat(principal.getUsername()).isEqualTo("user1");
+    assertThat(principal.getAuthorities())
+        .extracting("authority")
+        .containsExactly("ROLE_USER");
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("getAuthentication메서드는 토큰의 닉네임 클레임 대신 레디스에 저장한 닉네임으로 인증 정보를 만든다")
+  void getAuthenticationWithStoredNickname() {
+    //given
+    String token = jwtTokenProvider.generateRefreshToken(new JwtAuthentication(UserPrincipal.create(1L, user)));
+    JwtClaims claims = jwtTokenProvider
+        .parseToken(token)
+        .orElseThrow();
+
+    //when
+    Authentication authentication = jwtTokenProvider.getAuthentication(claims, "user2");
+
+    //then
+    UserPrincipal principal = (UserPrincipal)authentication.getPrincipal();
+    assertThat(principal.getId()).isEqualTo(1L);
+    assertThat(principal.getUsername()).isEqualTo("user2");
+    assertThat(principal.getAuthorities())
+        .extracting("authority")
+        .containsExactly("ROLE_USER");
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("getRefreshAuthentication메서드는 닉네임 클레임이 없는 이전 토큰이라면 유저를 조회한다")
+  void getRefreshAuthenticationWithLegacyToken() {
+    //given
+    String token = Jwts
+        .builder()
+        .setSubject("1")
+        .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+        .signWith(SignatureAlgorithm.HS512, "secret")
+        .compact();
+    JwtClaims claims = jwtTokenProvider
+        .parseToken(token)
+        .orElseThrow();
+    given(userRepository.findById(1L))
+        .willReturn(Optional.of(user));
+
+    //when
+    Authentication authentication = jwtTokenProvider.getRefreshAuthentication(claims);
+
+    //then
+    assertThat(claims.getNickname()).isNull();
+    assertThat(claims.getRole()).isEqualTo("ROLE_USER");
+    assertThat(((UserPrincipal)authentication.getPrincipal()).getUsername()).isEqualTo("user1");
+  }
+
+  private JwtTokenProvider createProvider(
+      String jwtSecret,
+      long expirationInMs
+  ) {
+    JwtTokenProvider provider = new JwtTokenProvider(userRepository, meterRegistry);
+    ReflectionTestUtils.setField(provider, "jwtSecret", jwtSecret);
+    ReflectionTestUtils.setField(provider, "accessTokenExpirationInMs", expirationInMs);
+    ReflectionTestUtils.setField(provider, "refreshTokenExpirationInMs", expirationInMs);
+    ReflectionTestUtils.setField(provider, "cacheMaximumSize", 100L);
+    ReflectionTestUtils.invokeMethod(provider, "init");
+    return provider;
+  }
+}
@@ -0,0 +1,368 @@
+package com.lets.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.security.RefreshTokenStore.DegradedMode;
+
+@SpringBootTest
+public class RefreshTokenStoreTest {
+  @Autowired
+  private RefreshTokenStore refreshTokenStore;
+
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Autowired
+  private RefreshTokenNearCache refreshTokenNearCache;
+
+  static long userId = 1_000_001L;
+  static String nickname = "user1";
+  static String value = userId + ":" + nickname;
+  //지운 토큰은 서버 메모리에도 남으므로 테스트마다 다른 토큰을 사용
+  String refreshToken1;
+  String refreshToken2;
+  String refreshToken3;
+
+  @BeforeEach
+  void setup() {
+    refreshToken1 = "eyJ.refresh." + UUID.randomUUID();
+    refreshToken2 = "eyJ.refresh." + UUID.randomUUID();
+    refreshToken3 = "eyJ.refresh." + UUID.randomUUID();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.setField(refreshTokenStore, "concurrentWindowInMs", 10_000L);
+    refreshTokenStore.deleteAll(userId);
+    stringRedisTemplate.delete("rt:rotated:" + TokenHashes.sha256(refreshToken1));
+    stringRedisTemplate.delete("rt:rotated:" + TokenHashes.sha256(refreshToken2));
+  }
+
+  @Test
+  @DisplayName("save메서드는 토큰 해시를 키로 만료 시간과 함께 유저 id 와 닉네임을 저장한다")
+  void save() {
+    //when
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+
+    //then
+    String key = "rt:" + TokenHashes.sha256(refreshToken1);
+    assertThat(storedValue(refreshToken1)).isEqualTo(value);
+    assertThat(stringRedisTemplate.hasKey(refreshToken1)).isFalse();
+    assertThat(stringRedisTemplate.getExpire(key)).isPositive();
+    assertThat(stringRedisTemplate.getExpire("rt:user:" + userId)).isPositive();
+  }
+
+  @Test
+  @DisplayName("save메서드는 만료된 토큰을 유저의 토큰 목록에서 뺀다")
+  void saveWithExpiredToken() throws Exception {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname, 1L);
+    Thread.sleep(50);
+
+    //when
+    refreshTokenStore.save(refreshToken2, userId, nickname);
+
+    //then
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .members("rt:user:" + userId)).containsExactly(TokenHashes.sha256(refreshToken2));
+  }
+
+  @Test
+  @DisplayName("delete메서드는 토큰 하나만 지운다")
+  void delete() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.save(refreshToken2, userId, nickname);
+
+    //when
+    refreshTokenStore.delete(refreshToken1);
+
+    //then
+    assertThat(storedValue(refreshToken1)).isNull();
+    assertThat(storedValue(refreshToken2)).isEqualTo(value);
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .size("rt:user:" + userId)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("deleteAll메서드는 유저의 모든 토큰을 지운다")
+  void deleteAll() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.save(refreshToken2, userId, nickname);
+
+    //when
+    refreshTokenStore.deleteAll(userId);
+
+    //then
+    assertThat(storedValue(refreshToken1)).isNull();
+    assertThat(storedValue(refreshToken2)).isNull();
+    assertThat(stringRedisTemplate.hasKey("rt:user:" + userId)).isFalse();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 이전 토큰을 지우고 새 토큰을 저장한 다음 저장한 닉네임을 반환한다")
+  void rotate() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+
+    //when
+    Optional<RotatedRefreshToken> result = refreshTokenStore.rotate(refreshToken1, refreshToken2, userId);
+
+    //then
+    assertThat(result
+                   .get()
+                   .getRefreshToken()).isEqualTo(refreshToken2);
+    assertThat(result
+                   .get()
+                   .getNickname()).isEqualTo(nickname);
+    assertThat(storedValue(refreshToken1)).isNull();
+    assertThat(storedValue(refreshToken2)).isEqualTo(value);
+    assertThat(refreshTokenNearCache.getUserId(TokenHashes.sha256(refreshToken1))).isNull();
+    assertThat(refreshTokenNearCache.isRevoked(TokenHashes.sha256(refreshToken1))).isFalse();
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .members("rt:user:" + userId)).containsExactly(TokenHashes.sha256(refreshToken2));
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 방금 교체된 토큰이라면 거절만 하고 새 토큰은 남긴다")
+  void rotateWithConcurrentRequest() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.rotate(refreshToken1, refreshToken2, userId);
+
+    //when
+    Optional<RotatedRefreshToken> result = refreshTokenStore.rotate(refreshToken1, refreshToken3, userId);
+
+    //then
+    assertThat(result).isEmpty();
+    assertThat(storedValue(refreshToken2)).isEqualTo(value);
+    assertThat(storedValue(refreshToken3)).isNull();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 교체된 토큰을 다시 사용하면 유저의 모든 토큰을 지운다")
+  void rotateWithReusedToken() {
+    //given
+    ReflectionTestUtils.setField(refreshTokenStore, "concurrentWindowInMs", 0L);
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.rotate(refreshToken1, refreshToken2, userId);
+
+    //when
+    Optional<RotatedRefreshToken> result = refreshTokenStore.rotate(refreshToken1, refreshToken3, userId);
+
+    //then
+    assertThat(result).isEmpty();
+    assertThat(storedValue(refreshToken2)).isNull();
+    assertThat(storedValue(refreshToken3)).isNull();
+    assertThat(stringRedisTemplate.hasKey("rt:user:" + userId)).isFalse();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 닉네임 없이 저장한 이전 토큰이라면 닉네임을 null 로 반환한다")
+  void rotateWithLegacyValue() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, null, 60_000L);
+
+    //when
+    Optional<RotatedRefreshToken> result = refreshTokenStore.rotate(refreshToken1, refreshToken2, userId);
+
+    //then
+    assertThat(result
+                   .get()
+                   .getNickname()).isNull();
+    assertThat(storedValue(refreshToken2)).isEqualTo(String.valueOf(userId));
+  }
+
+  @Test
+  @DisplayName("updateNickname메서드는 만료 시간은 그대로 두고 유저의 모든 토큰에 저장한 닉네임을 바꾼다")
+  void updateNickname() {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.save(refreshToken2, userId, nickname, 60_000L);
+
+    //when
+    refreshTokenStore.updateNickname(userId, "user2");
+
+    //then
+    assertThat(storedValue(refreshToken1)).isEqualTo(userId + ":user2");
+    assertThat(storedValue(refreshToken2)).isEqualTo(userId + ":user2");
+    assertThat(stringRedisTemplate.getExpire("rt:" + TokenHashes.sha256(refreshToken2))).isBetween(1L, 60L);
+    assertThat(refreshTokenStore
+                   .rotate(refreshToken1, refreshToken3, userId)
+                   .get()
+                   .getNickname()).isEqualTo("user2");
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 만료된 토큰을 유저의 토큰 목록에서 뺀다")
+  void rotateWithExpiredToken() throws Exception {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.save(refreshToken3, userId, nickname, 1L);
+    Thread.sleep(50);
+
+    //when
+    refreshTokenStore.rotate(refreshToken1, refreshToken2, userId);
+
+    //then
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .members("rt:user:" + userId)).containsExactly(TokenHashes.sha256(refreshToken2));
+  }
+
+  @Test
+  @DisplayName("updateNickname메서드는 만료된 토큰을 유저의 토큰 목록에서 뺀다")
+  void updateNicknameWithExpiredToken() throws Exception {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+    refreshTokenStore.save(refreshToken2, userId, nickname, 1L);
+    Thread.sleep(50);
+
+    //when
+    refreshTokenStore.updateNickname(userId, "user2");
+
+    //then
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .members("rt:user:" + userId)).containsExactly(TokenHashes.sha256(refreshToken1));
+  }
+
+  @Test
+  @DisplayName("updateNickname메서드는 레디스를 사용할 수 없다면 예외를 던지지 않는다")
+  void updateNicknameWithoutRedis() {
+    //given
+    RefreshTokenStore store = createStoreWithoutRedis(DegradedMode.OFF);
+
+    //when, then
+    assertThatCode(() -> store.updateNickname(userId, "user2")).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 다른 서버에서 지운 토큰이라면 레디스에 묻지 않고 거절한다")
+  void rotateWithRevokedMessage() throws Exception {
+    //given
+    refreshTokenStore.save(refreshToken1, userId, nickname);
+
+    //when
+    stringRedisTemplate.convertAndSend(RefreshTokenNearCache.REVOKED_CHANNEL, TokenHashes.sha256(refreshToken1));
+
+    //then
+    boolean revoked = false;
+    for (int i = 0; i < 50 && !revoked; i++) {
+      Thread.sleep(20);
+      revoked = refreshTokenNearCache.isRevoked(TokenHashes.sha256(refreshToken1));
+    }
+    assertThat(revoked).isTrue();
+    assertThat(refreshTokenStore.rotate(refreshToken1, refreshToken2, userId)).isEmpty();
+    assertThat(storedValue(refreshToken1)).isEqualTo(value);
+    assertThat(storedValue(refreshToken2)).isNull();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 교체한 토큰을 다른 서버의 캐시에서도 빼지만 지운 토큰으로 두지는 않는다")
+  void rotateWithInvalidatedMessage() throws Exception {
+    //given
+    String hash = TokenHashes.sha256(refreshToken1);
+    refreshTokenNearCache.put(hash, userId);
+
+    //when
+    stringRedisTemplate.convertAndSend(RefreshTokenNearCache.INVALIDATED_CHANNEL, hash);
+
+    //then
+    boolean invalidated = false;
+    for (int i = 0; i < 50 && !invalidated; i++) {
+      Thread.sleep(20);
+      invalidated = refreshTokenNearCache.getUserId(hash) == null;
+    }
+    assertThat(invalidated).isTrue();
+    assertThat(refreshTokenNearCache.isRevoked(hash)).isFalse();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 레디스를 사용할 수 없을 때 최근에 확인한 토큰이라면 이전 토큰을 계속 사용한다")
+  void rotateWithCachedDegradedMode() {
+    //given
+    refreshTokenNearCache.put(TokenHashes.sha256(refreshToken1), userId);
+    RefreshTokenStore store = createStoreWithoutRedis(DegradedMode.CACHED);
+
+    //when
+    Optional<RotatedRefreshToken> cached = store.rotate(refreshToken1, refreshToken2, userId);
+    Optional<RotatedRefreshToken> notCached = store.rotate(refreshToken3, refreshToken2, userId);
+
+    //then
+    assertThat(cached
+                   .get()
+                   .getRefreshToken()).isEqualTo(refreshToken1);
+    assertThat(cached
+                   .get()
+                   .getNickname()).isNull();
+    assertThat(notCached).isEmpty();
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 레디스를 사용할 수 없을 때 지운 토큰이라면 거절한다")
+  void rotateWithRevokedTokenInDegradedMode() {
+    //given
+    refreshTokenNearCache.put(TokenHashes.sha256(refreshToken1), userId);
+    refreshTokenNearCache.revoke(List.of(TokenHashes.sha256(refreshToken1)));
+    RefreshTokenStore store = createStoreWithoutRedis(DegradedMode.SIGNATURE);
+
+    //when
+    Optional<RotatedRefreshToken> revoked = store.rotate(refreshToken1, refreshToken2, userId);
+    Optional<RotatedRefreshToken> signed = store.rotate(refreshToken3, refreshToken2, userId);
+
+    //then
+    assertThat(revoked).isEmpty();
+    assertThat(signed
+                   .get()
+                   .getRefreshToken()).isEqualTo(refreshToken3);
+  }
+
+  @Test
+  @DisplayName("rotate메서드는 레디스를 사용할 수 없고 degradedMode 가 OFF 라면 예외를 던진다")
+  void rotateWithoutDegradedMode() {
+    //given
+    RefreshTokenStore store = createStoreWithoutRedis(DegradedMode.OFF);
+
+    //when, then
+    assertThatThrownBy(() -> store.rotate(refreshToken1, refreshToken2, userId))
+        .isInstanceOf(RedisConnectionFailureException.class);
+  }
+
+  private String storedValue(String refreshToken) {
+    return stringRedisTemplate
+        .opsForValue()
+        .get("rt:" + TokenHashes.sha256(refreshToken));
+  }
+
+  //모든 호출에서 연결 실패 예외를 던지는 레디스
+  private RefreshTokenStore createStoreWithoutRedis(DegradedMode degradedMode) {
+    StringRedisTemplate unavailableRedis = Mockito.mock(StringRedisTemplate.class, invocation -> {
+      throw new RedisConnectionFailureException("redis is down");
+    });
+    RefreshTokenStore store = new RefreshTokenStore(unavailableRedis, refreshTokenNearCache);
+    ReflectionTestUtils.setField(store, "refreshTokenExpirationInMs", 60_000L);
+    ReflectionTestUtils.setField(store, "concurrentWindowInMs", 10_000L);
+    ReflectionTestUtils.setField(store, "degradedMode", degradedMode);
+    return store;
+  }
+}
@@ -12,15 +12,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lets.domain.comment.Comment;
 import com.lets.domain.comment.CommentRepository;
 import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.postCard.PostCardRepository;
 import com.lets.domain.user.User;
 import com.lets.exception.CustomException;
 import com.lets.exception.ErrorCode;
 import com.lets.security.AuthProvider;
+import com.lets.service.post.PostChangedEvent;
 import com.lets.service.post.PostService;
 import com.lets.service.user.UserService;
 import com.lets.web.dto.comment.CommentResponseDto;
@@ -32,12 +36,21 @@ public class CommentServiceTest {
   @Mock
   CommentRepository commentRepository;
 
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostCardRepository postCardRepository;
+
   @Mock
   UserService userService;
 
   @Mock
   PostService postService;
 
+  @Mock
+  ApplicationEventPublisher applicationEventPublisher;
+
   @InjectMocks
   CommentService commentService;
 
@@ -74,6 +87,8 @@ public class CommentServiceTest {
     );
 
     // then
+    verify(postRepository).increaseCommentCount(any());
+    verify(applicationEventPublisher).publishEvent(any(PostChangedEvent.class));
     assertThat(result.getId()).isEqualTo(commentId);
     assertThat(result.getProfile()).isEqualTo(profile);
     assertThat(result.getNickname()).isEqualTo(user.getNickname());
@@ -170,6 +185,8 @@ public class CommentServiceTest {
 
     // then
     verify(commentRepository).delete(any(Comment.class));
+    verify(postRepository).decreaseCommentCount(any());
+    verify(applicationEventPublisher).publishEvent(any(PostChangedEvent.class));
   }
 
   @Test
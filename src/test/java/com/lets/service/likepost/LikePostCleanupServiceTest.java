@@ -0,0 +1,127 @@
+package com.lets.service.likepost;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
+import com.lets.service.likePost.LikePostCleanupService;
+
+@ExtendWith(MockitoExtension.class)
+public class LikePostCleanupServiceTest {
+  @InjectMocks
+  LikePostCleanupService likePostCleanupService;
+
+  @Mock
+  LikePostRepository likePostRepository;
+
+  @Mock
+  TransactionTemplate transactionTemplate;
+
+  @Mock
+  StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  ValueOperations<String, String> valueOperations;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(likePostCleanupService, "enabled", true);
+    ReflectionTestUtils.setField(likePostCleanupService, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("deleteInactiveLikePosts메서드는 INACTIVE 좋아요 정보를 chunk 단위로 지운다")
+  void deleteInactiveLikePosts() {
+    //given
+    List<Long> firstChunk = Arrays.asList(1L, 3L);
+    List<Long> secondChunk = Collections.singletonList(7L);
+    given(likePostRepository.findIdsByStatus(eq(LikePostStatus.INACTIVE), eq(0L), any(Pageable.class)))
+        .willReturn(firstChunk);
+    given(likePostRepository.findIdsByStatus(eq(LikePostStatus.INACTIVE), eq(3L), any(Pageable.class)))
+        .willReturn(secondChunk);
+    given(likePostRepository.findIdsByStatus(eq(LikePostStatus.INACTIVE), eq(7L), any(Pageable.class)))
+        .willReturn(Collections.emptyList());
+    given(transactionTemplate.execute(any()))
+        .willAnswer(invocation -> invocation
+            .<TransactionCallback<Integer>>getArgument(0)
+            .doInTransaction(null));
+
+    //when
+    likePostCleanupService.deleteInactiveLikePosts();
+
+    //then
+    verify(likePostRepository).deleteAllByIdInAndStatus(firstChunk, LikePostStatus.INACTIVE);
+    verify(likePostRepository).deleteAllByIdInAndStatus(secondChunk, LikePostStatus.INACTIVE);
+    verify(transactionTemplate, times(2)).execute(any());
+  }
+
+  @Test
+  @DisplayName("cleanup메서드는 정리를 마친 뒤 완료 표시를 남긴다")
+  void cleanup() {
+    //given
+    given(stringRedisTemplate.hasKey(anyString()))
+        .willReturn(false);
+    given(stringRedisTemplate.opsForValue())
+        .willReturn(valueOperations);
+    given(likePostRepository.findIdsByStatus(eq(LikePostStatus.INACTIVE), eq(0L), any(Pageable.class)))
+        .willReturn(Collections.emptyList());
+
+    //when
+    likePostCleanupService.cleanup();
+
+    //then
+    verify(valueOperations).set(anyString(), eq("done"));
+  }
+
+  @Test
+  @DisplayName("cleanup메서드는 완료 표시가 있다면 좋아요 정보를 조회하지 않는다")
+  void cleanupWithDoneMarker() {
+    //given
+    given(stringRedisTemplate.hasKey(anyString()))
+        .willReturn(true);
+
+    //when
+    likePostCleanupService.cleanup();
+
+    //then
+    verify(likePostRepository, never()).findIdsByStatus(any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("cleanup메서드는 레디스를 사용할 수 없다면 예외를 던지지 않고 다음 실행 때 다시 정리한다")
+  void cleanupWithoutRedis() {
+    //given
+    given(stringRedisTemplate.hasKey(anyString()))
+        .willThrow(new RedisConnectionFailureException("redis is down"))
+        .willReturn(true);
+
+    //when
+    likePostCleanupService.cleanup();
+    likePostCleanupService.cleanup();
+    likePostCleanupService.cleanup();
+
+    //then
+    verify(stringRedisTemplate, times(2)).hasKey(anyString());
+    verify(likePostRepository, never()).findIdsByStatus(any(), anyLong(), any());
+  }
+}
@@ -6,6 +6,8 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -20,14 +22,19 @@ import com.lets.domain.likePost.LikePost;
 import com.lets.domain.likePost.LikePostRepository;
 import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.Post;
+import com.lets.domain.post.PostStatus;
 import com.lets.domain.postTechStack.PostTechStack;
 import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.tag.Tag;
 import com.lets.domain.user.User;
+import com.lets.exception.CustomException;
 import com.lets.security.AuthProvider;
 import com.lets.service.likePost.LikePostService;
+import com.lets.service.postCard.PostCardService;
 import com.lets.service.user.UserService;
 import com.lets.web.dto.likepost.LikePostResponseDto;
+import com.lets.web.dto.likepost.LikePostStatusResponseDto;
+import com.lets.web.dto.post.PostResponseDto;
 
 @ExtendWith(MockitoExtension.class)
 public class LikePostServiceTest {
@@ -43,6 +50,9 @@ public class LikePostServiceTest {
   @Mock
   LikePostRepository likePostRepository;
 
+  @Mock
+  PostCardService postCardService;
+
   static long userId = 1l;
 
   static long postId = 1l;
@@ -93,4 +103,87 @@ public class LikePostServiceTest {
                    .getTags()
                    .size()).isEqualTo(1);
   }
+
+  @Test
+  @DisplayName("addLikePostStatuses메서드는 유저가 좋아요한 글에 좋아요 상태를 표시한다")
+  void addLikePostStatuses() {
+    //given
+    List<PostResponseDto> posts = Arrays.asList(
+        createPostResponseDto(1L),
+        createPostResponseDto(2L)
+    );
+    given(likePostRepository.findPostIdsByUserIdAndStatus(eq(userId), anyCollection(), eq(LikePostStatus.ACTIVE)))
+        .willReturn(List.of(2L));
+
+    //when
+    List<PostResponseDto> result = likePostService.addLikePostStatuses(userId, posts);
+
+    //then
+    assertThat(result)
+        .extracting(PostResponseDto::getLikePostStatus)
+        .containsExactly(LikePostStatus.INACTIVE, LikePostStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("addLikePostStatuses메서드는 로그인하지 않았다면 좋아요 상태를 조회하지 않는다")
+  void addLikePostStatusesWithNotUser() {
+    //given
+    List<PostResponseDto> posts = List.of(createPostResponseDto(1L));
+
+    //when
+    List<PostResponseDto> result = likePostService.addLikePostStatuses(null, posts);
+
+    //then
+    verify(likePostRepository, never()).findPostIdsByUserIdAndStatus(any(), any(), any());
+    assertThat(result
+                   .get(0)
+                   .getLikePostStatus()).isEqualTo(LikePostStatus.INACTIVE);
+  }
+
+  @Test
+  @DisplayName("findLikePostStatuses메서드는 요청한 글 id 순서대로 좋아요 상태를 반환한다")
+  void findLikePostStatuses() {
+    //given
+    given(likePostRepository.findPostIdsByUserIdAndStatus(eq(userId), anyCollection(), eq(LikePostStatus.ACTIVE)))
+        .willReturn(List.of(3L));
+
+    //when
+    List<LikePostStatusResponseDto> result = likePostService.findLikePostStatuses(userId, List.of(3L, 1L));
+
+    //then
+    assertThat(result)
+        .extracting(LikePostStatusResponseDto::getPostId)
+        .containsExactly(3L, 1L);
+    assertThat(result)
+        .extracting(LikePostStatusResponseDto::getLikePostStatus)
+        .containsExactly(LikePostStatus.ACTIVE, LikePostStatus.INACTIVE);
+  }
+
+  @Test
+  @DisplayName("findLikePostStatuses메서드는 100개가 넘는 글 id 를 요청하면 예외를 던진다")
+  void findLikePostStatusesWithTooManyPostIds() {
+    //given
+    List<Long> postIds = LongStream
+        .rangeClosed(1, 101)
+        .boxed()
+        .collect(Collectors.toList());
+
+    //when, then
+    assertThatThrownBy(() -> likePostService.findLikePostStatuses(userId, postIds))
+        .isInstanceOf(CustomException.class);
+  }
+
+  private PostResponseDto createPostResponseDto(long id) {
+    return PostResponseDto.from(
+        "profile",
+        id,
+        "title" + id,
+        "content" + id,
+        0,
+        0,
+        PostStatus.RECRUITING,
+        List.of("spring"),
+        0
+    );
+  }
 }
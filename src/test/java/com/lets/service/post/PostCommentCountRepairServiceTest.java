@@ -0,0 +1,83 @@
+package com.lets.service.post;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lets.domain.post.PostCommentCount;
+import com.lets.domain.post.PostRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class PostCommentCountRepairServiceTest {
+  @InjectMocks
+  PostCommentCountRepairService postCommentCountRepairService;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(postCommentCountRepairService, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("repairCommentCounts메서드는 글 id 순서로 chunk 마다 댓글 수를 보정한다")
+  void repairCommentCounts() {
+    //given
+    List<PostCommentCount> chunk = Arrays.asList(
+        postCommentCount(1L, 3L),
+        postCommentCount(2L, 0L)
+    );
+    given(postRepository.findCommentCounts(eq(0L), any(Pageable.class)))
+        .willReturn(chunk);
+    given(postRepository.findCommentCounts(eq(2L), any(Pageable.class)))
+        .willReturn(Collections.emptyList());
+    given(postRepository.repairCommentCounts(Arrays.asList(1L, 2L)))
+        .willReturn(1);
+    given(transactionTemplate.execute(any()))
+        .willAnswer(invocation -> invocation
+            .<TransactionCallback<Integer>>getArgument(0)
+            .doInTransaction(null));
+
+    //when
+    postCommentCountRepairService.repairCommentCounts();
+
+    //then
+    verify(postRepository).repairCommentCounts(Arrays.asList(1L, 2L));
+  }
+
+  private PostCommentCount postCommentCount(
+      Long id,
+      long commentCount
+  ) {
+    return new PostCommentCount() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public long getCommentCount() {
+        return commentCount;
+      }
+    };
+  }
+}
@@ -0,0 +1,192 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.data.domain.Sort.Direction.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostResponseDto;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class PostFeedCacheServiceTest {
+  @Mock
+  PostService postService;
+
+  @Mock
+  StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  ValueOperations<String, String> valueOperations;
+
+  @Mock
+  SetOperations<String, String> setOperations;
+
+  PostFeedCacheService postFeedCacheService;
+
+  MeterRegistry meterRegistry;
+
+  ObjectMapper objectMapper = Jackson2ObjectMapperBuilder
+      .json()
+      .build();
+
+  static String key = "cache:feed:RECRUITING:java,spring:ANY:createdDate:page=0:size=20";
+  static PostSearchRequestDto search = new PostSearchRequestDto("RECRUITING", List.of("spring", "java"), TagMatch.ANY);
+  static Pageable pageable = PageRequest.of(0, 20, DESC, "createdDate");
+  static List<PostResponseDto> posts = List.of(PostResponseDto.from(
+      "profile",
+      1L,
+      "title",
+      "content",
+      0,
+      0,
+      PostStatus.RECRUITING,
+      List.of("spring"),
+      0
+  ));
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    postFeedCacheService = new PostFeedCacheService(
+        postService,
+        stringRedisTemplate,
+        objectMapper,
+        meterRegistry
+    );
+    ReflectionTestUtils.setField(postFeedCacheService, "enabled", true);
+    ReflectionTestUtils.setField(postFeedCacheService, "ttlInSeconds", 60L);
+  }
+
+  @Test
+  @DisplayName("searchPosts메서드는 캐시에 없다면 DB 에서 조회하고 검색 조건의 태그마다 키를 모아둔다")
+  void searchPostsWithMiss() {
+    //given
+    given(stringRedisTemplate.opsForValue())
+        .willReturn(valueOperations);
+    given(stringRedisTemplate.opsForSet())
+        .willReturn(setOperations);
+    given(postService.searchPosts(search, pageable))
+        .willReturn(posts);
+
+    //when
+    List<PostResponseDto> result = postFeedCacheService.searchPosts(search, pageable);
+
+    //then
+    assertThat(result).isEqualTo(posts);
+    verify(valueOperations).set(eq(key), anyString(), eq(Duration.ofSeconds(60)));
+    verify(setOperations).add("cache:feed:index:RECRUITING:spring", key);
+    verify(setOperations).add("cache:feed:index:RECRUITING:java", key);
+    assertThat(meterRegistry
+                   .get("cache.gets")
+                   .tag("result", "miss")
+                   .counter()
+                   .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("searchPosts메서드는 캐시에 있다면 DB 에서 조회하지 않는다")
+  void searchPostsWithHit() throws Exception {
+    //given
+    given(stringRedisTemplate.opsForValue())
+        .willReturn(valueOperations);
+    given(valueOperations.get(key))
+        .willReturn(objectMapper.writeValueAsString(posts));
+
+    //when
+    List<PostResponseDto> result = postFeedCacheService.searchPosts(search, pageable);
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result
+                   .get(0)
+                   .getId()).isEqualTo(1L);
+    verify(postService, never()).searchPosts(any(), any());
+    assertThat(meterRegistry
+                   .get("cache.gets")
+                   .tag("result", "hit")
+                   .counter()
+                   .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("searchPosts메서드는 Redis 를 사용할 수 없다면 DB 에서 조회한다")
+  void searchPostsWithRedisFailure() {
+    //given
+    given(stringRedisTemplate.opsForValue())
+        .willReturn(valueOperations);
+    given(valueOperations.get(key))
+        .willThrow(new RedisConnectionFailureException("connection refused"));
+    given(postService.searchPosts(search, pageable))
+        .willReturn(posts);
+
+    //when
+    List<PostResponseDto> result = postFeedCacheService.searchPosts(search, pageable);
+
+    //then
+    assertThat(result).isEqualTo(posts);
+  }
+
+  @Test
+  @DisplayName("evict메서드는 바뀐 글의 모집 상태, 태그에 걸리는 키만 지운다")
+  void evict() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "title", "content");
+
+    given(stringRedisTemplate.opsForSet())
+        .willReturn(setOperations);
+    given(setOperations.union(anyCollection()))
+        .willReturn(Set.of(key));
+
+    //when
+    postFeedCacheService.evict(PostChangedEvent.of(post, List.of("spring")));
+
+    //then
+    ArgumentCaptor<Collection<String>> indexKeys = ArgumentCaptor.forClass(Collection.class);
+    verify(setOperations).union(indexKeys.capture());
+    assertThat(indexKeys.getValue()).containsExactlyInAnyOrder(
+        "cache:feed:index:*:*",
+        "cache:feed:index:*:spring",
+        "cache:feed:index:RECRUITING:*",
+        "cache:feed:index:RECRUITING:spring"
+    );
+
+    ArgumentCaptor<Collection<String>> deleteKeys = ArgumentCaptor.forClass(Collection.class);
+    verify(stringRedisTemplate).delete(deleteKeys.capture());
+    assertThat(deleteKeys.getValue()).contains(key);
+    assertThat(meterRegistry
+                   .get("cache.evictions")
+                   .counter()
+                   .count()).isEqualTo(1);
+  }
+}
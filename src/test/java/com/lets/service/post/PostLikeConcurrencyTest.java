@@ -0,0 +1,166 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.lets.domain.likePost.LikePost;
+import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.likePost.LikePostStatus;
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.user.User;
+import com.lets.domain.user.UserRepository;
+import com.lets.security.AuthProvider;
+
+@SpringBootTest
+public class PostLikeConcurrencyTest {
+  private static final int THREAD_COUNT = 32;
+
+  @Autowired
+  PostService postService;
+
+  @Autowired
+  PostRepository postRepository;
+
+  @Autowired
+  UserRepository userRepository;
+
+  @Autowired
+  LikePostRepository likePostRepository;
+
+  private Post post;
+
+  @BeforeEach
+  void before() {
+    User writer = User.createUser("writer", "writer", AuthProvider.google, "default");
+    userRepository.save(writer);
+
+    post = Post.createPost(writer, "title", "content");
+    postRepository.save(post);
+  }
+
+  @AfterEach
+  void after() {
+    likePostRepository.deleteAllInBatch();
+    postRepository.deleteAllInBatch();
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 1000명이 동시에 좋아요를 눌러도 좋아요 수를 정확히 반영한다")
+  void changeLikeStatusConcurrently() throws InterruptedException {
+    //given
+    List<User> users = createUsers(1000);
+    AtomicInteger failures = new AtomicInteger();
+
+    //when
+    runConcurrently(users.size(), i -> postService.changeLikeStatus(users
+                                                                        .get(i)
+                                                                        .getId(), post.getId()), failures);
+
+    //then
+    assertThat(failures.get()).isEqualTo(0);
+    assertThat(postRepository.findLikeCountById(post.getId())).isEqualTo(1000);
+    assertThat(countActiveLikePosts()).isEqualTo(1000);
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 같은 유저가 동시에 여러번 눌러도 좋아요 수와 좋아요 상태가 어긋나지 않는다")
+  void changeLikeStatusConcurrentlyBySameUsers() throws InterruptedException {
+    //given
+    List<User> users = createUsers(100);
+    for (User user : users) {
+      likePostRepository.save(LikePost.createLikePost(user, post));
+    }
+    AtomicInteger failures = new AtomicInteger();
+
+    //when
+    runConcurrently(1000, i -> postService.changeLikeStatus(users
+                                                                .get(i % users.size())
+                                                                .getId(), post.getId()), failures);
+
+    //then
+    //락 대기 시간 초과 등으로 실패한 요청은 통째로 롤백되기 때문에 좋아요 수는 항상 ACTIVE 좋아요 정보 수와 같음
+    assertThat(postRepository.findLikeCountById(post.getId())).isEqualTo(countActiveLikePosts());
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 같은 유저가 처음 누른 좋아요가 동시에 들어와도 실패하지 않고 좋아요 수와 좋아요 상태가 어긋나지 않는다")
+  void changeLikeStatusConcurrentlyAtFirstLike() throws InterruptedException {
+    //given
+    List<User> users = createUsers(100);
+    AtomicInteger failures = new AtomicInteger();
+
+    //when
+    runConcurrently(200, i -> postService.changeLikeStatus(users
+                                                               .get(i % users.size())
+                                                               .getId(), post.getId()), failures);
+
+    //then
+    assertThat(failures.get()).isEqualTo(0);
+    assertThat(likePostRepository.count()).isEqualTo(100);
+    assertThat(postRepository.findLikeCountById(post.getId())).isEqualTo(countActiveLikePosts());
+  }
+
+  private List<User> createUsers(int count) {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      users.add(User.createUser("user" + i, "id" + i, AuthProvider.google, "default"));
+    }
+    return userRepository.saveAll(users);
+  }
+
+  private long countActiveLikePosts() {
+    return likePostRepository
+        .findAll()
+        .stream()
+        .filter(likePost -> likePost.getStatus() == LikePostStatus.ACTIVE)
+        .count();
+  }
+
+  private void runConcurrently(
+      int count,
+      IntConsumer task,
+      AtomicInteger failures
+  ) throws InterruptedException {
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(count);
+      for (int i = 0; i < count; i++) {
+        int index = i;
+        executorService.submit(() -> {
+          try {
+            start.await();
+            task.accept(index);
+          } catch (Exception e) {
+            failures.incrementAndGet();
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+
+      start.countDown();
+      //시간 안에 끝나지 않았다면 남은 작업이 있는 채로 검증하지 않도록 실패시킴
+      assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostRecommendRequestDto;
+import com.lets.web.dto.post.PostRecommendResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class PostRecommendCacheServiceTest {
+  @Mock
+  PostService postService;
+
+  PostRecommendCacheService postRecommendCacheService;
+
+  MeterRegistry meterRegistry;
+
+  static long postId = 1L;
+  static long userId = 3L;
+  static PostRecommendRequestDto search = new PostRecommendRequestDto(List.of("spring", "java"));
+  static List<PostRecommendResponseDto> posts = List.of(
+      PostRecommendResponseDto.PostRecommendToDto(2L, "title2", 2L),
+      PostRecommendResponseDto.PostRecommendToDto(4L, "title4", userId),
+      PostRecommendResponseDto.PostRecommendToDto(5L, "title5", 2L),
+      PostRecommendResponseDto.PostRecommendToDto(6L, "title6", 2L),
+      PostRecommendResponseDto.PostRecommendToDto(7L, "title7", 2L)
+  );
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    postRecommendCacheService = new PostRecommendCacheService(postService, meterRegistry, true, 100, 600);
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 캐시에 있다면 추천 글을 다시 구하지 않는다")
+  void recommendPostsWithHit() {
+    //given
+    givenRecommendation(PostRecommendation.ofRequest(posts, search.getTags()));
+
+    //when
+    postRecommendCacheService.recommendPosts(null, postId, search);
+    List<PostRecommendResponseDto> result = postRecommendCacheService.recommendPosts(
+        null,
+        postId,
+        new PostRecommendRequestDto(List.of("java", "spring"))
+    );
+
+    //then
+    assertThat(ids(result)).containsExactly(2L, 4L, 5L, 6L);
+    verify(postService, times(1)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+    assertThat(meterRegistry
+                   .get("cache.gets")
+                   .tag("cache", "postRecommend")
+                   .tag("result", "hit")
+                   .functionCounter()
+                   .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 조회한 유저와 관계없이 캐시를 같이 쓰고 조회한 유저의 글을 거른다")
+  void recommendPostsWithUser() {
+    //given
+    givenRecommendation(PostRecommendation.ofRequest(posts, search.getTags()));
+
+    //when
+    List<PostRecommendResponseDto> anonymousResult = postRecommendCacheService.recommendPosts(null, postId, search);
+    List<PostRecommendResponseDto> userResult = postRecommendCacheService.recommendPosts(userId, postId, search);
+
+    //then
+    assertThat(ids(anonymousResult)).containsExactly(2L, 4L, 5L, 6L);
+    assertThat(ids(userResult)).containsExactly(2L, 5L, 6L, 7L);
+    verify(postService, times(1)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+    verify(postService, never()).recommendPosts(any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 인덱스로 구한 추천 결과라면 요청 태그와 관계없이 글 id 로 캐시를 쓴다")
+  void recommendPostsWithIndex() {
+    //given
+    givenRecommendation(PostRecommendation.ofIndex(posts, List.of("python")));
+
+    //when
+    postRecommendCacheService.recommendPosts(null, postId, search);
+    postRecommendCacheService.recommendPosts(null, postId, new PostRecommendRequestDto(List.of("c")));
+
+    //then
+    verify(postService, times(1)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("evict메서드는 인덱스로 구한 추천 결과라면 글에 저장된 태그로 지운다")
+  void evictWithIndexTag() {
+    //given
+    givenRecommendation(PostRecommendation.ofIndex(posts, List.of("python")));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //when
+    postRecommendCacheService.evict(PostChangedEvent.of(createPost(10L), List.of("python")));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //then
+    verify(postService, times(2)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("evict메서드는 바뀐 글의 태그에 걸리는 추천 결과를 지운다")
+  void evictWithTag() {
+    //given
+    givenRecommendation(PostRecommendation.ofRequest(posts, search.getTags()));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //when
+    postRecommendCacheService.evict(PostChangedEvent.of(createPost(10L), List.of("java")));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //then
+    verify(postService, times(2)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("evict메서드는 추천된 글이 바뀌면 태그가 겹치지 않아도 추천 결과를 지운다")
+  void evictWithRecommendedPost() {
+    //given
+    givenRecommendation(PostRecommendation.ofRequest(posts, search.getTags()));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //when
+    postRecommendCacheService.evict(PostChangedEvent.of(createPost(2L), List.of("python")));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //then
+    verify(postService, times(2)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+  }
+
+  @Test
+  @DisplayName("evict메서드는 태그가 겹치지 않거나 좋아요 수, 댓글 수만 바뀐 글이라면 추천 결과를 지우지 않는다")
+  void evictWithUnrelatedPost() {
+    //given
+    givenRecommendation(PostRecommendation.ofRequest(posts, search.getTags()));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //when
+    postRecommendCacheService.evict(PostChangedEvent.of(createPost(10L), List.of("python")));
+    postRecommendCacheService.evict(PostChangedEvent.ofCounts(createPost(11L), List.of("spring")));
+    postRecommendCacheService.recommendPosts(null, postId, search);
+
+    //then
+    verify(postService, times(1)).recommendPostCandidates(anyLong(), any(), anyInt(), anyInt());
+  }
+
+  private void givenRecommendation(PostRecommendation recommendation) {
+    given(postService.recommendPostCandidates(eq(postId), any(), anyInt(), anyInt()))
+        .willReturn(recommendation);
+  }
+
+  private List<Long> ids(List<PostRecommendResponseDto> posts) {
+    return posts
+        .stream()
+        .map(PostRecommendResponseDto::getId)
+        .collect(Collectors.toList());
+  }
+
+  private Post createPost(Long id) {
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "title" + id, "content" + id);
+    ReflectionTestUtils.setField(post, "id", id);
+    return post;
+  }
+}
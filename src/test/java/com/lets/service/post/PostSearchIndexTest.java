@@ -0,0 +1,252 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.data.domain.Sort.Direction.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostSearchSource;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagId;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.tag.Tag;
+import com.lets.domain.tag.TagRepository;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchIndexTest {
+  @InjectMocks
+  PostSearchIndex postSearchIndex;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostTechStackRepository postTechStackRepository;
+
+  @Mock
+  TagRepository tagRepository;
+
+  static User user = User.createUser("user1", "123", AuthProvider.google, "default");
+  static LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+  Tag spring;
+  Tag java;
+  Post post1;
+  Post post2;
+  Post post3;
+  Post post4;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(postSearchIndex, "enabled", true);
+    ReflectionTestUtils.setField(postSearchIndex, "chunkSize", 1000);
+
+    spring = createTag(1L, "spring");
+    java = createTag(2L, "java");
+    Tag python = createTag(3L, "python");
+
+    post1 = createPost(1L, 5, now.plusMinutes(1));
+    post2 = createPost(2L, 1, now.plusMinutes(2));
+    post3 = createPost(3L, 10, now.plusMinutes(3));
+    post3.changeStatus();
+    post4 = createPost(4L, 5, now.plusMinutes(4));
+
+    given(tagRepository.findAll())
+        .willReturn(new ArrayList<>(List.of(python, java, spring)));
+    given(postTechStackRepository.findTagIdsByPostIds(List.of(1L, 2L, 3L, 4L)))
+        .willReturn(List.of(
+            postTagId(1L, spring),
+            postTagId(2L, spring),
+            postTagId(2L, java),
+            postTagId(3L, java),
+            postTagId(4L, python)
+        ));
+    given(postRepository.findSearchSources(eq(0L), any(Pageable.class)))
+        .willReturn(List.of(searchSource(post1), searchSource(post2), searchSource(post3), searchSource(post4)));
+
+    postSearchIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("rebuild메서드는 이미 다시 만드는 중이라면 겹쳐서 다시 만들지 않는다")
+  void rebuildWhileRebuilding() {
+    //given
+    given(tagRepository.findAll())
+        .willAnswer(invocation -> {
+          postSearchIndex.rebuild();
+          return new ArrayList<>(List.of(spring, java));
+        });
+
+    //when
+    postSearchIndex.rebuild();
+
+    //then
+    verify(tagRepository, times(2)).findAll();
+  }
+
+  @Test
+  @DisplayName("search메서드는 태그 조건이 ANY 라면 태그 중 하나라도 달린 글을 최신순으로 반환한다")
+  void searchWithAnyTags() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto("RECRUITING", List.of("spring", "java"), TagMatch.ANY);
+
+    //when
+    Optional<List<Long>> result = postSearchIndex.search(search, null, PageRequest.of(0, 20, DESC, "createdDate"));
+
+    //then
+    assertThat(result).contains(List.of(2L, 1L));
+  }
+
+  @Test
+  @DisplayName("search메서드는 태그 조건이 ALL 이라면 태그가 모두 달린 글을 반환한다")
+  void searchWithAllTags() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto(null, List.of("spring", "java"), TagMatch.ALL);
+
+    //when
+    Optional<List<Long>> result = postSearchIndex.search(search, null, PageRequest.of(0, 20, DESC, "createdDate"));
+
+    //then
+    assertThat(result).contains(List.of(2L));
+  }
+
+  @Test
+  @DisplayName("search메서드는 조회수가 같다면 글 id 역순으로 정렬하고 페이지를 자른다")
+  void searchByViewCount() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto(null, null, null);
+
+    //when
+    Optional<List<Long>> firstPage = postSearchIndex.search(search, null, PageRequest.of(0, 2, DESC, "viewCount"));
+    Optional<List<Long>> secondPage = postSearchIndex.search(search, null, PageRequest.of(1, 2, DESC, "viewCount"));
+
+    //then
+    assertThat(firstPage).contains(List.of(3L, 4L));
+    assertThat(secondPage).contains(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("search메서드는 커서 이후의 글을 반환한다")
+  void searchWithCursor() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto(null, null, null);
+    PostCursor cursor = PostCursor.of(PostCursor.VIEW_COUNT, post4);
+
+    //when
+    Optional<List<Long>> result = postSearchIndex.search(search, cursor, PageRequest.of(0, 20, DESC, "viewCount"));
+
+    //then
+    assertThat(result).contains(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("update메서드는 지워진 글을 인덱스에서 뺀다")
+  void updateWithDeletedPost() {
+    //given
+    given(postRepository.findSearchSourceById(1L))
+        .willReturn(Optional.empty());
+
+    //when
+    postSearchIndex.update(PostChangedEvent.of(post1, List.of("spring")));
+
+    //then
+    PostSearchRequestDto search = new PostSearchRequestDto(null, List.of("spring"), TagMatch.ANY);
+    assertThat(postSearchIndex.search(search, null, PageRequest.of(0, 20, DESC, "createdDate")))
+        .contains(List.of(2L));
+  }
+
+  @Test
+  @DisplayName("update메서드는 좋아요 수, 댓글 수만 바뀐 글은 다시 읽지 않는다")
+  void updateWithCountsOnly() {
+    //when
+    postSearchIndex.update(PostChangedEvent.ofCounts(post1, List.of("spring")));
+
+    //then
+    verify(postRepository, never()).findSearchSourceById(anyLong());
+  }
+
+  private PostSearchSource searchSource(Post post) {
+    return new PostSearchSource() {
+      @Override
+      public Long getId() {
+        return post.getId();
+      }
+
+      @Override
+      public PostStatus getStatus() {
+        return post.getStatus();
+      }
+
+      @Override
+      public LocalDateTime getCreatedDate() {
+        return post.getCreatedDate();
+      }
+
+      @Override
+      public long getViewCount() {
+        return post.getViewCount();
+      }
+    };
+  }
+
+  private PostTagId postTagId(
+      Long postId,
+      Tag tag
+  ) {
+    return new PostTagId() {
+      @Override
+      public Long getPostId() {
+        return postId;
+      }
+
+      @Override
+      public Long getTagId() {
+        return tag.getId();
+      }
+    };
+  }
+
+  private Tag createTag(
+      Long id,
+      String name
+  ) {
+    Tag tag = Tag.createTag(name);
+    ReflectionTestUtils.setField(tag, "id", id);
+    return tag;
+  }
+
+  private Post createPost(
+      Long id,
+      long viewCount,
+      LocalDateTime createdDate
+  ) {
+    Post post = Post.createPost(user, "title" + id, "content" + id);
+    ReflectionTestUtils.setField(post, "id", id);
+    ReflectionTestUtils.setField(post, "viewCount", viewCount);
+    ReflectionTestUtils.setField(post, "createdDate", createdDate);
+    return post;
+  }
+}
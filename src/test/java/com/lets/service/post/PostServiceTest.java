@@ -16,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -28,24 +30,33 @@ import com.lets.domain.likePost.LikePostStatus;
 import com.lets.domain.post.Post;
 import com.lets.domain.post.PostRepository;
 import com.lets.domain.post.PostStatus;
+import com.lets.domain.postCard.PostCard;
+import com.lets.domain.postTechStack.PostTagName;
 import com.lets.domain.postTechStack.PostTechStack;
 import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.tag.Tag;
 import com.lets.domain.tag.TagRepository;
 import com.lets.domain.user.User;
+import com.lets.domain.userTechStack.UserTechStack;
+import com.lets.domain.userTechStack.UserTechStackRepository;
 import com.lets.exception.CustomException;
 import com.lets.exception.ErrorCode;
 import com.lets.security.AuthProvider;
+import com.lets.service.likePost.LikePostService;
+import com.lets.service.postCard.PostCardService;
 import com.lets.service.user.UserService;
 import com.lets.util.CloudinaryUtil;
 import com.lets.web.dto.comment.CommentSearchRequestDto;
 import com.lets.web.dto.likepost.ChangeLikePostStatusResponseDto;
 import com.lets.web.dto.post.PostCommentResponseDto;
+import com.lets.web.dto.post.PostCursor;
+import com.lets.web.dto.post.PostCursorResponseDto;
 import com.lets.web.dto.post.PostRecommendRequestDto;
 import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
 import com.lets.web.dto.post.PostSaveRequestDto;
 import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
 import com.lets.web.dto.post.PostUpdateRequestDto;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +67,9 @@ public class PostServiceTest {
   @Mock
   UserService userService;
 
+  @Mock
+  LikePostService likePostService;
+
   @Mock
   PostRepository postRepository;
 
@@ -74,6 +88,30 @@ public class PostServiceTest {
   @Mock
   TagRepository tagRepository;
 
+  @Mock
+  ApplicationEventPublisher applicationEventPublisher;
+
+  @Mock
+  PostSearchIndex postSearchIndex;
+
+  @Mock
+  PostCardService postCardService;
+
+  @Mock
+  PostTextIndex postTextIndex;
+
+  @Mock
+  PostViewCounter postViewCounter;
+
+  @Mock
+  PostSimilarityIndex postSimilarityIndex;
+
+  @Mock
+  PostTagRankIndex postTagRankIndex;
+
+  @Mock
+  UserTechStackRepository userTechStackRepository;
+
   static long userId = 1l;
   static long postId = 1l;
 
@@ -139,8 +177,6 @@ public class PostServiceTest {
         .willReturn(profile);
     given(postTechStackRepository.findAllByUser(any(User.class)))
         .willReturn(postTechStacks);
-    given(commentRepository.countByPost(any(Post.class)))
-        .willReturn(commentCount);
 
     //when
     List<PostResponseDto> result = postService.findUserPosts(userId);
@@ -191,6 +227,7 @@ public class PostServiceTest {
 
     //then
     assertThat(postStatus).isEqualTo(PostStatus.COMPLETE);
+    verify(applicationEventPublisher).publishEvent(any(PostChangedEvent.class));
   }
 
   @Test
@@ -264,12 +301,16 @@ public class PostServiceTest {
         .willReturn(postTechStacks);
     given(commentRepository.findComments(any(CommentSearchRequestDto.class)))
         .willReturn(comments);
+    given(postViewCounter.pendingCount(postId))
+        .willReturn(1L);
+    ReflectionTestUtils.setField(postService, "countAnonymousViews", true);
 
 
     //when
     PostCommentResponseDto result = postService.findById(null, postId);
 
     //then
+    verify(postViewCounter).increase(postId);
     assertThat(result.getProfile()).isEqualTo(profile);
     assertThat(result.getId()).isEqualTo(postId);
     assertThat(result.getNickname()).isEqualTo(user.getNickname());
@@ -284,7 +325,7 @@ public class PostServiceTest {
   }
 
   @Test
-  @DisplayName("findById메서드는 로그인한 유저라면 아이디로 글을 조회하고 조회 수와 조회한 글 목록을 수정한다")
+  @DisplayName("findById메서드는 로그인한 유저라면 아이디로 글을 조회하고 좋아요 상태를 함께 반환한다")
   void findByIdWithUser() {
     //given
     String profile = "profile";
@@ -301,12 +342,15 @@ public class PostServiceTest {
         .willReturn(Optional.of(likePosts.get(0)));
     given(commentRepository.findComments(any(CommentSearchRequestDto.class)))
         .willReturn(comments);
+    given(postViewCounter.pendingCount(postId))
+        .willReturn(1L);
 
 
     //when
     PostCommentResponseDto result = postService.findById(userId, postId);
 
     //then
+    verify(postViewCounter).increase(postId);
     verify(userService).findById(anyLong());
     verify(likePostRepository).findByUserIdAndPostId(anyLong(), anyLong());
 
@@ -323,6 +367,27 @@ public class PostServiceTest {
     assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.INACTIVE);
   }
 
+  @Test
+  @DisplayName("findById메서드는 좋아요를 누른 적 없는 글이라면 좋아요 정보를 만들지 않고 INACTIVE 를 반환한다")
+  void findByIdWithNeverLikedPost() {
+    //given
+    given(postRepository.findById(anyLong()))
+        .willReturn(Optional.of(post));
+    given(userService.findById(anyLong()))
+        .willReturn(user);
+    given(cloudinaryUtil.findFileURL(anyString()))
+        .willReturn("profile");
+    given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.empty());
+
+    //when
+    PostCommentResponseDto result = postService.findById(userId, postId);
+
+    //then
+    verify(likePostRepository, never()).save(any(LikePost.class));
+    assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.INACTIVE);
+  }
+
   @Test
   @DisplayName("findById메서드는 존재하지 않는 유저라면 예외를 던진다")
   void findByIdWithNonexistentUser() {
@@ -370,6 +435,137 @@ public class PostServiceTest {
     //given
     given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
         .willReturn(Optional.of(likePosts.get(0)));
+    given(likePostRepository.changeStatus(any(), eq(LikePostStatus.INACTIVE), eq(LikePostStatus.ACTIVE)))
+        .willReturn(1);
+    given(postRepository.findLikeCountById(postId))
+        .willReturn(1L);
+
+    //when
+    ChangeLikePostStatusResponseDto result = postService.changeLikeStatus(
+        userId,
+        postId
+    );
+
+    //then
+    verify(postRepository).updateLikeCount(postId, 1L);
+    verify(postCardService).updateLikeCount(postId, 1L);
+    assertThat(result.getLikeCount()).isEqualTo(1);
+    assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 다른 요청이 먼저 좋아요 상태를 바꿨다면 좋아요 수를 수정하지 않고 바뀐 상태를 반환한다")
+  void changeLikeStatusWithConcurrentChange() {
+    //given
+    given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.of(likePosts.get(0)));
+    given(likePostRepository.changeStatus(any(), eq(LikePostStatus.INACTIVE), eq(LikePostStatus.ACTIVE)))
+        .willReturn(0);
+    given(likePostRepository.findStatusById(any()))
+        .willReturn(LikePostStatus.ACTIVE);
+    given(postRepository.findLikeCountById(postId))
+        .willReturn(1L);
+
+    //when
+    ChangeLikePostStatusResponseDto result = postService.changeLikeStatus(
+        userId,
+        postId
+    );
+
+    //then
+    verify(postRepository, never()).updateLikeCount(anyLong(), anyLong());
+    assertThat(result.getLikeCount()).isEqualTo(1);
+    assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 그 사이 좋아요 정보가 지워졌다면 좋아요 정보를 다시 만들고 좋아요 상태로 바꾼다")
+  void changeLikeStatusWithDeletedLikePost() {
+    //given
+    LikePost deletedLikePost = LikePost.createLikePost(user, post);
+    ReflectionTestUtils.setField(deletedLikePost, "id", 1L);
+    LikePost recreatedLikePost = LikePost.createLikePost(user, post);
+    ReflectionTestUtils.setField(recreatedLikePost, "id", 2L);
+    given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.of(deletedLikePost));
+    given(likePostRepository.changeStatus(1L, LikePostStatus.INACTIVE, LikePostStatus.ACTIVE))
+        .willReturn(0);
+    given(likePostRepository.findStatusById(1L))
+        .willReturn(null);
+    given(userService.findById(anyLong()))
+        .willReturn(user);
+    given(postRepository.findById(anyLong()))
+        .willReturn(Optional.of(post));
+    given(likePostRepository.findForUpdateByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.of(recreatedLikePost));
+    given(likePostRepository.changeStatus(2L, LikePostStatus.INACTIVE, LikePostStatus.ACTIVE))
+        .willReturn(1);
+    given(postRepository.findLikeCountById(postId))
+        .willReturn(1L);
+
+    //when
+    ChangeLikePostStatusResponseDto result = postService.changeLikeStatus(
+        userId,
+        postId
+    );
+
+    //then
+    verify(likePostService).createLikePost(user, post);
+    verify(postRepository).updateLikeCount(postId, 1L);
+    assertThat(result.getLikeCount()).isEqualTo(1);
+    assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 좋아요를 처음 누른다면 좋아요 정보를 만들고 좋아요 상태로 바꾼다")
+  void changeLikeStatusWithNeverLikedPost() {
+    //given
+    Post neverLikedPost = Post.createPost(user, "title", "content");
+    given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.empty());
+    given(userService.findById(anyLong()))
+        .willReturn(user);
+    given(postRepository.findById(anyLong()))
+        .willReturn(Optional.of(neverLikedPost));
+    given(likePostRepository.findForUpdateByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.of(LikePost.createLikePost(user, neverLikedPost)));
+    given(likePostRepository.changeStatus(any(), eq(LikePostStatus.INACTIVE), eq(LikePostStatus.ACTIVE)))
+        .willReturn(1);
+    given(postRepository.findLikeCountById(postId))
+        .willReturn(1L);
+
+    //when
+    ChangeLikePostStatusResponseDto result = postService.changeLikeStatus(
+        userId,
+        postId
+    );
+
+    //then
+    assertThat(result.getLikeCount()).isEqualTo(1);
+    assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+    verify(likePostService).createLikePost(user, neverLikedPost);
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 같은 글에 동시에 좋아요를 처음 눌러 좋아요 정보가 중복되면 먼저 저장된 좋아요 정보의 상태를 바꾼다")
+  void changeLikeStatusWithDuplicateLikePost() {
+    //given
+    Post duplicateLikedPost = Post.createPost(user, "title", "content");
+    given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.empty());
+    given(userService.findById(anyLong()))
+        .willReturn(user);
+    given(postRepository.findById(anyLong()))
+        .willReturn(Optional.of(duplicateLikedPost));
+    willThrow(new DataIntegrityViolationException("uk_like_post_user_post"))
+        .given(likePostService)
+        .createLikePost(any(), any());
+    given(likePostRepository.findForUpdateByUserIdAndPostId(anyLong(), anyLong()))
+        .willReturn(Optional.of(LikePost.createLikePost(user, duplicateLikedPost)));
+    given(likePostRepository.changeStatus(any(), eq(LikePostStatus.INACTIVE), eq(LikePostStatus.ACTIVE)))
+        .willReturn(1);
+    given(postRepository.findLikeCountById(postId))
+        .willReturn(1L);
 
     //when
     ChangeLikePostStatusResponseDto result = postService.changeLikeStatus(
@@ -378,16 +574,21 @@ public class PostServiceTest {
     );
 
     //then
+    verify(postRepository).updateLikeCount(postId, 1L);
     assertThat(result.getLikeCount()).isEqualTo(1);
     assertThat(result.getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
   }
 
   @Test
-  @DisplayName("changeLikeStatus메서드는 조회한 적 없는 글이라면 예외를 던진다")
-  void changeLikeStatusWithNeverSeenPost() {
+  @DisplayName("changeLikeStatus메서드는 존재하지 않는 글이라면 예외를 던진다")
+  void changeLikeStatusWithNonexistentPost() {
     //given
     given(likePostRepository.findByUserIdAndPostId(anyLong(), anyLong()))
         .willReturn(Optional.empty());
+    given(userService.findById(anyLong()))
+        .willReturn(user);
+    given(postRepository.findById(anyLong()))
+        .willReturn(Optional.empty());
 
     //when, then
     assertThatThrownBy(() -> {
@@ -395,7 +596,7 @@ public class PostServiceTest {
     })
         .isInstanceOf(CustomException.class)
         .hasMessageContaining("해당 게시글을 찾을 수 없습니다.");
-
+    verify(likePostRepository, never()).save(any(LikePost.class));
   }
 
   @Test
@@ -403,15 +604,16 @@ public class PostServiceTest {
   void searchPosts() {
     //given
     String profile = "profile";
-    given(postTechStackRepository.findPostTechStacks(any(PostSearchRequestDto.class), any(Pageable.class)))
+    given(postTechStackRepository.findPosts(any(PostSearchRequestDto.class), any(Pageable.class)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
         .willReturn(postTechStacks);
-    given(commentRepository.countByPost(any(Post.class)))
-        .willReturn(commentCount);
     given(cloudinaryUtil.findFileURL(anyString()))
         .willReturn(profile);
     PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
         PostStatus.RECRUITING.name(),
-        tags
+        tags,
+        TagMatch.ANY
     );
 
     PageRequest pageRequest = PageRequest.of(0, 20, DESC, "createdDate");
@@ -434,6 +636,156 @@ public class PostServiceTest {
     assertThat(result.get(0).getStatus()).isEqualTo(post.getStatus());
   }
 
+  @Test
+  @DisplayName("searchPosts메서드는 검색 인덱스를 사용할 수 있다면 인덱스에서 구한 글을 조회한다")
+  void searchPostsWithIndex() {
+    //given
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(),
+        tags,
+        TagMatch.ANY
+    );
+    PageRequest pageRequest = PageRequest.of(0, 20, DESC, "createdDate");
+
+    given(postSearchIndex.search(postSearchRequestDto, null, pageRequest))
+        .willReturn(Optional.of(List.of(postId)));
+    given(postRepository.findAllWithUserByIdIn(List.of(postId)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
+        .willReturn(postTechStacks);
+
+    //when
+    List<PostResponseDto> result = postService.searchPosts(
+        postSearchRequestDto,
+        pageRequest
+    );
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result.get(0).getId()).isEqualTo(postId);
+    verify(postTechStackRepository, never()).findPosts(any(), any());
+  }
+
+  @Test
+  @DisplayName("searchPostsByKeyword메서드는 키워드 검색 인덱스에서 구한 순서대로 글을 반환한다")
+  void searchPostsByKeyword() {
+    //given
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(null, null, null);
+    PageRequest pageRequest = PageRequest.of(0, 20);
+
+    given(postTextIndex.search("title", postSearchRequestDto, pageRequest))
+        .willReturn(Optional.of(List.of(postId)));
+    given(postRepository.findAllWithUserByIdIn(List.of(postId)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
+        .willReturn(postTechStacks);
+
+    //when
+    List<PostResponseDto> result = postService.searchPostsByKeyword("title", postSearchRequestDto, pageRequest);
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result.get(0).getId()).isEqualTo(postId);
+    verify(postTechStackRepository, never()).findPostsByKeyword(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("searchPostsByKeyword메서드는 키워드가 비어있다면 예외를 던진다")
+  void searchPostsByKeywordWithBlankKeyword() {
+    //given
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(null, null, null);
+
+    //when
+    //then
+    assertThatThrownBy(() -> postService.searchPostsByKeyword(" ", postSearchRequestDto, PageRequest.of(0, 20)))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  @DisplayName("searchPosts메서드는 목록 카드를 사용할 수 있다면 카드만 조회한다")
+  void searchPostsWithPostCard() {
+    //given
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(),
+        tags,
+        TagMatch.ANY
+    );
+    PageRequest pageRequest = PageRequest.of(0, 20, DESC, "createdDate");
+
+    given(postCardService.isEnabled())
+        .willReturn(true);
+    given(postCardService.findPostCards(postSearchRequestDto, null, pageRequest))
+        .willReturn(List.of(PostCard.createPostCard(post, tags)));
+
+    //when
+    List<PostResponseDto> result = postService.searchPosts(
+        postSearchRequestDto,
+        pageRequest
+    );
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result.get(0).getId()).isEqualTo(postId);
+    assertThat(result.get(0).getTags()).containsExactly("spring");
+    verify(postTechStackRepository, never()).findAllByPosts(anyList());
+  }
+
+  @Test
+  @DisplayName("searchPostsByCursor메서드는 커서 이후의 게시글을 조회한다")
+  void searchPostsByCursor() {
+    //given
+    String profile = "profile";
+    given(postTechStackRepository.findPostsByCursor(any(PostSearchRequestDto.class), any(), any(Pageable.class)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
+        .willReturn(postTechStacks);
+    given(cloudinaryUtil.findFileURL(anyString()))
+        .willReturn(profile);
+    PostSearchRequestDto postSearchRequestDto = new PostSearchRequestDto(
+        PostStatus.RECRUITING.name(),
+        tags,
+        TagMatch.ANY
+    );
+
+    PageRequest pageRequest = PageRequest.of(0, 20, DESC, "createdDate");
+
+    //when
+    PostCursorResponseDto result = postService.searchPostsByCursor(
+        postSearchRequestDto,
+        "",
+        pageRequest
+    );
+
+    //then
+    assertThat(result.getPosts().size()).isEqualTo(1);
+    assertThat(result.getPosts().get(0).getId()).isEqualTo(postId);
+    assertThat(result.getPosts().get(0).getTags().size()).isEqualTo(1);
+    assertThat(result.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("searchPostsByCursor메서드는 정렬 기준이 다른 커서라면 예외를 던진다")
+  void searchPostsByCursorWithInvalidCursor() {
+    //given
+    Post newPost = Post.createPost(user, "title", "content");
+    ReflectionTestUtils.setField(newPost, "id", postId);
+    String cursor = PostCursor
+        .of(PostCursor.VIEW_COUNT, newPost)
+        .encode();
+    PageRequest pageRequest = PageRequest.of(0, 20, DESC, "createdDate");
+
+    //when, then
+    assertThatThrownBy(() -> {
+      postService.searchPostsByCursor(
+          new PostSearchRequestDto(PostStatus.RECRUITING.name(), tags, TagMatch.ANY),
+          cursor,
+          pageRequest
+      );
+    })
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining("CURSOR가 올바르지 않습니다.");
+  }
+
   @Test
   @DisplayName("savePost메서드는 게시글을 저장한다")
   void savePost() {
@@ -471,6 +823,7 @@ public class PostServiceTest {
     assertThat(result.getCommentCount()).isEqualTo(0);
     assertThat(result.getContent()).isEqualTo(savedPost.getContent());
     assertThat(result.getId()).isEqualTo(postId);
+    verify(applicationEventPublisher).publishEvent(any(PostChangedEvent.class));
   }
 
   @Test
@@ -510,8 +863,6 @@ public class PostServiceTest {
         .willReturn(Optional.of(post));
     given(tagRepository.findAllByNameIn(anyList()))
         .willReturn(List.of(tag));
-    given(commentRepository.countByPost(any(Post.class)))
-        .willReturn(commentCount);
     given(cloudinaryUtil.findFileURL(anyString()))
         .willReturn(profile);
 
@@ -692,8 +1043,8 @@ public class PostServiceTest {
   @DisplayName("recommendPosts메서드는 게시글을 추천합니다")
   void recommendPosts() {
     //given
-    given(postTechStackRepository.findRecommendPosts(any(PostRecommendRequestDto.class), anyLong(), anyLong()))
-        .willReturn(postTechStacks);
+    given(postTechStackRepository.findRecommendPosts(any(PostRecommendRequestDto.class), anyLong(), anyLong(), eq(4)))
+        .willReturn(List.of(PostRecommendResponseDto.PostRecommendToDto(postId, post.getTitle())));
     //when
     List<PostRecommendResponseDto> result = postService.recommendPosts(
         userId,
@@ -706,4 +1057,128 @@ public class PostServiceTest {
     assertThat(result.get(0).getId()).isEqualTo(postId);
     assertThat(result.get(0).getTitle()).isEqualTo(post.getTitle());
   }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 추천 글 인덱스로 채울 수 있다면 DB 를 조회하지 않는다")
+  void recommendPostsWithSimilarityIndex() {
+    //given
+    List<PostRecommendResponseDto> recommended = List.of(
+        PostRecommendResponseDto.PostRecommendToDto(2L, "title2"),
+        PostRecommendResponseDto.PostRecommendToDto(3L, "title3"),
+        PostRecommendResponseDto.PostRecommendToDto(4L, "title4"),
+        PostRecommendResponseDto.PostRecommendToDto(5L, "title5")
+    );
+    given(postSimilarityIndex.recommend(postId, userId, 4))
+        .willReturn(Optional.of(recommended));
+
+    //when
+    List<PostRecommendResponseDto> result = postService.recommendPosts(
+        userId,
+        postId,
+        new PostRecommendRequestDto(tags)
+    );
+
+    //then
+    assertThat(result).isEqualTo(recommended);
+    verify(postTechStackRepository, never()).findRecommendPosts(any(), any(), anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("recommendPostCandidates메서드는 추천 글 인덱스로 구했다면 글에 저장된 태그와 함께 반환한다")
+  void recommendPostCandidatesWithSimilarityIndex() {
+    //given
+    List<PostRecommendResponseDto> recommended = List.of(
+        PostRecommendResponseDto.PostRecommendToDto(2L, "title2", 2L),
+        PostRecommendResponseDto.PostRecommendToDto(3L, "title3", 3L)
+    );
+    given(postSimilarityIndex.recommend(postId, null, 4, 8))
+        .willReturn(Optional.of(recommended));
+    given(postTechStackRepository.findTagNamesByPostIds(List.of(postId)))
+        .willReturn(List.of(new PostTagName() {
+          @Override
+          public Long getPostId() {
+            return postId;
+          }
+
+          @Override
+          public String getTagName() {
+            return "spring";
+          }
+        }));
+
+    //when
+    PostRecommendation result = postService.recommendPostCandidates(postId, new PostRecommendRequestDto(List.of("java")), 4, 8);
+
+    //then
+    assertThat(result.isFromIndex()).isTrue();
+    assertThat(result.getPosts()).isEqualTo(recommended);
+    assertThat(result.getTags()).containsExactly("spring");
+    verify(postTechStackRepository, never()).findRecommendPosts(any(), any(), anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("recommendPostCandidates메서드는 추천 글 인덱스로 구하지 못했다면 본인 글을 거르지 않고 DB 에서 구한다")
+  void recommendPostCandidatesWithoutSimilarityIndex() {
+    //given
+    PostRecommendRequestDto search = new PostRecommendRequestDto(List.of("java"));
+    given(postSimilarityIndex.recommend(postId, null, 4, 8))
+        .willReturn(Optional.empty());
+    given(postTechStackRepository.findRecommendPosts(search, null, postId, 8))
+        .willReturn(List.of(PostRecommendResponseDto.PostRecommendToDto(2L, "title2", userId)));
+
+    //when
+    PostRecommendation result = postService.recommendPostCandidates(postId, search, 4, 8);
+
+    //then
+    assertThat(result.isFromIndex()).isFalse();
+    assertThat(result.getPosts()).hasSize(1);
+    assertThat(result.getTags()).containsExactly("java");
+  }
+
+  @Test
+  @DisplayName("recommendUserPosts메서드는 유저 관심 태그로 추천 글 인덱스에서 글을 구한다")
+  void recommendUserPosts() {
+    //given
+    given(userService.findById(userId))
+        .willReturn(user);
+    given(userTechStackRepository.findAllByUser(user))
+        .willReturn(List.of(UserTechStack.createUserTechStack(tag, user)));
+    given(postTagRankIndex.recommend(tags, userId, 20))
+        .willReturn(Optional.of(List.of(postId)));
+    given(postRepository.findAllWithUserByIdIn(List.of(postId)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
+        .willReturn(postTechStacks);
+
+    //when
+    List<PostResponseDto> result = postService.recommendUserPosts(userId);
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result.get(0).getId()).isEqualTo(postId);
+    verify(postTechStackRepository, never()).findRecommendPosts(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("recommendUserPosts메서드는 추천 글 인덱스를 사용할 수 없다면 DB 에서 겹치는 태그 수 순서로 구한다")
+  void recommendUserPostsWithoutIndex() {
+    //given
+    given(userService.findById(userId))
+        .willReturn(user);
+    given(userTechStackRepository.findAllByUser(user))
+        .willReturn(List.of(UserTechStack.createUserTechStack(tag, user)));
+    given(postTechStackRepository.findRecommendPosts(any(PostRecommendRequestDto.class), eq(userId), isNull(), eq(20)))
+        .willReturn(List.of(PostRecommendResponseDto.PostRecommendToDto(postId, post.getTitle())));
+    given(postRepository.findAllWithUserByIdIn(List.of(postId)))
+        .willReturn(posts);
+    given(postTechStackRepository.findAllByPosts(anyList()))
+        .willReturn(postTechStacks);
+
+    //when
+    List<PostResponseDto> result = postService.recommendUserPosts(userId);
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result.get(0).getId()).isEqualTo(postId);
+  }
 }
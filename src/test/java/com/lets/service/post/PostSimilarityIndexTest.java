@@ -0,0 +1,235 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRecommendSource;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagId;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostRecommendResponseDto;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSimilarityIndexTest {
+  @InjectMocks
+  PostSimilarityIndex postSimilarityIndex;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostTechStackRepository postTechStackRepository;
+
+  static long userId = 1L;
+  static long otherUserId = 2L;
+
+  List<PostTagId> postTagIds = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(postSimilarityIndex, "enabled", true);
+    ReflectionTestUtils.setField(postSimilarityIndex, "chunkSize", 100);
+    ReflectionTestUtils.setField(postSimilarityIndex, "neighborSize", 4);
+    ReflectionTestUtils.setField(postSimilarityIndex, "candidateSize", 100);
+
+    //1번 글의 태그는 (1, 2, 3)
+    List<PostRecommendSource> posts = List.of(
+        createSource(1L, PostStatus.RECRUITING, userId),
+        createSource(2L, PostStatus.RECRUITING, otherUserId),
+        createSource(3L, PostStatus.RECRUITING, otherUserId),
+        createSource(4L, PostStatus.RECRUITING, otherUserId),
+        createSource(5L, PostStatus.COMPLETE, otherUserId),
+        createSource(6L, PostStatus.RECRUITING, userId)
+    );
+    addTags(1L, 1L, 2L, 3L);
+    addTags(2L, 1L, 2L, 3L, 4L);
+    addTags(3L, 1L);
+    addTags(4L, 1L, 2L);
+    addTags(5L, 1L, 2L, 3L);
+    addTags(6L, 1L, 2L, 3L);
+
+    given(postRepository.findRecommendSources(eq(0L), any(Pageable.class)))
+        .willReturn(posts);
+    given(postTechStackRepository.findTagIdsByPostIds(anyCollection()))
+        .willAnswer(invocation -> postTagIds
+            .stream()
+            .filter(postTagId -> invocation
+                .<Collection<Long>>getArgument(0)
+                .contains(postTagId.getPostId()))
+            .collect(Collectors.toList()));
+
+    postSimilarityIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("recommend메서드는 태그 유사도가 높은 모집 중인 남의 글을 순서대로 반환한다")
+  void recommend() {
+    //when
+    Optional<List<PostRecommendResponseDto>> result = postSimilarityIndex.recommend(1L, userId, 3);
+
+    //then
+    //2번 글 3/4, 4번 글 2/3, 3번 글 1/3 순서이고 모집이 끝난 5번 글과 본인의 6번 글은 빠짐
+    assertThat(result).isPresent();
+    assertThat(ids(result.get())).containsExactly(2L, 4L, 3L);
+  }
+
+  @Test
+  @DisplayName("recommend메서드는 이웃 목록으로 size 개를 채우지 못하면 빈 값을 반환한다")
+  void recommendWithNotEnoughNeighbors() {
+    //when
+    Optional<List<PostRecommendResponseDto>> result = postSimilarityIndex.recommend(1L, userId, 4);
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("update메서드는 태그가 바뀐 글의 유사도를 다시 계산한다")
+  void updateWithChangedTags() {
+    //given
+    //3번 글의 태그를 (1) 에서 (1, 2, 3) 으로 바꿈
+    addTags(3L, 2L, 3L);
+    given(postRepository.findRecommendSourceById(3L))
+        .willReturn(Optional.of(createSource(3L, PostStatus.RECRUITING, otherUserId)));
+
+    //when
+    postSimilarityIndex.update(changedEvent(3L));
+
+    //then
+    Optional<List<PostRecommendResponseDto>> result = postSimilarityIndex.recommend(1L, userId, 3);
+    assertThat(result).isPresent();
+    assertThat(ids(result.get())).containsExactly(3L, 2L, 4L);
+  }
+
+  @Test
+  @DisplayName("update메서드는 모집이 끝나거나 지워진 글을 추천하지 않는다")
+  void updateWithCompletedAndDeletedPost() {
+    //given
+    given(postRepository.findRecommendSourceById(2L))
+        .willReturn(Optional.of(createSource(2L, PostStatus.COMPLETE, otherUserId)));
+    given(postRepository.findRecommendSourceById(4L))
+        .willReturn(Optional.empty());
+
+    //when
+    postSimilarityIndex.update(changedEvent(2L));
+    postSimilarityIndex.update(changedEvent(4L));
+
+    //then
+    Optional<List<PostRecommendResponseDto>> result = postSimilarityIndex.recommend(1L, userId, 1);
+    assertThat(result).isPresent();
+    assertThat(ids(result.get())).containsExactly(3L);
+    assertThat(postSimilarityIndex.recommend(4L, otherUserId, 1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("update메서드는 좋아요 수, 댓글 수만 바뀐 이벤트라면 글을 다시 읽지 않는다")
+  void updateWithCountsOnly() {
+    //given
+    Post post = Post.createPost(User.createUser("user1", "123", AuthProvider.google, "default"), "title", "content");
+    ReflectionTestUtils.setField(post, "id", 2L);
+
+    //when
+    postSimilarityIndex.update(PostChangedEvent.ofCounts(post, List.of()));
+
+    //then
+    verify(postRepository, never()).findRecommendSourceById(anyLong());
+  }
+
+  @Test
+  @DisplayName("rebuild메서드는 태그마다 가장 최근 candidateSize 개의 글만 이웃 후보로 본다")
+  void rebuildWithCandidateSize() {
+    //given
+    ReflectionTestUtils.setField(postSimilarityIndex, "candidateSize", 3);
+
+    //when
+    postSimilarityIndex.rebuild();
+
+    //then
+    //3번 글은 태그 1 의 최근 3개 글(4, 5, 6) 밖이라 1번 글의 후보가 아님
+    Optional<List<PostRecommendResponseDto>> result = postSimilarityIndex.recommend(1L, userId, 2);
+    assertThat(result).isPresent();
+    assertThat(ids(result.get())).containsExactly(2L, 4L);
+    assertThat(postSimilarityIndex.recommend(1L, userId, 3)).isEmpty();
+  }
+
+  private PostChangedEvent changedEvent(long postId) {
+    Post post = Post.createPost(User.createUser("user1", "123", AuthProvider.google, "default"), "title", "content");
+    ReflectionTestUtils.setField(post, "id", postId);
+    return PostChangedEvent.of(post, List.of());
+  }
+
+  private List<Long> ids(List<PostRecommendResponseDto> posts) {
+    return posts
+        .stream()
+        .map(PostRecommendResponseDto::getId)
+        .collect(Collectors.toList());
+  }
+
+  private void addTags(
+      long postId,
+      Long... tagIds
+  ) {
+    for (Long tagId : tagIds) {
+      postTagIds.add(new PostTagId() {
+        @Override
+        public Long getPostId() {
+          return postId;
+        }
+
+        @Override
+        public Long getTagId() {
+          return tagId;
+        }
+      });
+    }
+  }
+
+  private PostRecommendSource createSource(
+      Long id,
+      PostStatus status,
+      Long userId
+  ) {
+    return new PostRecommendSource() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getTitle() {
+        return "title" + id;
+      }
+
+      @Override
+      public PostStatus getStatus() {
+        return status;
+      }
+
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+    };
+  }
+}
@@ -0,0 +1,198 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRankSource;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTagName;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+
+@ExtendWith(MockitoExtension.class)
+public class PostTagRankIndexTest {
+  @InjectMocks
+  PostTagRankIndex postTagRankIndex;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostTechStackRepository postTechStackRepository;
+
+  static List<String> userTags = List.of("spring", "java");
+  static long userId = 1L;
+  static long writerId = 2L;
+
+  List<PostTagName> postTagNames = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(postTagRankIndex, "enabled", true);
+    ReflectionTestUtils.setField(postTagRankIndex, "chunkSize", 100);
+
+    LocalDateTime now = LocalDateTime.now();
+    //1번 글은 태그 2개가 겹치는 최근 글, 2번 글은 태그 1개가 겹치는 최근 글, 3번 글은 태그 1개가 겹치고 조회수가 많은 최근 글
+    //4번 글은 모집이 끝난 글, 5번 글은 태그가 겹치지 않는 글, 6번 글은 본인 글, 7번 글은 태그 1개가 겹치는 오래된 글
+    given(postRepository.findRankSources(eq(0L), any(Pageable.class)))
+        .willReturn(List.of(
+            createSource(1L, writerId, PostStatus.RECRUITING, 0, now),
+            createSource(2L, writerId, PostStatus.RECRUITING, 0, now),
+            createSource(3L, writerId, PostStatus.RECRUITING, 100, now),
+            createSource(4L, writerId, PostStatus.COMPLETE, 0, now),
+            createSource(5L, writerId, PostStatus.RECRUITING, 0, now),
+            createSource(6L, userId, PostStatus.RECRUITING, 100, now),
+            createSource(7L, writerId, PostStatus.RECRUITING, 0, now.minusDays(30))
+        ));
+    addTags(1L, "spring", "java");
+    addTags(2L, "spring");
+    addTags(3L, "java");
+    addTags(4L, "spring");
+    addTags(5L, "python");
+    addTags(6L, "spring");
+    addTags(7L, "java");
+    given(postTechStackRepository.findTagNamesByPostIds(anyCollection()))
+        .willAnswer(invocation -> postTagNames
+            .stream()
+            .filter(postTagName -> invocation
+                .<Collection<Long>>getArgument(0)
+                .contains(postTagName.getPostId()))
+            .collect(Collectors.toList()));
+
+    postTagRankIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("recommend메서드는 겹치는 태그 수와 글 점수로 모집 중인 남의 글을 순서대로 반환한다")
+  void recommend() {
+    //when
+    Optional<List<Long>> result = postTagRankIndex.recommend(userTags, userId, 10);
+
+    //then
+    assertThat(result).contains(List.of(1L, 3L, 2L, 7L));
+  }
+
+  @Test
+  @DisplayName("recommend메서드는 size 개까지만 반환한다")
+  void recommendWithSize() {
+    //when
+    Optional<List<Long>> result = postTagRankIndex.recommend(userTags, userId, 2);
+
+    //then
+    assertThat(result).contains(List.of(1L, 3L));
+  }
+
+  @Test
+  @DisplayName("recommend메서드는 유저 태그가 달린 글이 없다면 빈 값을 반환한다")
+  void recommendWithUnknownTags() {
+    //when
+    Optional<List<Long>> result = postTagRankIndex.recommend(List.of("kotlin"), userId, 10);
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("update메서드는 모집이 끝나거나 지워진 글을 추천하지 않는다")
+  void updateWithCompletedAndDeletedPost() {
+    //given
+    given(postRepository.findRankSourceById(1L))
+        .willReturn(Optional.of(createSource(1L, writerId, PostStatus.COMPLETE, 0, LocalDateTime.now())));
+    given(postRepository.findRankSourceById(3L))
+        .willReturn(Optional.empty());
+
+    //when
+    postTagRankIndex.update(changedEvent(1L));
+    postTagRankIndex.update(changedEvent(3L));
+
+    //then
+    assertThat(postTagRankIndex.recommend(userTags, userId, 10))
+        .contains(List.of(2L, 7L));
+  }
+
+  private PostChangedEvent changedEvent(long postId) {
+    Post post = Post.createPost(User.createUser("user1", "123", AuthProvider.google, "default"), "title", "content");
+    ReflectionTestUtils.setField(post, "id", postId);
+    return PostChangedEvent.of(post, List.of());
+  }
+
+  private void addTags(
+      long postId,
+      String... tagNames
+  ) {
+    for (String tagName : tagNames) {
+      postTagNames.add(new PostTagName() {
+        @Override
+        public Long getPostId() {
+          return postId;
+        }
+
+        @Override
+        public String getTagName() {
+          return tagName;
+        }
+      });
+    }
+  }
+
+  private PostRankSource createSource(
+      Long id,
+      Long userId,
+      PostStatus status,
+      long viewCount,
+      LocalDateTime createdDate
+  ) {
+    return new PostRankSource() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+
+      @Override
+      public PostStatus getStatus() {
+        return status;
+      }
+
+      @Override
+      public LocalDateTime getCreatedDate() {
+        return createdDate;
+      }
+
+      @Override
+      public long getViewCount() {
+        return viewCount;
+      }
+
+      @Override
+      public long getLikeCount() {
+        return 0;
+      }
+    };
+  }
+}
@@ -0,0 +1,131 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostStatus;
+import com.lets.domain.postTechStack.PostTechStackRepository;
+import com.lets.domain.user.User;
+import com.lets.security.AuthProvider;
+import com.lets.web.dto.post.PostSearchRequestDto;
+import com.lets.web.dto.post.TagMatch;
+
+@ExtendWith(MockitoExtension.class)
+public class PostTextIndexTest {
+  @InjectMocks
+  PostTextIndex postTextIndex;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostTechStackRepository postTechStackRepository;
+
+  static PostSearchRequestDto noFilter = new PostSearchRequestDto(null, null, null);
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(postTextIndex, "enabled", true);
+    ReflectionTestUtils.setField(postTextIndex, "chunkSize", 100);
+
+    //저장된 글 없이 인덱스를 만든 뒤 글을 직접 넣음
+    postTextIndex.rebuild();
+    postTextIndex.put(1L, "스프링 스터디 모집", "주 2회 스프링 부트 공부", PostStatus.RECRUITING, List.of("spring"));
+    postTextIndex.put(2L, "자바 스터디", "스프링은 나중에", PostStatus.RECRUITING, List.of("java"));
+    postTextIndex.put(3L, "리액트 프로젝트", "프론트엔드 팀원 구함", PostStatus.RECRUITING, List.of("react"));
+    postTextIndex.put(4L, "스프링 프로젝트", "백엔드 팀원 구함", PostStatus.COMPLETE, List.of("spring", "java"));
+  }
+
+  @Test
+  @DisplayName("tokenize메서드는 단어를 글자 2-gram 으로 나눈다")
+  void tokenize() {
+    //given
+    //when
+    Map<String, Integer> terms = PostTextIndex.tokenize("Spring 스프링, a");
+
+    //then
+    assertThat(terms).containsOnlyKeys("sp", "pr", "ri", "in", "ng", "스프", "프링", "a");
+  }
+
+  @Test
+  @DisplayName("search메서드는 키워드가 제목에 들어간 글을 더 앞에 반환한다")
+  void search() {
+    //given
+    //when
+    Optional<List<Long>> result = postTextIndex.search("스프링", noFilter, PageRequest.of(0, 20));
+
+    //then
+    assertThat(result).isPresent();
+    assertThat(result.get()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    assertThat(result
+                   .get()
+                   .get(2)).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("search메서드는 모집 상태, 태그 조건에 맞는 글만 반환한다")
+  void searchWithFilter() {
+    //given
+    PostSearchRequestDto search = new PostSearchRequestDto("COMPLETE", List.of("spring", "java"), TagMatch.ALL);
+
+    //when
+    Optional<List<Long>> result = postTextIndex.search("스프링", search, PageRequest.of(0, 20));
+
+    //then
+    assertThat(result).contains(List.of(4L));
+  }
+
+  @Test
+  @DisplayName("remove메서드는 글을 검색 결과에서 뺀다")
+  void remove() {
+    //given
+    //when
+    postTextIndex.remove(3L);
+
+    //then
+    assertThat(postTextIndex.search("팀원", noFilter, PageRequest.of(0, 20))).contains(List.of(4L));
+  }
+
+  @Test
+  @DisplayName("put메서드는 다시 색인한 글의 이전 내용을 검색하지 않는다")
+  void putAgain() {
+    //given
+    //when
+    postTextIndex.put(3L, "뷰 프로젝트", "프론트엔드 구함", PostStatus.RECRUITING, List.of("vue"));
+
+    //then
+    assertThat(postTextIndex.search("리액트", noFilter, PageRequest.of(0, 20))).contains(List.of());
+    assertThat(postTextIndex.search("뷰", noFilter, PageRequest.of(0, 20))).contains(List.of(3L));
+  }
+
+  @Test
+  @DisplayName("update메서드는 좋아요 수, 댓글 수만 바뀐 글은 다시 색인하지 않는다")
+  void updateWithCountsOnly() {
+    //given
+    Post post = Post.createPost(User.createUser("user1", "123", AuthProvider.google, "default"), "title", "content");
+    ReflectionTestUtils.setField(post, "id", 1L);
+
+    //when
+    postTextIndex.update(PostChangedEvent.ofCounts(post, List.of("spring")));
+
+    //then
+    verify(postRepository, never()).findById(anyLong());
+  }
+}
@@ -0,0 +1,78 @@
+package com.lets.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCounterTest {
+  @InjectMocks
+  PostViewCounter postViewCounter;
+
+  @Mock
+  JdbcTemplate jdbcTemplate;
+
+  @Mock
+  TransactionTemplate transactionTemplate;
+
+  @Test
+  @DisplayName("flush메서드는 모아둔 조회수를 글마다 한번에 더한다")
+  void flush() {
+    //given
+    given(transactionTemplate.execute(any()))
+        .willAnswer(invocation -> invocation
+            .<TransactionCallback<int[]>>getArgument(0)
+            .doInTransaction(null));
+    postViewCounter.increase(1L);
+    postViewCounter.increase(1L);
+    postViewCounter.increase(2L);
+
+    //when
+    postViewCounter.flush();
+
+    //then
+    ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(eq("update post set view_count = view_count + ? where post_id = ?"), args.capture());
+    assertThat(args.getValue()).containsExactlyInAnyOrder(new Object[] {2L, 1L}, new Object[] {1L, 2L});
+    assertThat(postViewCounter.pendingCount(1L)).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("flush메서드는 반영하지 못한 조회수를 다시 모아둔다")
+  void flushWithFailure() {
+    //given
+    given(transactionTemplate.execute(any()))
+        .willThrow(new QueryTimeoutException("timeout"));
+    postViewCounter.increase(1L);
+
+    //when
+    postViewCounter.flush();
+
+    //then
+    assertThat(postViewCounter.pendingCount(1L)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("flush메서드는 모아둔 조회수가 없다면 DB 에 반영하지 않는다")
+  void flushWithoutViews() {
+    //given
+    //when
+    postViewCounter.flush();
+
+    //then
+    verifyNoInteractions(transactionTemplate, jdbcTemplate);
+  }
+}
@@ -0,0 +1,59 @@
+package com.lets.service.suggestion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PrefixDictionaryTest {
+  static PrefixDictionary dictionary = new PrefixDictionary(List.of(
+      new PrefixDictionary.Entry(1L, "Spring 스터디", 10),
+      new PrefixDictionary.Entry(2L, "spring boot 프로젝트", 30),
+      new PrefixDictionary.Entry(3L, "스프링 스터디", 20),
+      new PrefixDictionary.Entry(4L, "Spring Cloud", 5),
+      new PrefixDictionary.Entry(5L, "sql 스터디", 50)
+  ));
+
+  @Test
+  @DisplayName("top메서드는 접두어가 같은 항목을 가중치가 큰 순서로 k 개 반환한다")
+  void top() {
+    //given
+    //when
+    List<PrefixDictionary.Entry> result = dictionary.top("spring", 2, id -> false);
+
+    //then
+    assertThat(ids(result)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("top메서드는 제외할 id 를 건너뛴다")
+  void topWithExcluded() {
+    //given
+    //when
+    List<PrefixDictionary.Entry> result = dictionary.top("sp", 10, id -> id == 2L);
+
+    //then
+    assertThat(ids(result)).containsExactly(1L, 4L);
+  }
+
+  @Test
+  @DisplayName("top메서드는 접두어가 같은 항목이 없다면 빈 리스트를 반환한다")
+  void topWithUnknownPrefix() {
+    //given
+    //when
+    List<PrefixDictionary.Entry> result = dictionary.top("파이썬", 10, id -> false);
+
+    //then
+    assertThat(result).isEmpty();
+  }
+
+  private List<Long> ids(List<PrefixDictionary.Entry> entries) {
+    return entries
+        .stream()
+        .map(PrefixDictionary.Entry::getId)
+        .collect(Collectors.toList());
+  }
+}
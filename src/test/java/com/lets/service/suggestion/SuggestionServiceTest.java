@@ -0,0 +1,184 @@
+package com.lets.service.suggestion;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.post.PostTitle;
+import com.lets.domain.user.User;
+import com.lets.domain.user.UserNickname;
+import com.lets.domain.user.UserRepository;
+import com.lets.security.AuthProvider;
+import com.lets.service.post.PostChangedEvent;
+import com.lets.service.user.UserChangedEvent;
+import com.lets.web.dto.suggestion.SuggestionResponseDto;
+import com.lets.web.dto.suggestion.SuggestionType;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestionServiceTest {
+  @InjectMocks
+  SuggestionService suggestionService;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  UserRepository userRepository;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(suggestionService, "enabled", true);
+    ReflectionTestUtils.setField(suggestionService, "chunkSize", 100);
+
+    given(postRepository.findTitles(eq(0L), any()))
+        .willReturn(List.of(postTitle(1L, "스프링 스터디", 10), postTitle(2L, "스프링 프로젝트", 20)));
+    given(userRepository.findNicknames())
+        .willReturn(List.of(userNickname(1L, "user1", 5)));
+
+    suggestionService.rebuild();
+  }
+
+  @Test
+  @DisplayName("suggest메서드는 접두어로 시작하는 제목을 조회수가 많은 순서로 반환한다")
+  void suggest() {
+    //given
+    //when
+    List<SuggestionResponseDto> result = suggestionService.suggest("스프", SuggestionType.TITLE, 10);
+
+    //then
+    assertThat(values(result)).containsExactly("스프링 프로젝트", "스프링 스터디");
+  }
+
+  @Test
+  @DisplayName("updateTitle메서드는 바뀐 제목을 사전을 새로 만들기 전에도 반영한다")
+  void updateTitle() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "스프링 부트", "content");
+    ReflectionTestUtils.setField(post, "id", 1L);
+    given(postRepository.findTitleById(1L))
+        .willReturn(Optional.of(postTitle(1L, "스프링 부트", 30)));
+
+    //when
+    suggestionService.updateTitle(PostChangedEvent.of(post, List.of()));
+
+    //then
+    assertThat(values(suggestionService.suggest("스프링", SuggestionType.TITLE, 10)))
+        .containsExactly("스프링 부트", "스프링 프로젝트");
+  }
+
+  @Test
+  @DisplayName("updateTitle메서드는 제목이 바뀐 글을 이전 제목의 접두어로 반환하지 않는다")
+  void updateTitleTwice() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "자바 스터디", "content");
+    ReflectionTestUtils.setField(post, "id", 1L);
+    given(postRepository.findTitleById(1L))
+        .willReturn(Optional.of(postTitle(1L, "스프링 부트", 30)), Optional.of(postTitle(1L, "자바 스터디", 30)));
+    suggestionService.updateTitle(PostChangedEvent.of(post, List.of()));
+
+    //when
+    suggestionService.updateTitle(PostChangedEvent.of(post, List.of()));
+
+    //then
+    assertThat(values(suggestionService.suggest("스프링", SuggestionType.TITLE, 10))).containsExactly("스프링 프로젝트");
+    assertThat(values(suggestionService.suggest("자바", SuggestionType.TITLE, 10))).containsExactly("자바 스터디");
+  }
+
+  @Test
+  @DisplayName("updateTitle메서드는 좋아요 수, 댓글 수만 바뀐 글은 다시 읽지 않는다")
+  void updateTitleWithCountsOnly() {
+    //given
+    User user = User.createUser("user1", "123", AuthProvider.google, "default");
+    Post post = Post.createPost(user, "스프링 스터디", "content");
+    ReflectionTestUtils.setField(post, "id", 1L);
+
+    //when
+    suggestionService.updateTitle(PostChangedEvent.ofCounts(post, List.of()));
+
+    //then
+    verify(postRepository, never()).findTitleById(1L);
+  }
+
+  @Test
+  @DisplayName("updateNickname메서드는 탈퇴한 유저의 닉네임을 뺀다")
+  void updateNicknameWithDeletedUser() {
+    //given
+    given(userRepository.findNicknameById(1L))
+        .willReturn(Optional.empty());
+
+    //when
+    suggestionService.updateNickname(new UserChangedEvent(1L));
+
+    //then
+    assertThat(suggestionService.suggest("user", SuggestionType.NICKNAME, 10)).isEmpty();
+  }
+
+  private List<String> values(List<SuggestionResponseDto> suggestions) {
+    return suggestions
+        .stream()
+        .map(SuggestionResponseDto::getValue)
+        .collect(Collectors.toList());
+  }
+
+  private PostTitle postTitle(
+      Long id,
+      String title,
+      long viewCount
+  ) {
+    return new PostTitle() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getTitle() {
+        return title;
+      }
+
+      @Override
+      public long getViewCount() {
+        return viewCount;
+      }
+    };
+  }
+
+  private UserNickname userNickname(
+      Long id,
+      String nickname,
+      long viewCount
+  ) {
+    return new UserNickname() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getNickname() {
+        return nickname;
+      }
+
+      @Override
+      public long getViewCount() {
+        return viewCount;
+      }
+    };
+  }
+}
@@ -0,0 +1,119 @@
+package com.lets.service.user;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lets.domain.post.PostStatus;
+import com.lets.service.post.PostService;
+import com.lets.util.RedisNamespace;
+import com.lets.util.RedisUtil;
+import com.lets.web.dto.post.PostResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class UserRecommendCacheServiceTest {
+  @Mock
+  PostService postService;
+
+  @Mock
+  RedisUtil redisUtil;
+
+  UserRecommendCacheService userRecommendCacheService;
+
+  MeterRegistry meterRegistry;
+
+  ObjectMapper objectMapper = Jackson2ObjectMapperBuilder
+      .json()
+      .build();
+
+  static long userId = 1L;
+  static List<PostResponseDto> posts = List.of(PostResponseDto.from(
+      "profile",
+      1L,
+      "title",
+      "content",
+      0,
+      0,
+      PostStatus.RECRUITING,
+      List.of("spring"),
+      0
+  ));
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    userRecommendCacheService = new UserRecommendCacheService(
+        postService,
+        redisUtil,
+        objectMapper,
+        meterRegistry
+    );
+    ReflectionTestUtils.setField(userRecommendCacheService, "enabled", true);
+    ReflectionTestUtils.setField(userRecommendCacheService, "ttlInSeconds", 300L);
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 캐시에 없다면 추천 글을 구해 저장한다")
+  void recommendPostsWithMiss() {
+    //given
+    given(postService.recommendUserPosts(userId))
+        .willReturn(posts);
+
+    //when
+    List<PostResponseDto> result = userRecommendCacheService.recommendPosts(userId);
+
+    //then
+    assertThat(result).isEqualTo(posts);
+    verify(redisUtil).setDataAsync(eq(RedisNamespace.USER_RECOMMEND), eq(userId), anyString(), eq(Duration.ofSeconds(300)));
+    assertThat(meterRegistry
+                   .get("cache.gets")
+                   .tag("cache", "userRecommend")
+                   .tag("result", "miss")
+                   .counter()
+                   .count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 캐시에 있다면 추천 글을 다시 구하지 않는다")
+  void recommendPostsWithHit() throws Exception {
+    //given
+    given(redisUtil.getData(RedisNamespace.USER_RECOMMEND, userId))
+        .willReturn(objectMapper.writeValueAsString(posts));
+
+    //when
+    List<PostResponseDto> result = userRecommendCacheService.recommendPosts(userId);
+
+    //then
+    assertThat(result.size()).isEqualTo(1);
+    assertThat(result
+                   .get(0)
+                   .getId()).isEqualTo(1L);
+    verify(postService, never()).recommendUserPosts(anyLong());
+  }
+
+  @Test
+  @DisplayName("evict메서드는 설정을 바꾼 유저의 추천 결과를 지운다")
+  void evict() {
+    //when
+    userRecommendCacheService.evict(new UserChangedEvent(userId));
+
+    //then
+    verify(redisUtil).deleteData(RedisNamespace.USER_RECOMMEND, userId);
+  }
+}
@@ -7,15 +7,25 @@ import static org.mockito.BDDMockito.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lets.domain.likePost.LikePostRepository;
+import com.lets.domain.post.Post;
+import com.lets.domain.post.PostRepository;
+import com.lets.domain.postCard.PostCardRepository;
+import com.lets.domain.postTechStack.PostTechStack;
+import com.lets.domain.postTechStack.PostTechStackRepository;
 import com.lets.domain.tag.Tag;
 import com.lets.domain.tag.TagRepository;
 import com.lets.domain.user.User;
@@ -24,6 +34,7 @@ import com.lets.domain.userTechStack.UserTechStack;
 import com.lets.domain.userTechStack.UserTechStackRepository;
 import com.lets.exception.CustomException;
 import com.lets.security.AuthProvider;
+import com.lets.service.post.PostChangedEvent;
 import com.lets.util.CloudinaryUtil;
 import com.lets.util.FileUtil;
 import com.lets.web.dto.auth.SignupRequestDto;
@@ -50,6 +61,21 @@ public class UserServiceTest {
   @Mock
   FileUtil fileUtil;
 
+  @Mock
+  PostCardRepository postCardRepository;
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostTechStackRepository postTechStackRepository;
+
+  @Mock
+  LikePostRepository likePostRepository;
+
+  @Mock
+  ApplicationEventPublisher applicationEventPublisher;
+
   SignupRequestDto signupRequestDto = new SignupRequestDto(
       null,
       "user1",
@@ -241,4 +267,42 @@ public class UserServiceTest {
         .isInstanceOf(CustomException.class)
         .hasMessageContaining("해당 유저 정보를 찾을 수 없습니다.");
   }
+
+  @Test
+  @DisplayName("signout메서드는 지운 글마다 지우기 전의 태그로 글 변경 이벤트를 발행한다")
+  void signout() {
+    //given
+    ReflectionTestUtils.setField(user, "id", userId);
+    Post post1 = Post.createPost(user, "title1", "content1");
+    ReflectionTestUtils.setField(post1, "id", 1L);
+    Post post2 = Post.createPost(user, "title2", "content2");
+    ReflectionTestUtils.setField(post2, "id", 2L);
+
+    given(postRepository.findAllByUser(user))
+        .willReturn(List.of(post1, post2));
+    given(postTechStackRepository.findAllByPosts(List.of(post1, post2)))
+        .willReturn(List.of(PostTechStack.createPostTechStack(tag, post1)));
+
+    //when
+    userService.signout(user);
+
+    //then
+    ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+    verify(applicationEventPublisher, times(3)).publishEvent(events.capture());
+    List<PostChangedEvent> postChangedEvents = events
+        .getAllValues()
+        .stream()
+        .filter(PostChangedEvent.class::isInstance)
+        .map(PostChangedEvent.class::cast)
+        .collect(Collectors.toList());
+    assertThat(postChangedEvents)
+        .extracting(PostChangedEvent::getPostId)
+        .containsExactly(1L, 2L);
+    assertThat(postChangedEvents
+                   .get(0)
+                   .getTags()).containsExactly("spring");
+    assertThat(postChangedEvents
+                   .get(1)
+                   .getTags()).isEmpty();
+  }
 }
@@ -2,6 +2,9 @@ package com.lets.util;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,48 +12,73 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class RedisUtilTest {
 
   @Autowired
-  private RedisTemplate redisTemplate;
+  private RedisTemplate<Object, Object> redisTemplate;
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
   @Autowired
   private RedisUtil redisUtil;
 
+  static RedisNamespace namespace = RedisNamespace.USER_RECOMMEND;
+  static Duration ttl = Duration.ofSeconds(60);
+
   @AfterEach
   void tearDown() throws Exception {
-    redisTemplate.delete("key1");
+    stringRedisTemplate.delete(namespace.key("key1"));
+    redisTemplate.delete(namespace.key("key1"));
   }
 
   @Test
   @DisplayName("getData메서드는 데이터를 반환한다")
   void getData() {
     //given
-    ValueOperations valueOperations = redisTemplate.opsForValue();
-    valueOperations.set("key1", "value1");
+    stringRedisTemplate
+        .opsForValue()
+        .set("cache:user:recommend:key1", "value1");
 
     //when
-    String value = redisUtil.getData("key1");
+    String value = redisUtil.getData(namespace, "key1");
 
     //then
     assertThat(value).isEqualTo("value1");
   }
 
   @Test
-  @DisplayName("setData메서드는 데이터를 저장한다")
+  @DisplayName("setData메서드는 접두사를 붙인 키로 만료 시간과 함께 데이터를 저장한다")
   void setData() {
     //given
 
     //when
-    redisUtil.setData("key1", "value1");
+    redisUtil.setData(namespace, "key1", "value1", ttl);
+
+    //then
+    assertThat(stringRedisTemplate
+                   .opsForValue()
+                   .get("cache:user:recommend:key1")).isEqualTo("value1");
+    assertThat(stringRedisTemplate.getExpire("cache:user:recommend:key1")).isPositive();
+  }
+
+  @Test
+  @DisplayName("setDataAsync메서드는 응답을 기다리지 않고 데이터를 저장한다")
+  void setDataAsync() throws Exception {
+    //when
+    redisUtil.setDataAsync(namespace, "key1", "value1", ttl);
 
     //then
-    ValueOperations valueOperations = redisTemplate.opsForValue();
-    String value = (String)valueOperations.get("key1");
+    String value = null;
+    for (int i = 0; i < 50 && value == null; i++) {
+      Thread.sleep(20);
+      value = redisUtil.getData(namespace, "key1");
+    }
     assertThat(value).isEqualTo("value1");
   }
 
@@ -58,14 +86,39 @@ public class RedisUtilTest {
   @DisplayName("deleteData메서드는 데이터를 삭제한다")
   void deleteData() {
     //given
-    ValueOperations valueOperations = redisTemplate.opsForValue();
-    valueOperations.set("key1", "value1");
+    redisUtil.setData(namespace, "key1", "value1", ttl);
 
     //when
-    redisUtil.deleteData("key1");
+    redisUtil.deleteData(namespace, "key1");
 
     //then
-    String value = (String)valueOperations.get("key1");
-    assertThat(value).isBlank();
+    assertThat(redisUtil.getData(namespace, "key1")).isNull();
+  }
+
+  @Test
+  @DisplayName("문자열로 저장한 데이터는 JDK 직렬화로 저장한 같은 데이터보다 메모리를 적게 사용한다")
+  void memoryUsage() {
+    //given
+    String key = namespace.key("key1");
+    byte[] jdkKey = new JdkSerializationRedisSerializer().serialize(key);
+    redisTemplate
+        .opsForValue()
+        .set(key, "1000001", ttl);
+    redisUtil.setData(namespace, "key1", "1000001", ttl);
+
+    //when
+    Long jdkUsage = memoryUsage(jdkKey);
+    Long stringUsage = memoryUsage(key.getBytes(StandardCharsets.UTF_8));
+
+    //then
+    assertThat(stringUsage).isLessThan(jdkUsage);
+  }
+
+  private Long memoryUsage(byte[] key) {
+    return stringRedisTemplate.execute((RedisCallback<Long>)connection -> (Long)connection.execute(
+        "MEMORY",
+        "USAGE".getBytes(StandardCharsets.UTF_8),
+        key
+    ));
   }
 }
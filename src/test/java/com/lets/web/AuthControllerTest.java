@@ -1,15 +1,19 @@
 package com.lets.web;
 
+import static com.lets.util.RedisNamespace.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.util.Arrays;
 
+import javax.persistence.EntityManagerFactory;
 import javax.servlet.http.Cookie;
 import javax.validation.constraints.Null;
 
 import org.apache.commons.codec.binary.Base64;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -35,10 +40,10 @@ import com.lets.exception.ErrorResponse;
 import com.lets.security.AuthProvider;
 import com.lets.security.JwtAuthentication;
 import com.lets.security.JwtTokenProvider;
+import com.lets.security.RefreshTokenStore;
 import com.lets.security.UserPrincipal;
 import com.lets.util.CloudinaryUtil;
 import com.lets.util.CookieUtil;
-import com.lets.util.RedisUtil;
 import com.lets.web.dto.ApiResponseDto;
 import com.lets.web.dto.auth.AuthResponseDto;
 import com.lets.web.dto.auth.LoginRequestDto;
@@ -67,14 +72,20 @@ public class AuthControllerTest {
   private CookieUtil cookieUtil;
 
   @Autowired
-  private RedisUtil redisUtil;
+  private RefreshTokenStore refreshTokenStore;
 
   @Autowired
   private JwtTokenProvider jwtTokenProvider;
 
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
+
   @Autowired
   private TestRestTemplate testRestTemplate;
 
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   private User user;
   private UserPrincipal principal;
   private Authentication authentication;
@@ -107,12 +118,13 @@ public class AuthControllerTest {
   @DisplayName("getAccessToken메서드는 accessToken을 재발급한다")
   void getAccessToken() {
     //given
-    redisUtil.setData(refreshToken, String.valueOf(user.getId()));
+    refreshTokenStore.save(refreshToken, user.getId(), user.getNickname());
 
     String url = "http://localhost:" + port + "/api/auth/silent-refresh";
 
     HttpHeaders headers = new HttpHeaders();
     headers.add("Cookie", "refreshToken=" + refreshTokenCookie.getValue());
+    Statistics statistics = statistics();
 
     //when
     ResponseEntity<AuthResponseDto> responseEntity = testRestTemplate.exchange(
@@ -124,11 +136,60 @@ public class AuthControllerTest {
 
     //then
     assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    //닉네임은 레디스에 저장한 값을 사용하므로 유저를 조회하지 않음
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
     assertThat(!responseEntity
         .getBody()
         .getAccessToken()
         .isBlank());
+    assertThat(responseEntity
+                   .getHeaders()
+                   .getFirst("Set-Cookie")).startsWith("refreshToken=");
+    assertThat(responseEntity
+                   .getBody()
+                   .getNickname()).isEqualTo(user.getNickname());
 
+    //교체된 refresh token 으로는 다시 재발급할 수 없음
+    ResponseEntity<ErrorResponse> reusedResponseEntity = testRestTemplate.exchange(
+        url,
+        HttpMethod.POST,
+        new HttpEntity<>(headers),
+        ErrorResponse.class
+    );
+    assertThat(reusedResponseEntity.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  @DisplayName("JwtAuthenticationFilter는 access token 이 유효하지 않다면 쿼리 없이 access token 을 재발급한다")
+  void getAccessTokenInFilter() {
+    //given
+    refreshTokenStore.save(refreshToken, user.getId(), user.getNickname());
+
+    String url = "http://localhost:" + port + "/api/users/myPosts";
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer expired");
+    headers.add("Cookie", "refreshToken=" + refreshTokenCookie.getValue());
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<AuthResponseDto> responseEntity = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        new HttpEntity<>(headers),
+        AuthResponseDto.class
+    );
+
+    //then
+    assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(responseEntity
+                   .getHeaders()
+                   .getFirst("Set-Cookie")).startsWith("refreshToken=");
+    assertThat(responseEntity
+                   .getBody()
+                   .getNickname()).isEqualTo(user.getNickname());
+    //닉네임은 레디스에 저장한 값을 사용하므로 유저를 조회하지 않음
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
   }
 
   @Test
@@ -388,6 +449,15 @@ public class AuthControllerTest {
         .getBody()
         .getAccessToken()
         .isBlank());
+    assertThat(responseEntity
+                   .getHeaders()
+                   .getFirst("Set-Cookie")).startsWith("refreshToken=");
+    assertThat(stringRedisTemplate
+                   .opsForSet()
+                   .size(REFRESH_TOKEN_USER.key(user.getId()))).isEqualTo(1);
+    assertThat(responseEntity
+                   .getBody()
+                   .getNickname()).isEqualTo(user.getNickname());
     assertThat(!responseEntity
         .getHeaders()
         .getFirst(HttpHeaders.SET_COOKIE)
@@ -463,12 +533,14 @@ public class AuthControllerTest {
     assertThat(responseEntity
                    .getBody()
                    .getMessage()).isEqualTo("쿠키에 REFRESH_TOKEN이 존재하지 않습니다.");
+    assertThat(userRepository.findById(user.getId())).isPresent();
   }
 
   @Test
   @DisplayName("signout메서드는 유저를 탈퇴처리한다.")
   void signout() {
     //given
+    refreshTokenStore.save(refreshToken, user.getId(), user.getNickname());
     String url = "http://localhost:" + port + "/api/auth/signout";
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
@@ -484,6 +556,7 @@ public class AuthControllerTest {
 
     //then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(stringRedisTemplate.hasKey(REFRESH_TOKEN_USER.key(user.getId()))).isFalse();
   }
 
   @Test
@@ -524,4 +597,12 @@ public class AuthControllerTest {
     //then
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
+
+  private Statistics statistics() {
+    Statistics statistics = entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+    return statistics;
+  }
 }
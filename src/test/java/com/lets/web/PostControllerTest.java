@@ -8,13 +8,19 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.EntityManagerFactory;
 import javax.servlet.http.Cookie;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -52,17 +58,21 @@ import com.lets.security.UserPrincipal;
 import com.lets.service.likePost.LikePostService;
 import com.lets.service.post.PostService;
 import com.lets.service.postTechStack.PostTechStackService;
+import com.lets.service.suggestion.SuggestionService;
 import com.lets.service.tag.TagService;
 import com.lets.service.user.UserService;
 import com.lets.util.CookieUtil;
 import com.lets.util.RedisUtil;
 import com.lets.web.dto.ApiResponseDto;
 import com.lets.web.dto.likepost.ChangeLikePostStatusResponseDto;
+import com.lets.web.dto.likepost.LikePostStatusResponseDto;
 import com.lets.web.dto.post.ChangePostStatusResponseDto;
+import com.lets.web.dto.post.PostCursorResponseDto;
 import com.lets.web.dto.post.PostRecommendResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
 import com.lets.web.dto.post.PostSaveRequestDto;
 import com.lets.web.dto.post.PostUpdateRequestDto;
+import com.lets.web.dto.suggestion.SuggestionResponseDto;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -104,9 +114,15 @@ public class PostControllerTest {
   @Autowired
   CommentRepository commentRepository;
 
+  @Autowired
+  SuggestionService suggestionService;
+
   @Autowired
   private TestRestTemplate testRestTemplate;
 
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
   @Autowired
   CookieUtil cookieUtil;
 
@@ -179,9 +195,10 @@ public class PostControllerTest {
     assertThat(res
                    .getBody()
                    .getId()).isEqualTo(post.getId());
+    //로그인하지 않은 유저의 조회도 조회수에 더함
     assertThat(res
                    .getBody()
-                   .getViewCount()).isEqualTo(0);
+                   .getViewCount()).isEqualTo(post.getViewCount() + 1);
     Optional<LikePost> likePost = likePostRepository.findByUserIdAndPostId(
         user.getId(),
         post.getId()
@@ -190,7 +207,7 @@ public class PostControllerTest {
   }
 
   @Test
-  @DisplayName("findPost메서드는 유저가 존재한다면 아이디로 포스트를 조회하고 조회한 포스트로 추가한다")
+  @DisplayName("findPost메서드는 유저가 존재한다면 아이디로 포스트를 조회하고 좋아요 정보는 만들지 않는다")
   void findPost() {
     // given
     long expectedViewCount = post.getViewCount() + 1;
@@ -215,7 +232,7 @@ public class PostControllerTest {
         user.getId(),
         post.getId()
     );
-    assertThat(likePost).isNotEmpty();
+    assertThat(likePost).isEmpty();
   }
   @Test
   @DisplayName("findPost메서드는 존재하지 않는 아이디라면 404를 반환한다")
@@ -602,8 +619,8 @@ public class PostControllerTest {
   }
 
   @Test
-  @DisplayName("changeLikeStatus메서드는 조회한적 없는 글이라면 404를 반환한다")
-  void changeLikeStatusWithNeverSeenPost() throws URISyntaxException {
+  @DisplayName("changeLikeStatus메서드는 좋아요를 누른적 없는 글이라면 좋아요 정보를 만들고 좋아요 상태로 바꾼다")
+  void changeLikeStatusWithNeverLikedPost() throws URISyntaxException {
     //given
     User newUser = User.createUser("newUser", "123443", AuthProvider.google, "default");
     userRepository.save(newUser);
@@ -628,10 +645,102 @@ public class PostControllerTest {
         ChangeLikePostStatusResponseDto.class
     );
 
+    //then
+    assertThat(res
+                   .getBody()
+                   .getLikeCount()).isEqualTo(1);
+    assertThat(res
+                   .getBody()
+                   .getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+    assertThat(likePostRepository.findByUserIdAndPostId(
+        user.getId(),
+        newPost.getId()
+    )).isNotEmpty();
+  }
+
+  @Test
+  @DisplayName("changeLikeStatus메서드는 존재하지 않는 글이라면 404를 반환한다")
+  void changeLikeStatusWithNonexistentPost() throws URISyntaxException {
+    //given
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+
+    //when
+    String url = "http://localhost:" + port + "/api/posts/" + (post.getId() + 1000) + "/likes";
+
+    RequestEntity<Long> body = RequestEntity
+        .post(new URI(url))
+        .headers(headers)
+        .body(null);
+
+    ResponseEntity<ChangeLikePostStatusResponseDto> res = testRestTemplate.exchange(
+        body,
+        ChangeLikePostStatusResponseDto.class
+    );
+
     //then
     assertThat(res.getStatusCode()).isEqualTo(NOT_FOUND);
   }
 
+  @Test
+  @DisplayName("findLikePostStatuses메서드는 요청한 글들의 좋아요 상태를 반환한다")
+  void findLikePostStatuses() throws URISyntaxException {
+    //given
+    Post otherPost = Post.createPost(user, "title2", "content2");
+    postRepository.save(otherPost);
+    postService.changeLikeStatus(user.getId(), post.getId());
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+
+    String url = "http://localhost:" + port + "/api/posts/likes/status";
+
+    RequestEntity<List<Long>> body = RequestEntity
+        .post(new URI(url))
+        .headers(headers)
+        .body(List.of(otherPost.getId(), post.getId()));
+
+    //when
+    ResponseEntity<List<LikePostStatusResponseDto>> res = testRestTemplate.exchange(
+        body,
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res.getBody())
+        .extracting(LikePostStatusResponseDto::getLikePostStatus)
+        .containsExactly(LikePostStatus.INACTIVE, LikePostStatus.ACTIVE);
+  }
+
+  @Test
+  @DisplayName("searchPosts메서드는 로그인한 유저라면 좋아요한 글에 좋아요 상태를 표시한다")
+  void searchPostsWithUser() {
+    //given
+    postService.changeLikeStatus(user.getId(), post.getId());
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+
+    String url = "http://localhost:" + port
+        + "/api/posts/filter?status=RECRUITING&page=0&sort=createdDate,DESC&tags=spring";
+
+    //when
+    ResponseEntity<List<PostResponseDto>> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        new HttpEntity<>(headers),
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .get(0)
+                   .getLikePostStatus()).isEqualTo(LikePostStatus.ACTIVE);
+  }
+
   @Test
   @DisplayName("searchPosts메서드는 조건에 맞는 글을 검색한다")
   void searchPosts() {
@@ -655,10 +764,112 @@ public class PostControllerTest {
   }
 
   @Test
-  @DisplayName("recommendPosts메서드는 추천 포스트 목록을 생성한다")
+  @DisplayName("searchPostsByKeyword메서드는 제목이나 본문에 키워드가 들어간 글을 검색한다")
+  void searchPostsByKeyword() {
+    //given
+    String url = "http://localhost:" + port
+        + "/api/posts/search?q=content1&status=RECRUITING&tags=spring";
+
+    //when
+    ResponseEntity<List<PostResponseDto>> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("searchPostsByKeyword메서드는 키워드가 비어있다면 400을 반환한다")
+  void searchPostsByKeywordWithBlankKeyword() {
+    //given
+    String url = "http://localhost:" + port + "/api/posts/search?q= ";
+
+    //when
+    ResponseEntity<String> res = testRestTemplate.getForEntity(url, String.class);
+
+    //then
+    assertThat(res.getStatusCode()).isEqualTo(BAD_REQUEST);
+  }
+
+  @Test
+  @DisplayName("suggest메서드는 접두어로 시작하는 글 제목을 반환한다")
+  void suggest() {
+    //given
+    suggestionService.rebuild();
+    String url = "http://localhost:" + port + "/api/posts/suggestions?q=TIT&type=TITLE";
+
+    //when
+    ResponseEntity<List<SuggestionResponseDto>> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res.getBody())
+        .extracting(SuggestionResponseDto::getValue)
+        .contains("title1");
+  }
+
+  @Test
+  @DisplayName("searchPostsByCursor메서드는 커서 이후의 글을 검색한다")
+  void searchPostsByCursor() {
+    //given
+    String url = "http://localhost:" + port
+        + "/api/posts/filter?status=RECRUITING&cursor=&sort=createdDate,DESC&tags=spring,java";
+
+    //when
+    ResponseEntity<PostCursorResponseDto> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        PostCursorResponseDto.class
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .getPosts()
+                   .size()).isEqualTo(1);
+    assertThat(res
+                   .getBody()
+                   .getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("searchPostsByCursor메서드는 올바르지 않은 커서라면 400을 반환한다")
+  void searchPostsByCursorWithInvalidCursor() {
+    //given
+    String url = "http://localhost:" + port
+        + "/api/posts/filter?status=RECRUITING&cursor=invalid&sort=createdDate,DESC&tags=spring,java";
+
+    //when
+    ResponseEntity<PostCursorResponseDto> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        PostCursorResponseDto.class
+    );
+
+    //then
+    assertThat(res.getStatusCode()).isEqualTo(BAD_REQUEST);
+  }
+
+  @Test
+  @DisplayName("recommendPosts메서드는 본인 글을 제외한 추천 포스트 목록을 생성한다")
   void recommendPosts() {
     //given
-    String url = "http://localhost:" + port + "/api/posts/2/recommends?tags=java,c,python";
+    saveOtherUsersPosts(1);
+    String url = "http://localhost:" + port + "/api/posts/" + post.getId() + "/recommends?tags=java,c,python";
     //LogIn
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
@@ -678,6 +889,99 @@ public class PostControllerTest {
                    .size()).isEqualTo(1);
   }
 
+  @ParameterizedTest
+  @CsvSource({"3, 20, 4", "30, 10, 10"})
+  @DisplayName("searchPosts메서드는 글과 작성자 수, 페이지 크기에 관계없이 같은 수의 쿼리를 실행한다")
+  void searchPostsStatementCount(
+      int postCount,
+      int pageSize,
+      int expectedSize
+  ) {
+    //given
+    saveOtherUsersPosts(postCount);
+    String url = "http://localhost:" + port
+        + "/api/posts/filter?status=RECRUITING&page=0&size=" + pageSize + "&sort=createdDate,DESC&tags=spring";
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<List<PostResponseDto>> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(expectedSize);
+    //글 페이지 조회 + 태그 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"3, 20, 4", "30, 10, 10"})
+  @DisplayName("searchPostsByCursor메서드는 글과 작성자 수, 페이지 크기에 관계없이 같은 수의 쿼리를 실행한다")
+  void searchPostsByCursorStatementCount(
+      int postCount,
+      int pageSize,
+      int expectedSize
+  ) {
+    //given
+    saveOtherUsersPosts(postCount);
+    String url = "http://localhost:" + port
+        + "/api/posts/filter?status=RECRUITING&cursor=&size=" + pageSize + "&sort=createdDate,DESC&tags=spring";
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<PostCursorResponseDto> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        null,
+        PostCursorResponseDto.class
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .getPosts()
+                   .size()).isEqualTo(expectedSize);
+    //글 페이지 조회 + 태그 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"3, 3", "30, 4"})
+  @DisplayName("recommendPosts메서드는 글과 작성자 수에 관계없이 같은 수의 쿼리를 실행한다")
+  void recommendPostsStatementCount(
+      int postCount,
+      int expectedSize
+  ) {
+    //given
+    saveOtherUsersPosts(postCount);
+    String url = "http://localhost:" + port + "/api/posts/" + post.getId() + "/recommends?tags=spring";
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<List<PostRecommendResponseDto>> res = testRestTemplate.exchange(
+        url,
+        HttpMethod.GET,
+        new HttpEntity<>(headers),
+        new ParameterizedTypeReference<>() {
+        }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(expectedSize);
+    //태그가 겹치는 글과 채워 넣을 글을 한번에 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
   @Test
   @DisplayName("changePostStatus메서드는 모집 상태를 변경한다")
   void changePostStatus() {
@@ -783,4 +1087,24 @@ public class PostControllerTest {
     //then
     assertThat(res.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
   }
+
+  private void saveOtherUsersPosts(int count) {
+    for (int i = 0; i < count; i++) {
+      User otherUser = User.createUser("otherUser" + i, "other" + i, AuthProvider.google, "default");
+      userRepository.save(otherUser);
+
+      Post otherPost = Post.createPost(otherUser, "otherTitle" + i, "otherContent" + i);
+      postRepository.save(otherPost);
+
+      postTechStackService.save(PostTechStack.createPostTechStack(tag, otherPost));
+    }
+  }
+
+  private Statistics statistics() {
+    Statistics statistics = entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+    return statistics;
+  }
 }
@@ -10,15 +10,21 @@ import java.io.FileInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import javax.persistence.EntityManagerFactory;
 import javax.servlet.http.Cookie;
 
 import org.apache.commons.codec.binary.Base64;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -44,10 +50,13 @@ import com.lets.domain.tag.Tag;
 import com.lets.domain.tag.TagRepository;
 import com.lets.domain.user.User;
 import com.lets.domain.user.UserRepository;
+import com.lets.domain.userTechStack.UserTechStack;
+import com.lets.domain.userTechStack.UserTechStackRepository;
 import com.lets.exception.ErrorResponse;
 import com.lets.security.AuthProvider;
 import com.lets.security.JwtAuthentication;
 import com.lets.security.JwtTokenProvider;
+import com.lets.security.RefreshTokenStore;
 import com.lets.security.UserPrincipal;
 import com.lets.service.likePost.LikePostService;
 import com.lets.service.post.PostService;
@@ -56,7 +65,7 @@ import com.lets.service.tag.TagService;
 import com.lets.service.user.UserService;
 import com.lets.util.CloudinaryUtil;
 import com.lets.util.CookieUtil;
-import com.lets.util.RedisUtil;
+import com.lets.web.dto.auth.AuthResponseDto;
 import com.lets.web.dto.likepost.LikePostResponseDto;
 import com.lets.web.dto.post.PostResponseDto;
 import com.lets.web.dto.post.PostSaveRequestDto;
@@ -82,6 +91,9 @@ public class UserControllerTest {
   @Autowired
   UserRepository userRepository;
 
+  @Autowired
+  UserTechStackRepository userTechStackRepository;
+
   @Autowired
   PostService postService;
 
@@ -110,11 +122,14 @@ public class UserControllerTest {
   CookieUtil cookieUtil;
 
   @Autowired
-  RedisUtil redisUtil;
+  RefreshTokenStore refreshTokenStore;
 
   @Autowired
   CommentRepository commentRepository;
 
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
   @SpyBean
   private JwtTokenProvider jwtTokenProvider;
 
@@ -143,10 +158,11 @@ public class UserControllerTest {
   void after() {
     likePostRepository.deleteAllInBatch();
     postTechStackRepository.deleteAllInBatch();
+    userTechStackRepository.deleteAllInBatch();
     tagRepository.deleteAllInBatch();
     postRepository.deleteAllInBatch();
     userRepository.deleteAllInBatch();
-    redisUtil.deleteData(refreshToken);
+    refreshTokenStore.delete(refreshToken);
   }
 
 
@@ -176,8 +192,8 @@ public class UserControllerTest {
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
     String url = "http://localhost:" + port + "/api/users/myPosts";
-    given(jwtTokenProvider.validateToken(any()))
-        .willReturn(false);
+    given(jwtTokenProvider.parseToken(any()))
+        .willReturn(Optional.empty());
 
     //when
     ResponseEntity<Object> res = testRestTemplate.exchange(url, HttpMethod.GET,
@@ -198,14 +214,14 @@ public class UserControllerTest {
     authentication = new JwtAuthentication(principal);
     refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
     refreshTokenCookie = cookieUtil.createCookie("refreshToken", refreshToken);
-    redisUtil.setData(refreshToken, Long.toString(2L));
+    refreshTokenStore.save(refreshToken, 2L, user.getNickname());
 
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
     headers.add("Cookie", "refreshToken=" + refreshTokenCookie.getValue());
 
-    given(jwtTokenProvider.validateToken(any()))
-        .willReturn(false);
+    given(jwtTokenProvider.parseToken(any()))
+        .willReturn(Optional.empty());
 
     String url = "http://localhost:" + port + "/api/users/myPosts";
 
@@ -228,14 +244,14 @@ public class UserControllerTest {
     authentication = new JwtAuthentication(principal);
     refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
     refreshTokenCookie = cookieUtil.createCookie("refreshToken", refreshToken);
-    redisUtil.setData(refreshToken, Long.toString(1L));
+    refreshTokenStore.save(refreshToken, 1L, user.getNickname());
 
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
     headers.add("Cookie", "refreshToken=" + refreshTokenCookie.getValue());
 
-    given(jwtTokenProvider.validateToken(any()))
-        .willReturn(false);
+    given(jwtTokenProvider.parseToken(any()))
+        .willReturn(Optional.empty());
 
     String url = "http://localhost:" + port + "/api/users/myPosts";
 
@@ -358,7 +374,7 @@ public class UserControllerTest {
     );
 
     Post post = postService.findOneById(postResponseDto.getId());
-    postService.findById(user.getId(), post.getId());
+    postService.changeLikeStatus(user.getId(), post.getId());
 
     LikePost likePost = likePostRepository
         .findByUserIdAndPostId(user.getId(), post.getId())
@@ -396,6 +412,119 @@ public class UserControllerTest {
 
   }
 
+  @Test
+  @DisplayName("findRecommendations메서드는 유저 관심 태그가 겹치는 남의 글을 먼저 반환한다")
+  void findRecommendations() {
+    //given
+    Tag spring = Tag.createTag("spring");
+    Tag python = Tag.createTag("python");
+    tagRepository.saveAll(List.of(spring, python));
+    userTechStackRepository.save(UserTechStack.createUserTechStack(spring, user));
+
+    User writer = User.createUser("writer", "writer", AuthProvider.google, "default");
+    userRepository.save(writer);
+    Post springPost = Post.createPost(writer, "spring", "content");
+    Post pythonPost = Post.createPost(writer, "python", "content");
+    Post myPost = Post.createPost(user, "mine", "content");
+    postRepository.saveAll(List.of(springPost, pythonPost, myPost));
+    postTechStackService.save(PostTechStack.createPostTechStack(spring, springPost));
+    postTechStackService.save(PostTechStack.createPostTechStack(python, pythonPost));
+    postTechStackService.save(PostTechStack.createPostTechStack(spring, myPost));
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+    String url = "http://localhost:" + port + "/api/users/recommendations";
+
+    //when
+    ResponseEntity<List<PostResponseDto>> res = testRestTemplate.exchange(url, HttpMethod.GET,
+                                                                          new HttpEntity<>(headers),
+                                                                          new ParameterizedTypeReference<List<PostResponseDto>>() {
+                                                                          }
+    );
+
+    //then
+    assertThat(res.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(2);
+    assertThat(res.getBody().get(0).getId()).isEqualTo(springPost.getId());
+    assertThat(res.getBody().get(0).getTags()).containsExactly("spring");
+    assertThat(res.getBody().get(1).getId()).isEqualTo(pythonPost.getId());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 30})
+  @DisplayName("findMyPosts메서드는 글 수에 관계없이 같은 수의 쿼리를 실행한다")
+  void myPostsStatementCount(int postCount) {
+    //given
+    Tag tag = Tag.createTag("spring");
+    tagRepository.save(tag);
+
+    for (int i = 0; i < postCount; i++) {
+      Post post = Post.createPost(user, "title" + i, "content" + i);
+      postRepository.save(post);
+      postTechStackService.save(PostTechStack.createPostTechStack(tag, post));
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+    String url = "http://localhost:" + port + "/api/users/myPosts";
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<List<PostResponseDto>> res = testRestTemplate.exchange(url, HttpMethod.GET,
+                                                                          new HttpEntity<>(headers),
+                                                                          new ParameterizedTypeReference<>() {
+                                                                          }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(postCount);
+    //유저 조회 + 글, 태그 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {3, 30})
+  @DisplayName("findMyLikes메서드는 관심글과 작성자 수에 관계없이 같은 수의 쿼리를 실행한다")
+  void myLikesStatementCount(int likeCount) {
+    //given
+    Tag tag = Tag.createTag("spring");
+    tagRepository.save(tag);
+
+    for (int i = 0; i < likeCount; i++) {
+      User writer = User.createUser("writer" + i, "writer" + i, AuthProvider.google, "default");
+      userRepository.save(writer);
+
+      Post post = Post.createPost(writer, "title" + i, "content" + i);
+      postRepository.save(post);
+      postTechStackService.save(PostTechStack.createPostTechStack(tag, post));
+
+      likePostRepository.save(LikePost.createLikePost(user, post));
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", accessToken);
+    String url = "http://localhost:" + port + "/api/users/myLikes";
+    Statistics statistics = statistics();
+
+    //when
+    ResponseEntity<List<LikePostResponseDto>> res = testRestTemplate.exchange(url, HttpMethod.GET,
+                                                                              new HttpEntity<>(headers),
+                                                                              new ParameterizedTypeReference<>() {
+                                                                              }
+    );
+
+    //then
+    assertThat(res
+                   .getBody()
+                   .size()).isEqualTo(likeCount);
+    //유저 조회 + 관심글 조회 + 태그 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
   @Test
   @DisplayName("getSetting메서드는 유저의 설정 정보를 반환한다")
   void getSetting() {
@@ -485,6 +614,7 @@ public class UserControllerTest {
     String url = "http://localhost:" + port + "/api/users/setting";
     HttpHeaders headers = new HttpHeaders();
     headers.add("Authorization", accessToken);
+    refreshTokenStore.save(refreshToken, user.getId(), user.getNickname());
 
     //when
     ResponseEntity<SettingResponseDto> res = testRestTemplate.exchange(url, HttpMethod.PATCH,
@@ -504,6 +634,24 @@ public class UserControllerTest {
     assertThat(res.getBody().getTags()).isEmpty();
     assertThat(res.getBody().getNickname()).isEqualTo(nickname);
     assertThat(res.getBody().getProfile()).isEqualTo(profile);
+    //닉네임이 바뀌었으므로 access token 재발급
+    assertThat(res.getBody().getAccessToken()).isNotBlank();
+    assertThat(jwtTokenProvider
+                   .parseToken(res.getBody().getAccessToken())
+                   .get()
+                   .getNickname()).isEqualTo(nickname);
+
+    //이전 닉네임이 담긴 refresh token 도 지우지 않고 새 닉네임으로 재발급
+    HttpHeaders refreshHeaders = new HttpHeaders();
+    refreshHeaders.add("Cookie", "refreshToken=" + refreshTokenCookie.getValue());
+    ResponseEntity<AuthResponseDto> refreshRes = testRestTemplate.exchange(
+        "http://localhost:" + port + "/api/auth/silent-refresh",
+        HttpMethod.POST,
+        new HttpEntity<>(refreshHeaders),
+        AuthResponseDto.class
+    );
+    assertThat(refreshRes.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(refreshRes.getBody().getNickname()).isEqualTo(nickname);
 
   }
 
@@ -589,4 +737,12 @@ public class UserControllerTest {
     assertThat(res.getBody().getProfile()).isEqualTo(profile);
 
   }
+
+  private Statistics statistics() {
+    Statistics statistics = entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+    return statistics;
+  }
 }